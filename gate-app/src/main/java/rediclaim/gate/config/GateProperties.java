@@ -13,12 +13,51 @@ public class GateProperties {
 
     private List<Long> eventIds;
 
+    /** 운영 API(/gate/admin/**) 공유 secret - X-Gate-Admin-Secret 헤더로 전달 (비어 있으면 운영 API 비활성화) */
+    private String adminSecret;
+
     private String dispatchMode;
 
     private int dispatchQuantity;
 
     private String kafkaTopic;
 
+    /**
+     * IssueRequestMessage 직렬화 형식 (json | binary)
+     * binary 는 고정 26 bytes. issuer-worker-app 을 먼저 배포한 뒤 전환한다.
+     */
+    private String kafkaMessageFormat = "json";
+
+    /**
+     * Kafka 레코드 단위 (per-user | batch)
+     * batch 는 dispatch 한 번에 꺼낸 유저를 레코드 하나로 보낸다 (항상 binary version 2, issuer-worker-app 배포 후 전환)
+     */
+    private String kafkaRecordMode = "per-user";
+
+    /**
+     * issuer-worker-app 발급 완료 수신 방식 (http | kafka)
+     * http : 완료 콜백 엔드포인트만 사용, kafka : completion topic 도 함께 소비
+     */
+    private String completionMode = "http";
+
+    /** 발급 완료 topic ({@code completion-mode=kafka}, issuer-worker-app 의 worker.completion-topic 과 동일하게) */
+    private String completionTopic;
+
+    /** completion topic consumer group - 모든 gate replica 가 같은 group 으로 나눠 소비 */
+    private String completionConsumerGroup = "gate-completion";
+
+    /** Kafka producer linger (ms) - dispatch 한 묶음이 한 번의 요청으로 묶이도록 (spring.kafka.producer.properties 로 지정 시 그 값 우선) */
+    private int kafkaLingerMs = 5;
+
+    /** Kafka producer 파티션별 batch 크기 (bytes) */
+    private int kafkaBatchSize = 64 * 1024;
+
+    /** Kafka producer 압축 방식 */
+    private String kafkaCompressionType = "lz4";
+
+    /** dispatch 한 묶음의 Kafka 발행 완료를 기다리는 최대 시간 (ms) - 초과 시 결과는 stale 재큐에 맡김 */
+    private long kafkaSendTimeoutMs = 5000;
+
     /** processing 상태에서 이 시간(ms) 이상 머물면 stale 로 판단하여 queue 로 되돌림 */
     private long staleTimeoutMs = 60_000;
 
@@ -28,9 +67,149 @@ public class GateProperties {
     /** Active Queue TTL (초) - TTL 경과 시 Redis 자동 제거 */
     private long activeTtlSeconds = 60;
 
+    /**
+     * Active Queue 저장 방식 (keys | index) - issuer-api-app 의 issuer.active-store 와 같은 값이어야 함
+     * keys  : 유저마다 {@code gate:active:{eventId}:{userId}} TTL 키
+     * index : event 마다 ZSet {@code gate:active:index:{eventId}} (member = userId, score = 만료 시각 ms)
+     */
+    private String activeStore = "keys";
+
+    /** index 모드에서 만료된 항목을 정리하는 주기 (ms) */
+    private long activeSweepIntervalMs = 5000;
+
     /** DispatchScheduler 실행 주기 (ms) */
     private long dispatchIntervalMs = 3000;
 
     /** requeueStaleProcessing 실행 주기 (ms) - kafka 모드 전용 */
     private long staleRequeueIntervalMs = 30000;
+
+    /** replica 간 event dispatch 소유권 분배 여부 - replica 가 2개 이상이면 활성화 (비활성화 시 모든 replica 가 모든 event 를 dispatch) */
+    private boolean ownershipEnabled = false;
+
+    /** 소유권 heartbeat / lease 연장 주기 (ms) */
+    private long ownershipHeartbeatMs = 1000;
+
+    /** 소유권 lease 시간 (ms) - 소유 replica 가 죽으면 최대 이 시간 후 다른 replica 가 가져감 */
+    private long ownershipLeaseMs = 5000;
+
+    /** 이 시간(ms) 이상 heartbeat 가 없는 replica 는 분배 대상에서 제외 */
+    private long ownershipMemberTtlMs = 5000;
+
+    /** event 별 dispatch 를 실행하는 전용 스레드 수 - event 간 격리 (한 event 가 느려도 다른 event 는 제때 실행) */
+    private int dispatchThreads = 8;
+
+    /** event 별 stale 재큐를 실행하는 전용 스레드 수 */
+    private int requeueThreads = 2;
+
+    /** event 한 번의 dispatch 가 이 시간(ms)을 넘기면 경고 + gate.dispatch.timeouts 집계 */
+    private long dispatchTimeoutMs = 2000;
+
+    /** 같은 event 의 동시 enqueue 요청을 묶어 한 번의 Lua 호출로 처리할지 여부 */
+    private boolean enqueueCoalescingEnabled = false;
+
+    /** 묶음을 모으는 최대 대기 시간 (ms) */
+    private long enqueueCoalescingWindowMs = 2;
+
+    /** 묶음 최대 인원 - 도달 시 대기 시간과 무관하게 즉시 실행 */
+    private int enqueueCoalescingMaxBatch = 100;
+
+    /** 호출자가 묶음 실행 결과를 기다리는 최대 시간 (ms) */
+    private long enqueueCoalescingTimeoutMs = 3000;
+
+    /** enqueue 응답에 서명된 번호표(ticket)를 발급하고, 상태 조회 시 Redis 없이 순번을 계산할지 여부 */
+    private boolean ticketEnabled = false;
+
+    /** 번호표 HMAC 서명 키 (ticketEnabled=true 일 때 필수, 모든 gate replica 가 동일해야 함) */
+    private String ticketSecret;
+
+    /** ACTIVE 상태 응답에 서명된 발급 허가 토큰을 내려줄지 여부 (issuer-api-app 이 Redis 조회 없이 검증) */
+    private boolean admissionTokenEnabled = false;
+
+    /**
+     * issuer-api-app / issuer-worker-app 의 품절 신호({@code gate:soldout}) 수신 여부.
+     * 품절 event 는 enqueue / 상태 조회에 SOLD_OUT 으로 응답하고 dispatch 를 멈춘다
+     */
+    private boolean soldOutEnabled = false;
+
+    /** 발급 허가 토큰 HMAC 서명 키 (issuer-api-app 의 issuer.admission-secret 과 동일해야 함, 번호표 키와 분리) */
+    private String admissionSecret;
+
+    /** head cursor 와의 거리가 이 값 이하이면 정확한 순번을 위해 Redis 로 조회 */
+    private long ticketExactRankThreshold = 200;
+
+    /** head cursor 가 이 시간(ms) 이상 갱신되지 않았으면 신뢰하지 않고 Redis 로 조회 */
+    private long ticketCursorMaxAgeMs = 10_000;
+
+    /** SSE 스트림 WAITING 순번 push 주기 (ms) - 순번이 바뀐 연결에만 전송 */
+    private long streamPushIntervalMs = 2000;
+
+    /** SSE 스트림 최대 유지 시간 (ms) - 만료 시 클라이언트가 재연결 */
+    private long streamTimeoutMs = 600_000;
+
+    /** event 당 대기열 shard 수 - 1 이면 단일 ZSet (Lua 원자 처리), 늘리면 hot event 를 여러 cluster 노드로 분산 */
+    private int queueShards = 1;
+
+    /** 요청 경로의 Redis 동시 호출 상한 - 가상 스레드 모드에서 Redis 쏠림 방지용 (0 이면 제한 없음) */
+    private int redisMaxConcurrency = 0;
+
+    /** Redis 동시 호출 허용을 기다리는 최대 시간 (ms) - 초과 시 503 */
+    private long redisAcquireTimeoutMs = 500;
+
+    /**
+     * dispatchIntervalMs 마다 한 번에 내보내는 대신, 같은 초당 속도를 짧은 tick 으로 나눠 내보낼지 여부 (token bucket)
+     * - 초당 속도 = dispatchQuantity(또는 자동 조절 수량) * 1000 / dispatchIntervalMs
+     */
+    private boolean dispatchPacingEnabled = false;
+
+    /** paced dispatch tick 주기 (ms) */
+    private long dispatchTickMs = 100;
+
+    /** tick 당 최대 dispatch 인원 - Lua 스크립트 한 번의 크기를 제한해 Redis 지연을 평탄하게 유지 */
+    private int dispatchMaxPerTick = 100;
+
+    /** 느린 tick 이후 따라잡을 수 있는 최대 적립 시간 (ms) - token bucket 용량 = 초당 속도 * 이 값 */
+    private long dispatchCatchUpMs = 1000;
+
+    /**
+     * 남은 재고 기반 dispatch 상한 사용 여부 - 입장 후 결과가 나지 않은 인원을 {@code 남은 재고 * stockOverAdmissionFactor} 이하로 유지
+     * (issuer-api-app 의 issuer.stock-report-enabled=true 필요, 재고 보고가 없으면 상한 없음)
+     */
+    private boolean stockCapEnabled = false;
+
+    /** 남은 재고 대비 허용하는 입장 인원 배수 - 발급을 포기하는 유저 / 중복 요청을 감안해 1 보다 크게 둔다 */
+    private double stockOverAdmissionFactor = 1.5;
+
+    /** 하위 시스템 신호 기반 dispatch 수량 자동 조절(AIMD) 여부 - false 면 dispatchQuantity 고정 */
+    private boolean rateControlEnabled = false;
+
+    /** 자동 조절 시 tick 당 최소 / 최대 dispatch 수량 */
+    private int rateMinQuantity = 10;
+    private int rateMaxQuantity = 2000;
+
+    /** 신호가 정상일 때 tick 마다 늘리는 수량 (additive increase) */
+    private int rateIncreaseStep = 20;
+
+    /** 신호가 비정상일 때 곱하는 비율 (multiplicative decrease) */
+    private double rateDecreaseFactor = 0.5;
+
+    /** 하위 시스템 신호 수집 주기 (ms) */
+    private long rateSignalIntervalMs = 1000;
+
+    /** 이 시간(ms) 이상 갱신되지 않은 신호는 무시 */
+    private long rateSignalMaxAgeMs = 10_000;
+
+    /** issuer-api-app p99 응답 시간 상한 (ms) */
+    private double rateIssuerP99ThresholdMs = 500;
+
+    /** issuer-api-app 에러율 상한 (0~1) */
+    private double rateIssuerErrorRateThreshold = 0.01;
+
+    /** issuer-worker-app consumer lag 상한 (kafka 모드) */
+    private long rateWorkerLagThreshold = 5000;
+
+    /** processing 인원 상한 (kafka 모드) */
+    private long rateProcessingSizeThreshold = 10_000;
+
+    /** lag 조회 대상 issuer-worker-app consumer group (worker.consumer-group 과 동일, 미설정 시 lag 신호 미사용) */
+    private String workerConsumerGroup;
 }
@@ -0,0 +1,54 @@
+package rediclaim.gate.config;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import rediclaim.gate.dispatcher.kafka.IssueCompletionMessage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * completion topic 소비 설정 ({@code gate.completion-mode=kafka})
+ */
+@Configuration
+@ConditionalOnProperty(name = "gate.completion-mode", havingValue = "kafka")
+@RequiredArgsConstructor
+public class KafkaConsumerConfig {
+
+    private final KafkaProperties kafkaProperties;
+
+    @Bean
+    public ConsumerFactory<String, IssueCompletionMessage> completionConsumerFactory() {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        // 읽을 수 없는 레코드는 null 로 넘겨 건너뛴다 (poison pill 로 파티션이 멈추지 않도록)
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        // worker 의 타입 헤더는 무시하고 항상 gate 의 레코드 타입으로 읽는다
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, IssueCompletionMessage.class.getName());
+
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, IssueCompletionMessage> completionListenerContainerFactory(
+            ConsumerFactory<String, IssueCompletionMessage> completionConsumerFactory
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, IssueCompletionMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(completionConsumerFactory);
+        factory.setBatchListener(true);
+        return factory;
+    }
+}
@@ -10,7 +10,10 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import rediclaim.gate.dispatcher.kafka.IssueBatchMessage;
+import rediclaim.gate.dispatcher.kafka.IssueBatchMessageSerializer;
 import rediclaim.gate.dispatcher.kafka.IssueRequestMessage;
+import rediclaim.gate.dispatcher.kafka.IssueRequestMessageSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,12 +23,25 @@ import java.util.Map;
 public class KafkaProducerConfig {
 
     private final KafkaProperties kafkaProperties;
+    private final GateProperties gateProperties;
 
     @Bean
     public ProducerFactory<String, IssueRequestMessage> producerFactory() {
-        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        Map<String, Object> props = producerProperties();
+        boolean binary = "binary".equalsIgnoreCase(gateProperties.getKafkaMessageFormat());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
+                binary ? IssueRequestMessageSerializer.class : JsonSerializer.class);
+
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    /**
+     * {@code gate.kafka-record-mode=batch} 용 - dispatch 한 묶음을 레코드 하나로 발행
+     */
+    @Bean
+    public ProducerFactory<String, IssueBatchMessage> batchProducerFactory() {
+        Map<String, Object> props = producerProperties();
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, IssueBatchMessageSerializer.class);
 
         return new DefaultKafkaProducerFactory<>(props);
     }
@@ -36,4 +52,22 @@ public class KafkaProducerConfig {
     ) {
         return new KafkaTemplate<>(producerFactory);
     }
+
+    @Bean
+    public KafkaTemplate<String, IssueBatchMessage> batchKafkaTemplate(
+            ProducerFactory<String, IssueBatchMessage> batchProducerFactory
+    ) {
+        return new KafkaTemplate<>(batchProducerFactory);
+    }
+
+    private Map<String, Object> producerProperties() {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+
+        // dispatch 는 한 tick 에 수십~수백 건을 한꺼번에 발행하므로 묶어서 보낸다
+        props.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, gateProperties.getKafkaLingerMs());
+        props.putIfAbsent(ProducerConfig.BATCH_SIZE_CONFIG, gateProperties.getKafkaBatchSize());
+        props.putIfAbsent(ProducerConfig.COMPRESSION_TYPE_CONFIG, gateProperties.getKafkaCompressionType());
+        return props;
+    }
 }
@@ -4,6 +4,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.repository.EventRegistryRedisRepository;
+import rediclaim.gate.repository.SoldOutRedisRepository;
+import rediclaim.gate.stream.GateStatusEventPublisher;
+import rediclaim.gate.stream.GateStatusMessageListener;
+import rediclaim.gate.stream.SoldOutMessageListener;
 
 @Configuration
 public class RedisConfig {
@@ -12,4 +21,25 @@ public class RedisConfig {
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
     }
+
+    /**
+     * gate replica 간 pub/sub 수신용 컨테이너.
+     * - gate:status:*        : dispatch 상태 전이 → SSE 스트림 push
+     * - gate:events:changed  : event 레지스트리 변경 → 로컬 설정 캐시 갱신
+     * - gate:soldout         : 품절 신호 → SOLD_OUT 응답 / 대기 스트림 종료
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            GateStatusMessageListener gateStatusMessageListener,
+            EventRegistry eventRegistry,
+            SoldOutMessageListener soldOutMessageListener
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(gateStatusMessageListener, new PatternTopic(GateStatusEventPublisher.CHANNEL_PREFIX + "*"));
+        container.addMessageListener(eventRegistry, new ChannelTopic(EventRegistryRedisRepository.CHANGED_CHANNEL));
+        container.addMessageListener(soldOutMessageListener, new ChannelTopic(SoldOutRedisRepository.CHANNEL));
+        return container;
+    }
 }
@@ -0,0 +1,102 @@
+package rediclaim.gate.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.controller.dto.EventSettingsRequest;
+import rediclaim.gate.controller.dto.EventSettingsResponse;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.repository.SoldOutRedisRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 운영자용 event 관리 API.
+ * 변경 사항은 pub/sub 으로 모든 gate replica 에 1초 안에 반영된다.
+ *
+ * <p>모든 요청은 {@code X-Gate-Admin-Secret} 헤더가 {@code gate.admin-secret} 과 같아야 한다
+ * (다르면 401, secret 이 설정되지 않았으면 403).</p>
+ *
+ * <p>등록 / 설정 변경은 품절 상태를 바꾸지 않는다. 재고를 다시 채운 event 는 품절 해제 API 로 명시적으로 다시 연다
+ * (실제로 재고가 없으면 다음 발급에서 다시 품절로 표시된다).</p>
+ */
+@RestController
+@RequestMapping("/gate/admin/events")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class GateAdminController {
+
+    static final String ADMIN_SECRET_HEADER = "X-Gate-Admin-Secret";
+
+    private final EventRegistry eventRegistry;
+    private final GateProperties gateProperties;
+    private final SoldOutRedisRepository soldOutRedisRepository;
+
+    @GetMapping
+    public List<EventSettingsResponse> list(@RequestHeader(value = ADMIN_SECRET_HEADER, required = false) String secret) {
+        authorize(secret);
+        return eventRegistry.snapshot().entrySet().stream()
+                .map(e -> EventSettingsResponse.of(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    /**
+     * event 등록 또는 설정 변경 (dispatch 수량 / Active TTL / stale timeout)
+     */
+    @PutMapping("/{eventId}")
+    public EventSettingsResponse register(
+            @RequestHeader(value = ADMIN_SECRET_HEADER, required = false) String secret,
+            @PathVariable Long eventId,
+            @Valid @RequestBody EventSettingsRequest request
+    ) {
+        authorize(secret);
+        return EventSettingsResponse.of(eventId, eventRegistry.register(
+                eventId,
+                request.dispatchQuantity(),
+                request.activeTtlSeconds(),
+                request.staleTimeoutMs()
+        ));
+    }
+
+    /**
+     * 품절 해제 - 품절 플래그를 지우고 모든 gate / issuer / worker replica 에 해제를 발행 (재고 보충 후 사용)
+     */
+    @DeleteMapping("/{eventId}/sold-out")
+    public void resetSoldOut(
+            @RequestHeader(value = ADMIN_SECRET_HEADER, required = false) String secret,
+            @PathVariable Long eventId
+    ) {
+        authorize(secret);
+        soldOutRedisRepository.reset(eventId);
+    }
+
+    /**
+     * event 종료 - dispatch 중단 (대기 중인 유저는 유지)
+     */
+    @DeleteMapping("/{eventId}")
+    public void close(
+            @RequestHeader(value = ADMIN_SECRET_HEADER, required = false) String secret,
+            @PathVariable Long eventId
+    ) {
+        authorize(secret);
+        eventRegistry.close(eventId);
+    }
+
+    private void authorize(String secret) {
+        String expected = gateProperties.getAdminSecret();
+        if (!StringUtils.hasText(expected)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "gate.admin-secret is not configured");
+        }
+        if (secret == null || !MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), secret.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+    }
+}
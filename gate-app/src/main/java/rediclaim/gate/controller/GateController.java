@@ -1,25 +1,59 @@
 package rediclaim.gate.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import rediclaim.gate.service.GateService;
+import rediclaim.gate.stream.GateStatusStreamService;
 import rediclaim.gate.controller.dto.GateEnqueueResponse;
 import rediclaim.gate.controller.dto.GateStatusResponse;
+import rediclaim.gate.controller.dto.ProcessingCompleteRequest;
 
+/**
+ * gate 요청 엔드포인트 (servlet 모드, 기본).
+ * reactive 모드에서는 {@link GateHandler} 가 같은 경로를 제공한다.
+ */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class GateController {
 
     private final GateService gateService;
+    private final GateStatusStreamService gateStatusStreamService;
 
     @PostMapping("/gate/events/{eventId}/enqueue")
     public GateEnqueueResponse enqueue(@PathVariable Long eventId, @RequestParam Long userId) {
         return gateService.enqueue(eventId, userId);
     }
 
+    /**
+     * 상태 조회 (폴링).
+     * enqueue 응답의 ticket 을 함께 전달하면 대기 중에는 Redis 조회 없이 순번을 계산한다.
+     */
     @GetMapping("/gate/events/{eventId}/rank")
-    public GateStatusResponse getStatus(@PathVariable Long eventId, @RequestParam Long userId) {
-        return gateService.getStatus(eventId, userId);
+    public GateStatusResponse getStatus(
+            @PathVariable Long eventId,
+            @RequestParam Long userId,
+            @RequestParam(required = false) String ticket
+    ) {
+        return gateService.getStatus(eventId, userId, ticket);
+    }
+
+    /**
+     * 상태 스트림 (SSE).
+     * 폴링 대신 연결을 유지하며, 순번 변화와 ACTIVE / PROCESSING 전이를 서버가 push 한다.
+     * 전이 이벤트 전송 후 스트림은 종료된다.
+     */
+    @GetMapping(value = "/gate/events/{eventId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @PathVariable Long eventId,
+            @RequestParam Long userId,
+            @RequestParam(required = false) String ticket
+    ) {
+        return gateStatusStreamService.subscribe(eventId, userId, ticket);
     }
 
     /**
@@ -30,4 +64,12 @@ public class GateController {
     public void complete(@PathVariable Long eventId, @RequestParam Long userId) {
         gateService.removeFromProcessing(eventId, userId);
     }
+
+    /**
+     * 묶음 완료 콜백 - issuer-worker-app 이 모아 둔 완료 유저를 한 번에 processing 에서 제거한다.
+     */
+    @PostMapping("/gate/events/{eventId}/processing/complete-batch")
+    public void completeBatch(@PathVariable Long eventId, @Valid @RequestBody ProcessingCompleteRequest request) {
+        gateService.removeFromProcessing(eventId, request.userIds());
+    }
 }
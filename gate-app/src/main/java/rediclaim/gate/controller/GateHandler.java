@@ -0,0 +1,74 @@
+package rediclaim.gate.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import rediclaim.gate.controller.dto.ProcessingCompleteRequest;
+import rediclaim.gate.service.ReactiveGateService;
+
+/**
+ * {@link GateController} 의 WebFlux 버전 ({@code spring.main.web-application-type=reactive}).
+ * 경로와 요청 / 응답 형식은 동일하며, 라우팅은 {@link GateRouter} 에서 정의한다.
+ *
+ * <p>SSE 상태 스트림은 servlet 모드에서만 제공한다.</p>
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class GateHandler {
+
+    private final ReactiveGateService reactiveGateService;
+
+    public Mono<ServerResponse> enqueue(ServerRequest request) {
+        Long eventId = eventId(request);
+        Long userId = userId(request);
+        return reactiveGateService.enqueue(eventId, userId)
+                .flatMap(response -> ServerResponse.ok().bodyValue(response));
+    }
+
+    public Mono<ServerResponse> getStatus(ServerRequest request) {
+        Long eventId = eventId(request);
+        Long userId = userId(request);
+        String ticket = request.queryParam("ticket").orElse(null);
+        return reactiveGateService.getStatus(eventId, userId, ticket)
+                .flatMap(response -> ServerResponse.ok().bodyValue(response));
+    }
+
+    public Mono<ServerResponse> complete(ServerRequest request) {
+        Long eventId = eventId(request);
+        Long userId = userId(request);
+        return reactiveGateService.removeFromProcessing(eventId, userId)
+                .then(ServerResponse.ok().build());
+    }
+
+    public Mono<ServerResponse> completeBatch(ServerRequest request) {
+        Long eventId = eventId(request);
+        return request.bodyToMono(ProcessingCompleteRequest.class)
+                .filter(body -> body.userIds() != null && !body.userIds().isEmpty() && !body.userIds().contains(null))
+                .switchIfEmpty(Mono.error(new ServerWebInputException("'userIds' must not be empty.")))
+                .flatMap(body -> reactiveGateService.removeFromProcessing(eventId, body.userIds()))
+                .then(ServerResponse.ok().build());
+    }
+
+    private static Long eventId(ServerRequest request) {
+        return parseLong("eventId", request.pathVariable("eventId"));
+    }
+
+    private static Long userId(ServerRequest request) {
+        String userId = request.queryParam("userId")
+                .orElseThrow(() -> new ServerWebInputException("Required parameter 'userId' is not present."));
+        return parseLong("userId", userId);
+    }
+
+    private static Long parseLong(String name, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("Invalid '" + name + "': " + value);
+        }
+    }
+}
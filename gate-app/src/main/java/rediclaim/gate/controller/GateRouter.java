@@ -0,0 +1,26 @@
+package rediclaim.gate.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * reactive 모드 라우팅 - {@link GateController} 와 동일한 경로
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class GateRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> gateRoutes(GateHandler gateHandler) {
+        return RouterFunctions.route()
+                .POST("/gate/events/{eventId}/enqueue", gateHandler::enqueue)
+                .GET("/gate/events/{eventId}/rank", gateHandler::getStatus)
+                .POST("/gate/events/{eventId}/processing/complete", gateHandler::complete)
+                .POST("/gate/events/{eventId}/processing/complete-batch", gateHandler::completeBatch)
+                .build();
+    }
+}
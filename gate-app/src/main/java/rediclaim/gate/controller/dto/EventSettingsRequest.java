@@ -0,0 +1,14 @@
+package rediclaim.gate.controller.dto;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * event 등록 / 설정 변경 요청 - null 인 항목은 기존 값 유지
+ */
+public record EventSettingsRequest(
+        @PositiveOrZero Integer dispatchQuantity,
+        @Positive Long activeTtlSeconds,
+        @Positive Long staleTimeoutMs
+) {
+}
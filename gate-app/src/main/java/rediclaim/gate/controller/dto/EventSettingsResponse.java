@@ -0,0 +1,20 @@
+package rediclaim.gate.controller.dto;
+
+import rediclaim.gate.event.EventSettings;
+
+public record EventSettingsResponse(
+        Long eventId,
+        int dispatchQuantity,
+        long activeTtlSeconds,
+        long staleTimeoutMs
+) {
+
+    public static EventSettingsResponse of(Long eventId, EventSettings settings) {
+        return new EventSettingsResponse(
+                eventId,
+                settings.dispatchQuantity(),
+                settings.activeTtlSeconds(),
+                settings.staleTimeoutMs()
+        );
+    }
+}
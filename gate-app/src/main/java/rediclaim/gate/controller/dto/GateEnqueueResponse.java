@@ -1,7 +1,15 @@
 package rediclaim.gate.controller.dto;
 
+/**
+ * @param ticket 서명된 번호표 (gate.ticket-enabled=true 일 때만 발급). 상태 조회 시 그대로 전달한다.
+ */
 public record GateEnqueueResponse(
         String status,
-        Long rank
+        Long rank,
+        String ticket
 ) {
+
+    public GateEnqueueResponse(String status, Long rank) {
+        this(status, rank, null);
+    }
 }
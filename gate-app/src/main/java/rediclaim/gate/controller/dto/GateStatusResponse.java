@@ -1,7 +1,17 @@
 package rediclaim.gate.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * @param admissionToken ACTIVE 일 때 issuer-api-app 에 함께 보낼 발급 허가 토큰 ({@code gate.admission-token-enabled=true} 일 때만)
+ */
 public record GateStatusResponse(
         String status,
-        Long rank
+        Long rank,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String admissionToken
 ) {
+
+    public GateStatusResponse(String status, Long rank) {
+        this(status, rank, null);
+    }
 }
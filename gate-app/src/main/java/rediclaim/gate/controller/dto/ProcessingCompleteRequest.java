@@ -0,0 +1,14 @@
+package rediclaim.gate.controller.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * issuer-worker-app 의 묶음 완료 콜백 요청
+ */
+public record ProcessingCompleteRequest(
+        @NotEmpty List<@NotNull Long> userIds
+) {
+}
@@ -0,0 +1,20 @@
+package rediclaim.gate.dispatcher;
+
+import reactor.core.publisher.Mono;
+import rediclaim.gate.controller.dto.GateStatusResponse;
+
+/**
+ * {@link DispatchStrategy} 의 reactive 버전 (reactive 모드 요청 경로 전용).
+ *
+ * <p>요청 경로에서 호출되는 상태 조회만 non-blocking 으로 제공한다.
+ * dispatch / 재큐는 스케줄러 스레드에서 실행되므로 {@link DispatchStrategy} 를 그대로 사용한다.</p>
+ */
+public interface ReactiveDispatchStrategy {
+
+    /**
+     * 대기열에 없는 유저의 현재 상태를 반환한다.
+     *
+     * @return PROCESSING / ACTIVE / UNKNOWN 중 하나
+     */
+    Mono<GateStatusResponse> statusOf(Long eventId, Long userId);
+}
@@ -0,0 +1,42 @@
+package rediclaim.gate.dispatcher.activequeue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.repository.GateRedisRepository;
+import rediclaim.gate.scheduler.DispatchOwnership;
+
+/**
+ * {@code gate.active-store=index} 일 때 Active Index 에서 만료된 유저를 주기적으로 일괄 제거한다.
+ *
+ * <p>만료 여부는 조회 시 score 로 판단하므로 정리가 늦어도 결과는 같고, 메모리만 늦게 회수된다.
+ * event 를 dispatch 하는 replica 만 정리한다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gate.active-store", havingValue = "index")
+@RequiredArgsConstructor
+public class ActiveIndexSweeper {
+
+    private final GateRedisRepository gateRedisRepository;
+    private final EventRegistry eventRegistry;
+    private final DispatchOwnership dispatchOwnership;
+
+    @Scheduled(fixedDelayString = "${gate.active-sweep-interval-ms:5000}")
+    public void sweep() {
+        for (Long eventId : eventRegistry.eventIds()) {
+            if (!dispatchOwnership.owns(eventId)) continue;
+            try {
+                long removed = gateRedisRepository.sweepExpiredActive(eventId);
+                if (removed > 0) {
+                    log.debug("Event {} swept {} expired active users", eventId, removed);
+                }
+            } catch (Exception e) {
+                log.error("Active index sweep failed for event {}", eventId, e);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package rediclaim.gate.dispatcher.activequeue;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -7,9 +8,16 @@ import org.springframework.stereotype.Service;
 import rediclaim.gate.config.GateProperties;
 import rediclaim.gate.controller.dto.GateStatusResponse;
 import rediclaim.gate.dispatcher.DispatchStrategy;
+import rediclaim.gate.dispatcher.rate.DispatchPacer;
+import rediclaim.gate.dispatcher.rate.StockBudget;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.repository.GateKeys;
 import rediclaim.gate.repository.GateRedisRepository;
+import rediclaim.gate.stream.GateStatusEventPublisher;
+import rediclaim.gate.ticket.AdmissionTokenSigner;
 
 import java.util.List;
+import java.util.OptionalLong;
 
 /**
  * {@code gate.dispatch-mode=active-queue} 전략
@@ -19,7 +27,11 @@ import java.util.List;
  * issuer-api-app 에 쿠폰 발급을 직접 요청한다.</p>
  *
  * <p>gate-app 은 Kafka 발행 없이 Active Queue 적재만 담당하며,
- * issuer-api-app 이 Active Key 존재 여부로 발급 허용 여부를 판단한다.</p>
+ * issuer-api-app 이 Active Key 존재 여부로 발급 허용 여부를 판단한다.
+ * {@code gate.admission-token-enabled=true} 이면 ACTIVE 응답에 서명된 발급 허가 토큰을 함께 내려주어
+ * issuer-api-app 이 Redis 조회 없이 검증할 수 있게 한다.</p>
+ *
+ * <p>대기열 shard 가 여러 개이면 Active Queue 이동이 원자적이지 않으므로 dispatch 소유권을 켜야 한다.</p>
  */
 @Slf4j
 @ConditionalOnProperty(name = "gate.dispatch-mode", havingValue = "active-queue")
@@ -28,22 +40,52 @@ import java.util.List;
 public class ActiveQueueDispatchStrategy implements DispatchStrategy {
 
     private final GateRedisRepository gateRedisRepository;
+    private final EventRegistry eventRegistry;
+    private final GateStatusEventPublisher gateStatusEventPublisher;
+    private final DispatchPacer dispatchPacer;
+    private final StockBudget stockBudget;
+    private final AdmissionTokenSigner admissionTokenSigner;
+    private final GateKeys gateKeys;
     private final GateProperties gateProperties;
 
+    @PostConstruct
+    void init() {
+        if (gateKeys.sharded() && !gateProperties.isOwnershipEnabled()) {
+            throw new IllegalStateException(
+                    "gate.ownership-enabled must be true when gate.queue-shards > 1 with gate.dispatch-mode=active-queue");
+        }
+    }
+
     @Override
     public int dispatch(Long eventId) {
-        int rate = gateProperties.getDispatchQuantity();
-        if (rate <= 0) return 0;
+        int permits = dispatchPacer.permits(eventId);
+        int rate = stockBudget.cap(eventId, permits);
+        if (rate <= 0) {
+            dispatchPacer.refund(eventId, permits);
+            return 0;
+        }
 
-        List<Long> userIds = gateRedisRepository.popToActive(eventId, rate, gateProperties.getActiveTtlSeconds());
+        List<Long> userIds = gateRedisRepository.popToActive(eventId, rate, eventRegistry.settings(eventId).activeTtlSeconds());
+        // 대기열이 비었거나 재고 상한에 걸려 쓰지 못한 인원은 다음 tick 으로
+        dispatchPacer.refund(eventId, permits - userIds.size());
+        stockBudget.recordAdmitted(eventId, userIds.size());
         if (!userIds.isEmpty()) {
             log.debug("Event {} dispatched {} users to active queue", eventId, userIds.size());
+            gateStatusEventPublisher.publishDispatched(eventId, "ACTIVE", userIds);
         }
         return userIds.size();
     }
 
     @Override
     public GateStatusResponse statusOf(Long eventId, Long userId) {
+        if (admissionTokenSigner.enabled()) {
+            OptionalLong expiresAt = gateRedisRepository.activeExpiresAt(eventId, userId);
+            if (expiresAt.isPresent()) {
+                return new GateStatusResponse("ACTIVE", null,
+                        admissionTokenSigner.sign(eventId, userId, expiresAt.getAsLong()));
+            }
+            return new GateStatusResponse("UNKNOWN", null);
+        }
         if (gateRedisRepository.isActive(eventId, userId)) {
             return new GateStatusResponse("ACTIVE", null);
         }
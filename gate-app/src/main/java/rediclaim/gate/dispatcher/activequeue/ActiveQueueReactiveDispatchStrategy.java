@@ -0,0 +1,36 @@
+package rediclaim.gate.dispatcher.activequeue;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import rediclaim.gate.controller.dto.GateStatusResponse;
+import rediclaim.gate.dispatcher.ReactiveDispatchStrategy;
+import rediclaim.gate.repository.ReactiveGateRedisRepository;
+import rediclaim.gate.ticket.AdmissionTokenSigner;
+
+/**
+ * {@code gate.dispatch-mode=active-queue} 의 reactive 상태 조회
+ */
+@ConditionalOnProperty(name = "gate.dispatch-mode", havingValue = "active-queue")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Service
+@RequiredArgsConstructor
+public class ActiveQueueReactiveDispatchStrategy implements ReactiveDispatchStrategy {
+
+    private final ReactiveGateRedisRepository reactiveGateRedisRepository;
+    private final AdmissionTokenSigner admissionTokenSigner;
+
+    @Override
+    public Mono<GateStatusResponse> statusOf(Long eventId, Long userId) {
+        if (admissionTokenSigner.enabled()) {
+            return reactiveGateRedisRepository.activeExpiresAt(eventId, userId)
+                    .map(expiresAt -> new GateStatusResponse("ACTIVE", null,
+                            admissionTokenSigner.sign(eventId, userId, expiresAt)))
+                    .defaultIfEmpty(new GateStatusResponse("UNKNOWN", null));
+        }
+        return reactiveGateRedisRepository.isActive(eventId, userId)
+                .map(active -> new GateStatusResponse(active ? "ACTIVE" : "UNKNOWN", null));
+    }
+}
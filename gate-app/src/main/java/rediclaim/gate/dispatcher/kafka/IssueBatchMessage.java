@@ -0,0 +1,19 @@
+package rediclaim.gate.dispatcher.kafka;
+
+import java.util.List;
+
+/**
+ * dispatch 한 번에 꺼낸 유저 묶음 ({@code gate.kafka-record-mode=batch})
+ * issuer-worker-app 은 묶음 단위로 처리하고 한 번에 ack 한다.
+ */
+public record IssueBatchMessage(
+        Long eventId,
+        List<Entry> entries
+) {
+
+    public record Entry(
+            long userId,
+            long rank
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package rediclaim.gate.dispatcher.kafka;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * {@link IssueBatchMessage} binary 직렬화 (version 2)
+ *
+ * <p>batch 레코드는 {@code gate.kafka-message-format} 과 무관하게 항상 이 형식으로 보낸다.
+ * version 1 ({@link IssueRequestMessageSerializer}) 과 첫 바이트로 구분된다.</p>
+ * <pre>
+ *   [0]      version (= 2)
+ *   [1..8]   eventId
+ *   [9..12]  entry 수 (int)
+ *   [13..]   entry 마다 userId(long), rank(long)
+ * </pre>
+ */
+public class IssueBatchMessageSerializer implements Serializer<IssueBatchMessage> {
+
+    public static final byte VERSION = 2;
+
+    static final int HEADER_SIZE = 1 + Long.BYTES + Integer.BYTES;
+    static final int ENTRY_SIZE = Long.BYTES * 2;
+
+    @Override
+    public byte[] serialize(String topic, IssueBatchMessage message) {
+        if (message == null) return null;
+
+        List<IssueBatchMessage.Entry> entries = message.entries();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + ENTRY_SIZE * entries.size())
+                .put(VERSION)
+                .putLong(message.eventId())
+                .putInt(entries.size());
+        for (IssueBatchMessage.Entry entry : entries) {
+            buffer.putLong(entry.userId()).putLong(entry.rank());
+        }
+        return buffer.array();
+    }
+}
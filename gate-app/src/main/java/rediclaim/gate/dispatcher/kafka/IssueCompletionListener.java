@@ -0,0 +1,58 @@
+package rediclaim.gate.dispatcher.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.repository.GateRedisRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code gate.completion-mode=kafka} - HTTP 콜백 대신 completion topic 으로 발급 완료를 받는다.
+ *
+ * <p>gate replica 들은 같은 consumer group 으로 topic 을 나눠 소비한다 (processing 상태는 Redis 에 있으므로
+ * 어느 replica 가 처리해도 된다). 레코드 묶음을 event 별로 모아 processing 제거 스크립트를
+ * 하나의 pipeline 으로 실행한다. Redis 오류 시 예외를 던져 묶음 전체를 재시도한다 (제거는 멱등).</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gate.completion-mode", havingValue = "kafka")
+@RequiredArgsConstructor
+public class IssueCompletionListener {
+
+    private final GateRedisRepository gateRedisRepository;
+    private final MeterRegistry meterRegistry;
+
+    @KafkaListener(
+            topics = "${gate.completion-topic}",
+            groupId = "${gate.completion-consumer-group}",
+            containerFactory = "completionListenerContainerFactory"
+    )
+    public void consume(List<IssueCompletionMessage> messages) {
+        Map<Long, List<Long>> usersByEvent = new LinkedHashMap<>();
+        for (IssueCompletionMessage message : messages) {
+            // 역직렬화에 실패한 레코드는 null 로 전달된다
+            if (message == null || message.eventId() == null || message.userId() == null) continue;
+            usersByEvent.computeIfAbsent(message.eventId(), e -> new ArrayList<>()).add(message.userId());
+            completionCounter(message.result()).increment();
+        }
+        if (usersByEvent.isEmpty()) return;
+
+        int removed = gateRedisRepository.removeFromProcessing(usersByEvent);
+        log.debug("Completion batch size={} events={} removed={}", messages.size(), usersByEvent.size(), removed);
+    }
+
+    private Counter completionCounter(String result) {
+        return Counter.builder("gate.completion")
+                .description("completion topic 으로 받은 발급 결과 수")
+                .tag("result", result == null ? "UNKNOWN" : result)
+                .register(meterRegistry);
+    }
+}
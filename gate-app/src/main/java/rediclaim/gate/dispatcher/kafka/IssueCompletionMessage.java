@@ -0,0 +1,12 @@
+package rediclaim.gate.dispatcher.kafka;
+
+/**
+ * issuer-worker-app 이 completion topic 에 발행하는 발급 결과 ({@code gate.completion-mode=kafka})
+ * result : SUCCESS / ALREADY_ISSUED / OUT_OF_STOCK / FAILED (발급 불가 - 재처리하지 않음)
+ */
+public record IssueCompletionMessage(
+        Long eventId,
+        Long userId,
+        String result
+) {
+}
@@ -0,0 +1,52 @@
+package rediclaim.gate.dispatcher.kafka;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link IssueRequestMessage} 고정 길이 binary 직렬화 ({@code gate.kafka-message-format=binary})
+ *
+ * <p>레이아웃 (26 bytes, big-endian)</p>
+ * <pre>
+ *   [0]      version (= 1)
+ *   [1]      null 여부 flag (bit0 eventId, bit1 userId, bit2 rank — 1 이면 값 있음)
+ *   [2..9]   eventId
+ *   [10..17] userId
+ *   [18..25] rank
+ * </pre>
+ *
+ * <p>JSON payload 는 항상 {@code '{'} 로 시작하므로 issuer-worker-app 은 첫 바이트로 형식을 구분한다.
+ * 배포 순서: worker 를 먼저 올린 뒤 gate 의 형식을 binary 로 바꾼다.
+ * 레이아웃을 바꿀 때는 version 을 올리고 worker 가 두 version 을 모두 읽을 수 있게 한 뒤 전환한다.</p>
+ */
+public class IssueRequestMessageSerializer implements Serializer<IssueRequestMessage> {
+
+    public static final byte VERSION = 1;
+    public static final int SIZE = 2 + Long.BYTES * 3;
+
+    private static final int EVENT_ID = 1;
+    private static final int USER_ID = 1 << 1;
+    private static final int RANK = 1 << 2;
+
+    @Override
+    public byte[] serialize(String topic, IssueRequestMessage message) {
+        if (message == null) return null;
+
+        int flags = (message.eventId() != null ? EVENT_ID : 0)
+                | (message.userId() != null ? USER_ID : 0)
+                | (message.rank() != null ? RANK : 0);
+
+        return ByteBuffer.allocate(SIZE)
+                .put(VERSION)
+                .put((byte) flags)
+                .putLong(valueOf(message.eventId()))
+                .putLong(valueOf(message.userId()))
+                .putLong(valueOf(message.rank()))
+                .array();
+    }
+
+    private static long valueOf(Long value) {
+        return value == null ? 0L : value;
+    }
+}
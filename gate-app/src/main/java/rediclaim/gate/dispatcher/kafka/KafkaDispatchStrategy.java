@@ -1,5 +1,8 @@
 package rediclaim.gate.dispatcher.kafka;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -8,9 +11,22 @@ import org.springframework.stereotype.Service;
 import rediclaim.gate.config.GateProperties;
 import rediclaim.gate.controller.dto.GateStatusResponse;
 import rediclaim.gate.dispatcher.DispatchStrategy;
+import rediclaim.gate.dispatcher.rate.DispatchPacer;
+import rediclaim.gate.dispatcher.rate.StockBudget;
+import rediclaim.gate.event.EventRegistry;
 import rediclaim.gate.repository.GateRedisRepository;
+import rediclaim.gate.stream.GateStatusEventPublisher;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * {@code gate.dispatch-mode=kafka} 전략
@@ -19,6 +35,13 @@ import java.util.List;
  * issuer-worker-app 이 메시지를 소비하여 쿠폰을 발급하고,
  * 발급 완료 후 gate-app 의 콜백 엔드포인트({@code /gate/events/{eventId}/processing/complete})를
  * 호출해 Processing Queue 에서 유저를 제거한다.</p>
+ *
+ * <p>꺼낸 묶음은 한꺼번에 비동기로 발행하고 (producer 의 linger / batch / 압축 설정으로 묶여 전송)
+ * 레코드별 완료 결과를 모은다. 발행에 실패한 유저만 원래 번호표로 곧바로 대기열에 되돌리고,
+ * 성공한 유저에게만 PROCESSING 상태를 알린다. {@code gate.kafka-send-timeout-ms} 안에
+ * 결과가 오지 않은 레코드는 성공으로 간주하며, 실제로 유실됐다면 stale 재큐가 회수한다.</p>
+ *
+ * <p>{@code gate.kafka-record-mode=batch} 이면 묶음 전체를 {@link IssueBatchMessage} 레코드 하나로 보낸다.</p>
  */
 @Slf4j
 @ConditionalOnProperty(name = "gate.dispatch-mode", havingValue = "kafka")
@@ -28,30 +51,120 @@ public class KafkaDispatchStrategy implements DispatchStrategy {
 
     private final GateRedisRepository gateRedisRepository;
     private final KafkaTemplate<String, IssueRequestMessage> kafkaTemplate;
+    private final KafkaTemplate<String, IssueBatchMessage> batchKafkaTemplate;
     private final GateProperties gateProperties;
+    private final GateStatusEventPublisher gateStatusEventPublisher;
+    private final DispatchPacer dispatchPacer;
+    private final StockBudget stockBudget;
+    private final EventRegistry eventRegistry;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public int dispatch(Long eventId) {
-        int rate = gateProperties.getDispatchQuantity();
-        if (rate <= 0) return 0;
+        int permits = dispatchPacer.permits(eventId);
+        int rate = stockBudget.cap(eventId, permits);
+        if (rate <= 0) {
+            dispatchPacer.refund(eventId, permits);
+            return 0;
+        }
 
         // [userId, ticket, userId, ticket ...] 형태로 반환
         List<String> rawList = gateRedisRepository.popToProcessing(eventId, rate);
+        // 대기열이 비었거나 재고 상한에 걸려 쓰지 못한 인원은 다음 tick 으로 (발행 실패분은 재큐되므로 쓴 것으로 본다)
+        dispatchPacer.refund(eventId, permits - rawList.size() / 2);
         if (rawList.isEmpty()) return 0;
 
         String topic = gateProperties.getKafkaTopic();
-        int count = 0;
-
+        Map<Long, Long> tickets = new LinkedHashMap<>(rawList.size() / 2);
         for (int i = 0; i < rawList.size(); i += 2) {
-            Long userId = Long.parseLong(rawList.get(i));
-            long ticket = (long) Double.parseDouble(rawList.get(i + 1));
+            tickets.put(Long.parseLong(rawList.get(i)), (long) Double.parseDouble(rawList.get(i + 1)));
+        }
+
+        Map<Long, Long> failed = new ConcurrentHashMap<>();
+        List<CompletableFuture<?>> sends = new ArrayList<>(tickets.size());
+
+        if ("batch".equalsIgnoreCase(gateProperties.getKafkaRecordMode())) {
+            // 묶음 전체가 레코드 하나 → 실패하면 묶음 전체를 되돌린다
+            List<IssueBatchMessage.Entry> entries = new ArrayList<>(tickets.size());
+            tickets.forEach((userId, ticket) -> entries.add(new IssueBatchMessage.Entry(userId, ticket)));
+            sends.add(send(eventId, () -> batchKafkaTemplate.send(
+                    topic, eventId.toString(), new IssueBatchMessage(eventId, entries)), tickets, failed));
+        } else {
+            tickets.forEach((userId, ticket) -> sends.add(send(eventId, () -> kafkaTemplate.send(
+                    topic, eventId.toString(), new IssueRequestMessage(eventId, userId, ticket)),
+                    Map.of(userId, ticket), failed)));
+        }
+
+        awaitSends(eventId, sends);
+
+        if (!failed.isEmpty()) {
+            int requeued = gateRedisRepository.requeueFromProcessing(eventId, failed);
+            requeuedCounter(eventId).increment(requeued);
+            log.warn("Event {} Kafka send failed for {} users, requeued {}", eventId, failed.size(), requeued);
+        }
 
-            kafkaTemplate.send(topic, eventId.toString(), new IssueRequestMessage(eventId, userId, ticket));
-            log.debug("Event {} userId {} ticket {} sent to Kafka topic {}", eventId, userId, ticket, topic);
-            count++;
+        List<Long> dispatched = new ArrayList<>(tickets.size());
+        for (Long userId : tickets.keySet()) {
+            if (!failed.containsKey(userId)) {
+                dispatched.add(userId);
+            }
         }
+        log.debug("Event {} sent {} users to Kafka topic {}", eventId, dispatched.size(), topic);
+        stockBudget.recordAdmitted(eventId, dispatched.size());
+
+        gateStatusEventPublisher.publishDispatched(eventId, "PROCESSING", dispatched);
+        return dispatched.size();
+    }
+
+    /**
+     * 레코드를 발행하고, 완료 시 발행 지연을 기록하며 실패하면 레코드에 담긴 유저를 실패 목록에 모은다.
+     * send() 자체가 예외를 던지는 경우 (직렬화 실패, metadata 대기 초과 등) 도 실패로 취급한다.
+     */
+    private CompletableFuture<?> send(Long eventId, Supplier<CompletableFuture<?>> sender,
+                                      Map<Long, Long> users, Map<Long, Long> failed) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<?> future;
+        try {
+            future = sender.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, ex) -> {
+            sendTimer(eventId, ex == null ? "success" : "failure")
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (ex != null) {
+                failed.putAll(users);
+            }
+        });
+    }
+
+    private void awaitSends(Long eventId, List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(gateProperties.getKafkaSendTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 개별 실패는 whenComplete 에서 수집됨
+        } catch (TimeoutException e) {
+            log.warn("Event {} Kafka send not acknowledged within {}ms, leaving to stale requeue",
+                    eventId, gateProperties.getKafkaSendTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Timer sendTimer(Long eventId, String outcome) {
+        return Timer.builder("gate.kafka.send")
+                .description("Kafka 발행 요청부터 broker ack 까지 걸린 시간")
+                .tag("eventId", eventId.toString())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 
-        return count;
+    private Counter requeuedCounter(Long eventId) {
+        return Counter.builder("gate.kafka.send.requeued")
+                .description("Kafka 발행 실패로 대기열에 즉시 되돌린 유저 수")
+                .tag("eventId", eventId.toString())
+                .register(meterRegistry);
     }
 
     @Override
@@ -66,7 +179,7 @@ public class KafkaDispatchStrategy implements DispatchStrategy {
     public int requeueStale(Long eventId) {
         return gateRedisRepository.requeueStaleProcessing(
                 eventId,
-                gateProperties.getStaleTimeoutMs(),
+                eventRegistry.settings(eventId).staleTimeoutMs(),
                 gateProperties.getMaxRequeue()
         );
     }
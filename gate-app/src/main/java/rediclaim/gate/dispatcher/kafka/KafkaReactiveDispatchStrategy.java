@@ -0,0 +1,28 @@
+package rediclaim.gate.dispatcher.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import rediclaim.gate.controller.dto.GateStatusResponse;
+import rediclaim.gate.dispatcher.ReactiveDispatchStrategy;
+import rediclaim.gate.repository.ReactiveGateRedisRepository;
+
+/**
+ * {@code gate.dispatch-mode=kafka} 의 reactive 상태 조회
+ */
+@ConditionalOnProperty(name = "gate.dispatch-mode", havingValue = "kafka")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Service
+@RequiredArgsConstructor
+public class KafkaReactiveDispatchStrategy implements ReactiveDispatchStrategy {
+
+    private final ReactiveGateRedisRepository reactiveGateRedisRepository;
+
+    @Override
+    public Mono<GateStatusResponse> statusOf(Long eventId, Long userId) {
+        return reactiveGateRedisRepository.isProcessing(eventId, userId)
+                .map(processing -> new GateStatusResponse(processing ? "PROCESSING" : "UNKNOWN", null));
+    }
+}
@@ -0,0 +1,131 @@
+package rediclaim.gate.dispatcher.rate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.config.GateProperties;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * tick 당 dispatch 인원 결정 (token bucket).
+ *
+ * <p>{@code gate.dispatch-pacing-enabled=false} 이면 {@link DispatchRateController#batchSize(Long)} 를 그대로 반환한다
+ * (dispatchIntervalMs 마다 한 번에 dispatch).</p>
+ *
+ * <p>pacing 사용 시 {@code batchSize * 1000 / dispatchIntervalMs} 를 초당 속도로 보고, 경과 시간만큼 토큰을 적립한다.</p>
+ * <ul>
+ *   <li>tick 주기가 밀려도 경과 시간 기준으로 적립하므로 평균 속도는 유지된다 (catch-up).</li>
+ *   <li>적립 상한은 {@code 초당 속도 * dispatchCatchUpMs} 로, 장애 후 한꺼번에 몰아서 내보내지 않는다.</li>
+ *   <li>한 tick 에서 꺼내는 인원은 {@code dispatchMaxPerTick} 을 넘지 않는다 (Lua 스크립트 크기 제한).
+ *       초당 속도 * tick 이 이 값을 넘으면 실제 속도가 {@code dispatchMaxPerTick * 1000 / dispatchTickMs} 로 묶이므로
+ *       경고 로그를 남기고 {@code gate.dispatch.pacer.clamped} gauge 로 노출한다.</li>
+ *   <li>대기열이 비었거나 재고 상한에 걸려 다 쓰지 못한 인원은 {@link #refund(Long, int)} 로 되돌려 다음 tick 에 쓴다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DispatchPacer {
+
+    private final DispatchRateController dispatchRateController;
+    private final GateProperties gateProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /** dispatchMaxPerTick 에 속도가 묶인 event */
+    private final Set<Long> clamped = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("gate.dispatch.pacer.clamped", clamped, Set::size)
+                .description("초당 속도가 dispatchMaxPerTick 에 묶인 event 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 이번 tick 에 dispatch 할 인원
+     */
+    public int permits(Long eventId) {
+        int batchSize = dispatchRateController.batchSize(eventId);
+        if (!gateProperties.isDispatchPacingEnabled() || batchSize <= 0) {
+            return batchSize;
+        }
+
+        double perSecond = batchSize * 1000.0 / gateProperties.getDispatchIntervalMs();
+        checkClamp(eventId, perSecond);
+        return buckets.computeIfAbsent(eventId, id -> new TokenBucket())
+                .take(perSecond, gateProperties.getDispatchCatchUpMs(), gateProperties.getDispatchMaxPerTick());
+    }
+
+    /**
+     * {@link #permits(Long)} 로 받았지만 dispatch 하지 못한 인원을 되돌린다 (적립 상한은 다음 tick 에 적용)
+     */
+    public void refund(Long eventId, int unused) {
+        if (!gateProperties.isDispatchPacingEnabled() || unused <= 0) {
+            return;
+        }
+        TokenBucket bucket = buckets.get(eventId);
+        if (bucket != null) {
+            bucket.refund(unused);
+        }
+    }
+
+    /**
+     * 속도가 dispatchMaxPerTick 에 묶이기 시작 / 풀릴 때 한 번씩 로그를 남긴다
+     */
+    private void checkClamp(Long eventId, double perSecond) {
+        int maxPerTick = gateProperties.getDispatchMaxPerTick();
+        long tickMs = gateProperties.getDispatchTickMs();
+        if (perSecond * tickMs / 1000.0 > maxPerTick) {
+            if (clamped.add(eventId)) {
+                log.warn("Event {} dispatch rate {}/s exceeds dispatchMaxPerTick {} per {}ms tick, capped at {}/s",
+                        eventId, Math.round(perSecond), maxPerTick, tickMs, maxPerTick * 1000 / tickMs);
+            }
+        } else if (clamped.remove(eventId)) {
+            log.info("Event {} dispatch rate {}/s is no longer capped by dispatchMaxPerTick", eventId, Math.round(perSecond));
+        }
+    }
+
+    private static final class TokenBucket {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        int take(double perSecond, long catchUpMs, int maxPerTick) {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                double elapsedSeconds = (now - refilledAt) / (double) TimeUnit.SECONDS.toNanos(1);
+                double capacity = Math.max(1, perSecond * catchUpMs / 1000.0);
+
+                tokens = Math.min(capacity, tokens + elapsedSeconds * perSecond);
+                refilledAt = now;
+
+                int permits = (int) Math.min(Math.floor(tokens), maxPerTick);
+                tokens -= permits;
+                return permits;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void refund(int unused) {
+            lock.lock();
+            try {
+                tokens += unused;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
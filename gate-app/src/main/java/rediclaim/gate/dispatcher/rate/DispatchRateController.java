@@ -0,0 +1,110 @@
+package rediclaim.gate.dispatcher.rate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.event.EventRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * dispatch 수량 조절기 (AIMD).
+ *
+ * <p>dispatch 전략이 tick 마다 {@link #batchSize(Long)} 로 {@code gate.dispatch-interval-ms} 당 dispatch 인원을 받아간다.
+ * 수량 조정은 신호 수집 주기({@code gate.rate-signal-interval-ms})당 최대 한 번이므로, tick 이 짧아져도
+ * (paced dispatch) 증가 / 감소 속도는 달라지지 않는다.</p>
+ * <ul>
+ *   <li>{@code gate.rate-control-enabled=false} : event 설정의 dispatch 수량 고정 ({@link EventRegistry})</li>
+ *   <li>하위 신호가 모두 정상 : {@code rate-increase-step} 만큼 증가 (additive increase)</li>
+ *   <li>하나라도 상한 초과 : {@code rate-decrease-factor} 를 곱해 감소 (multiplicative decrease)</li>
+ *   <li>현재 dispatch 모드의 신호가 하나도 없음 (수집 전 / 오래됨 / issuer 보고 꺼짐) : 유지</li>
+ * </ul>
+ *
+ * <p>event 별 현재 수량은 {@code gate.dispatch.rate} gauge 로 노출된다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DispatchRateController {
+
+    private final DownstreamSignalCollector signalCollector;
+    private final EventRegistry eventRegistry;
+    private final GateProperties gateProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, RateState> rates = new ConcurrentHashMap<>();
+
+    public int batchSize(Long eventId) {
+        int quantity = eventRegistry.settings(eventId).dispatchQuantity();
+        if (!gateProperties.isRateControlEnabled() || quantity <= 0) {
+            return quantity;
+        }
+
+        RateState state = rates.computeIfAbsent(eventId, this::initialRate);
+        AtomicInteger rate = state.rate();
+        if (state.base().getAndSet(quantity) != quantity) {
+            // 운영자가 event 수량을 바꾸면 그 값에서 다시 조절을 시작
+            rate.set(clamp(quantity));
+        }
+        if (!state.tryAdjust(System.currentTimeMillis(), gateProperties.getRateSignalIntervalMs())) {
+            return rate.get();
+        }
+
+        DownstreamSignals signals = signalCollector.snapshot(eventId);
+        if (signals.isEmpty()) {
+            return rate.get();
+        }
+
+        if (isOverloaded(signals)) {
+            int decreased = rate.updateAndGet(r ->
+                    clamp((int) (r * gateProperties.getRateDecreaseFactor())));
+            log.debug("Event {} dispatch rate decreased to {} : {}", eventId, decreased, signals);
+            return decreased;
+        }
+        return rate.updateAndGet(r -> clamp(r + gateProperties.getRateIncreaseStep()));
+    }
+
+    private boolean isOverloaded(DownstreamSignals signals) {
+        return exceeds(signals.issuerP99Ms(), gateProperties.getRateIssuerP99ThresholdMs())
+                || exceeds(signals.issuerErrorRate(), gateProperties.getRateIssuerErrorRateThreshold())
+                || exceeds(signals.workerLag(), gateProperties.getRateWorkerLagThreshold())
+                || exceeds(signals.processingSize(), gateProperties.getRateProcessingSizeThreshold());
+    }
+
+    private static boolean exceeds(Number value, double threshold) {
+        return value != null && value.doubleValue() > threshold;
+    }
+
+    private RateState initialRate(Long eventId) {
+        int quantity = eventRegistry.settings(eventId).dispatchQuantity();
+        AtomicInteger rate = new AtomicInteger(clamp(quantity));
+        Gauge.builder("gate.dispatch.rate", rate, AtomicInteger::get)
+                .tag("eventId", eventId.toString())
+                .register(meterRegistry);
+        return new RateState(rate, new AtomicInteger(quantity), new AtomicLong());
+    }
+
+    private int clamp(int rate) {
+        return Math.max(gateProperties.getRateMinQuantity(), Math.min(gateProperties.getRateMaxQuantity(), rate));
+    }
+
+    /**
+     * @param base 마지막으로 확인한 event 설정 수량 (변경 감지용)
+     */
+    private record RateState(AtomicInteger rate, AtomicInteger base, AtomicLong adjustedAt) {
+
+        /**
+         * 직전 조정 후 intervalMs 가 지났으면 이번 호출이 조정 권한을 가져간다.
+         */
+        boolean tryAdjust(long now, long intervalMs) {
+            long last = adjustedAt.get();
+            return now - last >= intervalMs && adjustedAt.compareAndSet(last, now);
+        }
+    }
+}
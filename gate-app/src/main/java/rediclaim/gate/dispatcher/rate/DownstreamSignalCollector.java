@@ -0,0 +1,213 @@
+package rediclaim.gate.dispatcher.rate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.repository.GateRedisRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * dispatch 속도 조절용 하위 시스템 신호 수집기 ({@code gate.rate-control-enabled=true} 일 때만 수집).
+ *
+ * <p>dispatch 모드({@code gate.dispatch-mode})에서 실제로 발급을 처리하는 쪽의 신호만 수집한다.</p>
+ * <ul>
+ *   <li>active-queue : issuer-api-app p99 / 에러율 - 각 인스턴스가 {@code gate:signals:issuer-api} Hash 에 보고한 값 중 최대값</li>
+ *   <li>kafka : issuer-worker-app consumer lag - Kafka AdminClient 로 조회한 (끝 offset - commit offset) 합</li>
+ *   <li>kafka : processing 인원 - event 별 processing ZSet 크기 (active-queue 모드는 processing 을 쓰지 않아 항상 0)</li>
+ * </ul>
+ *
+ * <p>모든 신호는 {@code gate.rate.signal} gauge 로 노출된다 (수집 전이거나 오래된 신호는 NaN).</p>
+ */
+@Slf4j
+@Component
+public class DownstreamSignalCollector {
+
+    private static final long ADMIN_TIMEOUT_MS = 3000;
+
+    private final GateRedisRepository gateRedisRepository;
+    private final GateProperties gateProperties;
+    private final EventRegistry eventRegistry;
+    private final ObjectProvider<KafkaAdmin> kafkaAdmin;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Sample<Double> issuerP99Ms;
+    private volatile Sample<Double> issuerErrorRate;
+    private volatile Sample<Long> workerLag;
+    private final Map<Long, Sample<Long>> processingSizes = new ConcurrentHashMap<>();
+
+    private AdminClient adminClient;
+
+    public DownstreamSignalCollector(
+            GateRedisRepository gateRedisRepository,
+            GateProperties gateProperties,
+            EventRegistry eventRegistry,
+            ObjectProvider<KafkaAdmin> kafkaAdmin,
+            MeterRegistry meterRegistry
+    ) {
+        this.gateRedisRepository = gateRedisRepository;
+        this.gateProperties = gateProperties;
+        this.eventRegistry = eventRegistry;
+        this.kafkaAdmin = kafkaAdmin;
+        this.meterRegistry = meterRegistry;
+
+        gauge("issuer.p99.ms", () -> fresh(issuerP99Ms));
+        gauge("issuer.error.rate", () -> fresh(issuerErrorRate));
+        gauge("worker.lag", () -> fresh(workerLag));
+    }
+
+    @PreDestroy
+    void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gate.rate-signal-interval-ms:1000}")
+    public void collect() {
+        if (!gateProperties.isRateControlEnabled()) {
+            return;
+        }
+        if (!kafkaMode()) {
+            collectIssuerSignals();
+            return;
+        }
+        collectWorkerLag();
+        for (Long eventId : eventRegistry.eventIds()) {
+            collectProcessingSize(eventId);
+        }
+    }
+
+    /**
+     * 현재 dispatch 모드에 해당하는 신호만 담는다 (나머지는 null).
+     * 해당하는 신호가 하나도 없으면 {@link DownstreamSignals#isEmpty()} 이고 수량은 유지된다.
+     */
+    public DownstreamSignals snapshot(Long eventId) {
+        if (!kafkaMode()) {
+            return new DownstreamSignals(fresh(issuerP99Ms), fresh(issuerErrorRate), null, null);
+        }
+        return new DownstreamSignals(null, null, fresh(workerLag), fresh(processingSizes.get(eventId)));
+    }
+
+    private boolean kafkaMode() {
+        return "kafka".equalsIgnoreCase(gateProperties.getDispatchMode());
+    }
+
+    private void collectIssuerSignals() {
+        try {
+            long now = System.currentTimeMillis();
+            double maxP99 = -1;
+            double maxErrorRate = -1;
+
+            // value = "p99Ms:errorRate:reportedAt"
+            for (Object value : gateRedisRepository.getIssuerSignals().values()) {
+                String[] parts = value.toString().split(":");
+                if (parts.length != 3 || now - Long.parseLong(parts[2]) > gateProperties.getRateSignalMaxAgeMs()) {
+                    continue;
+                }
+                maxP99 = Math.max(maxP99, Double.parseDouble(parts[0]));
+                maxErrorRate = Math.max(maxErrorRate, Double.parseDouble(parts[1]));
+            }
+
+            if (maxP99 >= 0) {
+                issuerP99Ms = new Sample<>(maxP99, now);
+                issuerErrorRate = new Sample<>(maxErrorRate, now);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to collect issuer-api signals : {}", e.getMessage());
+        }
+    }
+
+    private void collectWorkerLag() {
+        String group = gateProperties.getWorkerConsumerGroup();
+        if (!StringUtils.hasText(group) || !StringUtils.hasText(gateProperties.getKafkaTopic())) {
+            return;
+        }
+        try {
+            AdminClient admin = adminClient();
+            if (admin == null) return;
+
+            Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(group)
+                    .partitionsToOffsetAndMetadata()
+                    .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                    .entrySet().stream()
+                    .filter(e -> e.getKey().topic().equals(gateProperties.getKafkaTopic()) && e.getValue() != null)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            if (committed.isEmpty()) return;
+
+            Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+            committed.keySet().forEach(tp -> latest.put(tp, OffsetSpec.latest()));
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> ends = admin.listOffsets(latest)
+                    .all()
+                    .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+            long lag = 0;
+            for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : committed.entrySet()) {
+                lag += Math.max(0, ends.get(entry.getKey()).offset() - entry.getValue().offset());
+            }
+            workerLag = new Sample<>(lag, System.currentTimeMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Failed to collect worker consumer lag : {}", e.getMessage());
+        }
+    }
+
+    private void collectProcessingSize(Long eventId) {
+        try {
+            long size = gateRedisRepository.processingSize(eventId);
+            if (processingSizes.put(eventId, new Sample<>(size, System.currentTimeMillis())) == null) {
+                gauge("processing.size", () -> fresh(processingSizes.get(eventId)), "eventId", eventId.toString());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to collect processing size for event {} : {}", eventId, e.getMessage());
+        }
+    }
+
+    private AdminClient adminClient() {
+        if (adminClient == null) {
+            KafkaAdmin admin = kafkaAdmin.getIfAvailable();
+            if (admin == null) return null;
+            adminClient = AdminClient.create(admin.getConfigurationProperties());
+        }
+        return adminClient;
+    }
+
+    private <T> T fresh(Sample<T> sample) {
+        if (sample == null || System.currentTimeMillis() - sample.collectedAt() > gateProperties.getRateSignalMaxAgeMs()) {
+            return null;
+        }
+        return sample.value();
+    }
+
+    private void gauge(String signal, Supplier<Number> value, String... tags) {
+        Gauge.builder("gate.rate.signal", () -> {
+                    Number n = value.get();
+                    return n == null ? Double.NaN : n.doubleValue();
+                })
+                .tag("signal", signal)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private record Sample<T>(T value, long collectedAt) {
+    }
+}
@@ -0,0 +1,22 @@
+package rediclaim.gate.dispatcher.rate;
+
+/**
+ * dispatch 속도 조절에 사용하는 하위 시스템 신호 스냅샷.
+ * 수집되지 않았거나 오래된 신호는 null 이다.
+ *
+ * @param issuerP99Ms      issuer-api-app 인스턴스 중 최대 p99 응답 시간 (ms)
+ * @param issuerErrorRate  issuer-api-app 인스턴스 중 최대 에러율 (0~1)
+ * @param workerLag        issuer-worker-app consumer lag (전 파티션 합)
+ * @param processingSize   해당 event 의 processing 인원
+ */
+public record DownstreamSignals(
+        Double issuerP99Ms,
+        Double issuerErrorRate,
+        Long workerLag,
+        Long processingSize
+) {
+
+    public boolean isEmpty() {
+        return issuerP99Ms == null && issuerErrorRate == null && workerLag == null && processingSize == null;
+    }
+}
@@ -0,0 +1,163 @@
+package rediclaim.gate.dispatcher.rate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.event.EventSettings;
+import rediclaim.gate.repository.GateRedisRepository;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 남은 재고 기반 dispatch 상한 ({@code gate.stock-cap-enabled=true}).
+ *
+ * <p>판매 후반에 재고보다 훨씬 많은 유저를 입장시켜 issuer / DB 가 OUT_OF_STOCK 만 처리하는 것을 막는다.</p>
+ * <ul>
+ *   <li>남은 재고 : issuer-api-app 이 coupons 테이블에서 읽어 {@code gate:stock:{eventId}} 에 주기적으로 보고한 값.
+ *       발급 결과는 DB 의 남은 재고로 반영된다.</li>
+ *   <li>결과 대기 인원 : 최근 입장 창 (active-queue 는 Active TTL, kafka 는 stale timeout) 동안 입장시킨 인원 중
+ *       아직 발급되지 않은 인원. tick 마다 직전 tick 이후 줄어든 재고(= 발급 성공)를 먼저 입장한 기록부터 차감하고,
+ *       창을 지난 입장 기록은 남은 인원과 함께 버린다 (만료 / 처리된 것으로 봄).
+ *       창 이전에 입장한 유저의 발급이 창 안의 입장에서 빠지지 않으므로 과다 입장하지 않는다.</li>
+ *   <li>이번 tick 상한 = {@code floor(남은 재고 * stockOverAdmissionFactor) - 결과 대기 인원}</li>
+ * </ul>
+ *
+ * <p>입장 기록은 dispatch 를 담당하는 replica 의 메모리에만 있으므로, 소유권이 넘어가면 새 담당 replica 는
+ * 빈 창으로 시작한다 (최대 한 번의 상한만큼 더 입장될 수 있음). 재고 보고가 없으면 상한을 두지 않는다.
+ * 종료된 event 의 입장 기록은 주기적으로 정리한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockBudget {
+
+    private final GateRedisRepository gateRedisRepository;
+    private final GateProperties gateProperties;
+    private final EventRegistry eventRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, AdmissionWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * @param permits DispatchPacer 가 정한 이번 tick 인원
+     * @return 재고 상한을 적용한 인원
+     */
+    public int cap(Long eventId, int permits) {
+        if (!gateProperties.isStockCapEnabled() || permits <= 0) {
+            return permits;
+        }
+
+        OptionalLong remaining;
+        try {
+            remaining = gateRedisRepository.remainingStock(eventId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read remaining stock for event {} : {}", eventId, e.getMessage());
+            return permits;
+        }
+        if (remaining.isEmpty()) {
+            return permits;
+        }
+
+        AdmissionWindow window = windows.computeIfAbsent(eventId, id -> new AdmissionWindow());
+        long allowed = (long) Math.floor(remaining.getAsLong() * gateProperties.getStockOverAdmissionFactor())
+                - window.inFlight(remaining.getAsLong(), System.currentTimeMillis() - windowMs(eventId));
+
+        int capped = (int) Math.max(0, Math.min(permits, allowed));
+        if (capped < permits) {
+            cappedCounter(eventId).increment(permits - capped);
+        }
+        return capped;
+    }
+
+    /**
+     * 실제로 입장시킨 인원 기록 (dispatch 직후 호출)
+     */
+    public void recordAdmitted(Long eventId, int admitted) {
+        if (!gateProperties.isStockCapEnabled() || admitted <= 0) {
+            return;
+        }
+        AdmissionWindow window = windows.get(eventId);
+        if (window != null) {
+            window.record(System.currentTimeMillis(), admitted);
+        }
+    }
+
+    /**
+     * 레지스트리에서 빠진 (종료된) event 의 입장 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${gate.event-registry-refresh-ms:5000}")
+    public void evictClosedEvents() {
+        windows.keySet().removeIf(eventId -> !eventRegistry.isRegistered(eventId));
+    }
+
+    private long windowMs(Long eventId) {
+        EventSettings settings = eventRegistry.settings(eventId);
+        return "kafka".equalsIgnoreCase(gateProperties.getDispatchMode())
+                ? settings.staleTimeoutMs()
+                : settings.activeTtlSeconds() * 1000;
+    }
+
+    private Counter cappedCounter(Long eventId) {
+        return Counter.builder("gate.stock.capped")
+                .description("남은 재고 상한으로 이번 tick 에 입장시키지 않은 인원")
+                .tag("eventId", eventId.toString())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최근 입장 기록. dispatch 는 event 당 한 스레드에서만 실행되지만 안전하게 동기화한다.
+     */
+    private static final class AdmissionWindow {
+
+        private static final class Admission {
+            private final long atMs;
+            private long pending;
+
+            private Admission(long atMs, long pending) {
+                this.atMs = atMs;
+                this.pending = pending;
+            }
+        }
+
+        private final Deque<Admission> admissions = new ArrayDeque<>();
+        private long pending;
+        private long lastRemaining = -1;
+
+        /**
+         * @return 창 안에서 입장했지만 아직 발급되지 않은 인원
+         */
+        synchronized long inFlight(long remaining, long windowStartMs) {
+            // 직전 관측 이후의 발급을 먼저 입장한 기록부터 차감 (재고가 늘어난 경우는 발급 없음)
+            long issued = lastRemaining < 0 ? 0 : Math.max(0, lastRemaining - remaining);
+            lastRemaining = remaining;
+            for (Admission admission : admissions) {
+                if (issued == 0) {
+                    break;
+                }
+                long consumed = Math.min(issued, admission.pending);
+                admission.pending -= consumed;
+                pending -= consumed;
+                issued -= consumed;
+            }
+
+            while (!admissions.isEmpty() && admissions.peekFirst().atMs < windowStartMs) {
+                pending -= admissions.pollFirst().pending;
+            }
+            return pending;
+        }
+
+        synchronized void record(long atMs, int count) {
+            admissions.addLast(new Admission(atMs, count));
+            pending += count;
+        }
+    }
+}
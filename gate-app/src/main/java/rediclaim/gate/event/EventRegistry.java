@@ -0,0 +1,170 @@
+package rediclaim.gate.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.repository.EventRegistryRedisRepository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * dispatch 대상 event 목록과 event 별 설정의 로컬 캐시.
+ *
+ * <p>원본은 Redis 레지스트리({@link EventRegistryRedisRepository})이며, 운영자가 admin API 로 event 를
+ * 등록 / 종료하거나 설정을 바꾸면 {@code gate:events:changed} pub/sub 으로 모든 replica 가 즉시 다시 읽는다.
+ * pub/sub 유실에 대비해 {@code gate.event-registry-refresh-ms} 주기로도 다시 읽는다.</p>
+ *
+ * <ul>
+ *   <li>최초 배포에 한 번만 {@code gate.event-ids} 로 초기화한다 ({@code gate:events:seeded} 로 표시).
+ *       마지막 event 를 종료해 {@code gate:events} 가 사라져도 다시 초기화하지 않는다.</li>
+ *   <li>Redis 에서 읽기 전이거나 읽기에 실패하면 마지막으로 읽은 값(없으면 {@code gate.event-ids})을 사용한다.</li>
+ *   <li>event 별로 값이 없는 설정은 {@code GateProperties} 의 전역 값을 사용한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventRegistry implements MessageListener {
+
+    static final String DISPATCH_QUANTITY = "dispatchQuantity";
+    static final String ACTIVE_TTL_SECONDS = "activeTtlSeconds";
+    static final String STALE_TIMEOUT_MS = "staleTimeoutMs";
+
+    private final EventRegistryRedisRepository eventRegistryRedisRepository;
+    private final GateProperties gateProperties;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Map<Long, EventSettings> events;
+
+    /**
+     * dispatch 대상 eventId 목록
+     */
+    public List<Long> eventIds() {
+        Map<Long, EventSettings> current = events;
+        if (current == null) {
+            List<Long> configured = gateProperties.getEventIds();
+            return configured == null ? List.of() : configured;
+        }
+        return List.copyOf(current.keySet());
+    }
+
+    /**
+     * 등록된 (종료되지 않은) event 인지 여부
+     */
+    public boolean isRegistered(Long eventId) {
+        return eventIds().contains(eventId);
+    }
+
+    public EventSettings settings(Long eventId) {
+        Map<Long, EventSettings> current = events;
+        EventSettings settings = current == null ? null : current.get(eventId);
+        return settings != null ? settings : defaults();
+    }
+
+    /**
+     * event 등록 또는 설정 변경. null 인 항목은 기존 값을 유지한다 (신규 event 는 전역 설정).
+     */
+    public EventSettings register(Long eventId, Integer dispatchQuantity, Long activeTtlSeconds, Long staleTimeoutMs) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        if (dispatchQuantity != null) fields.put(DISPATCH_QUANTITY, dispatchQuantity.toString());
+        if (activeTtlSeconds != null) fields.put(ACTIVE_TTL_SECONDS, activeTtlSeconds.toString());
+        if (staleTimeoutMs != null) fields.put(STALE_TIMEOUT_MS, staleTimeoutMs.toString());
+
+        eventRegistryRedisRepository.register(eventId, fields);
+        eventRegistryRedisRepository.publishChanged(eventId);
+        reload();
+        log.info("Registered event {} {}", eventId, fields);
+        return settings(eventId);
+    }
+
+    /**
+     * event 종료 - 이후 dispatch 하지 않는다. 이미 대기열에 있는 유저는 그대로 남는다.
+     */
+    public void close(Long eventId) {
+        eventRegistryRedisRepository.close(eventId);
+        eventRegistryRedisRepository.publishChanged(eventId);
+        reload();
+        log.info("Closed event {}", eventId);
+    }
+
+    public Map<Long, EventSettings> snapshot() {
+        Map<Long, EventSettings> snapshot = new LinkedHashMap<>();
+        eventIds().forEach(eventId -> snapshot.put(eventId, settings(eventId)));
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            List<Long> configured = gateProperties.getEventIds();
+            // 표시 전에 이미 레지스트리가 있으면 (표시 도입 이전 배포) 초기화하지 않고 표시만 남긴다
+            if (configured != null && !configured.isEmpty()
+                    && eventRegistryRedisRepository.markSeeded() && !eventRegistryRedisRepository.exists()) {
+                configured.forEach(eventId -> eventRegistryRedisRepository.register(eventId, Map.of()));
+                log.info("Seeded event registry with {}", configured);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to seed event registry : {}", e.getMessage());
+        }
+        reload();
+    }
+
+    /**
+     * 다른 replica 의 변경 알림 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${gate.event-registry-refresh-ms:5000}")
+    public void refresh() {
+        reload();
+    }
+
+    private void reload() {
+        reloadLock.lock();
+        try {
+            Map<Long, EventSettings> loaded = new LinkedHashMap<>();
+            for (String id : eventRegistryRedisRepository.eventIds()) {
+                Long eventId = Long.parseLong(id);
+                loaded.put(eventId, parse(eventRegistryRedisRepository.settings(eventId)));
+            }
+            events = Collections.unmodifiableMap(loaded);
+        } catch (Exception e) {
+            log.warn("Failed to reload event registry, keeping previous settings : {}", e.getMessage());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private EventSettings parse(Map<Object, Object> fields) {
+        EventSettings defaults = defaults();
+        return new EventSettings(
+                fields.containsKey(DISPATCH_QUANTITY)
+                        ? Integer.parseInt(fields.get(DISPATCH_QUANTITY).toString()) : defaults.dispatchQuantity(),
+                fields.containsKey(ACTIVE_TTL_SECONDS)
+                        ? Long.parseLong(fields.get(ACTIVE_TTL_SECONDS).toString()) : defaults.activeTtlSeconds(),
+                fields.containsKey(STALE_TIMEOUT_MS)
+                        ? Long.parseLong(fields.get(STALE_TIMEOUT_MS).toString()) : defaults.staleTimeoutMs()
+        );
+    }
+
+    private EventSettings defaults() {
+        return new EventSettings(
+                gateProperties.getDispatchQuantity(),
+                gateProperties.getActiveTtlSeconds(),
+                gateProperties.getStaleTimeoutMs()
+        );
+    }
+}
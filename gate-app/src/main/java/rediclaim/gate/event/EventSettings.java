@@ -0,0 +1,16 @@
+package rediclaim.gate.event;
+
+/**
+ * event 별 dispatch 설정.
+ * Redis 에 값이 없는 항목은 {@code GateProperties} 의 전역 설정을 사용한다.
+ *
+ * @param dispatchQuantity  dispatchIntervalMs 당 dispatch 인원 (자동 조절 사용 시 초기값)
+ * @param activeTtlSeconds  Active Queue TTL (초)
+ * @param staleTimeoutMs    processing stale 판단 시간 (ms)
+ */
+public record EventSettings(
+        int dispatchQuantity,
+        long activeTtlSeconds,
+        long staleTimeoutMs
+) {
+}
@@ -0,0 +1,45 @@
+package rediclaim.gate.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.config.GateProperties;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 품절된 event 의 로컬 latch ({@code gate.sold-out-enabled=true}).
+ *
+ * <p>품절 event 에 대해서는 enqueue / 상태 조회가 Redis 호출 없이 SOLD_OUT 으로 응답하고, dispatch 를 멈춘다.
+ * 운영자가 admin API 로 event 를 다시 등록해 품절이 해제될 때만 되돌린다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SoldOutRegistry {
+
+    private final GateProperties gateProperties;
+
+    private final Set<Long> soldOut = ConcurrentHashMap.newKeySet();
+
+    public boolean enabled() {
+        return gateProperties.isSoldOutEnabled();
+    }
+
+    public boolean isSoldOut(Long eventId) {
+        return !soldOut.isEmpty() && soldOut.contains(eventId);
+    }
+
+    /**
+     * @return 이번 호출로 처음 품절 처리된 경우 true
+     */
+    public boolean markSoldOut(Long eventId) {
+        return enabled() && soldOut.add(eventId);
+    }
+
+    /**
+     * @return 품절 상태였다가 이번 호출로 해제된 경우 true
+     */
+    public boolean reset(Long eventId) {
+        return soldOut.remove(eventId);
+    }
+}
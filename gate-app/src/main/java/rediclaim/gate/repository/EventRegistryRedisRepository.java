@@ -0,0 +1,68 @@
+package rediclaim.gate.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * event 레지스트리 저장소.
+ *
+ * <ul>
+ *   <li>{@code gate:events} (Set) : dispatch 대상 eventId 목록</li>
+ *   <li>{@code gate:event:{eventId}} (Hash) : event 별 설정 (dispatchQuantity / activeTtlSeconds / staleTimeoutMs)</li>
+ *   <li>{@code gate:events:seeded} (String) : {@code gate.event-ids} 초기화 완료 표시 (만료 없음)</li>
+ *   <li>{@code gate:events:changed} (pub/sub) : 변경된 eventId 전파 → 각 replica 가 로컬 캐시를 다시 읽는다</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventRegistryRedisRepository {
+
+    public static final String EVENTS_KEY = "gate:events";
+    public static final String SEEDED_KEY = "gate:events:seeded";
+    public static final String CHANGED_CHANNEL = "gate:events:changed";
+
+    private final StringRedisTemplate redisTemplate;
+    private final GateKeys keys;
+
+    public boolean exists() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(EVENTS_KEY));
+    }
+
+    /**
+     * 초기화 완료 표시 (SETNX)
+     *
+     * @return 이번 호출이 처음 표시했으면 true
+     */
+    public boolean markSeeded() {
+        return Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(SEEDED_KEY, String.valueOf(System.currentTimeMillis())));
+    }
+
+    public Set<String> eventIds() {
+        return redisTemplate.opsForSet().members(EVENTS_KEY);
+    }
+
+    public Map<Object, Object> settings(Long eventId) {
+        return redisTemplate.opsForHash().entries(keys.eventSettingsKey(eventId));
+    }
+
+    public void register(Long eventId, Map<String, String> settings) {
+        redisTemplate.opsForSet().add(EVENTS_KEY, eventId.toString());
+        if (!settings.isEmpty()) {
+            redisTemplate.opsForHash().putAll(keys.eventSettingsKey(eventId), settings);
+        }
+    }
+
+    public void close(Long eventId) {
+        redisTemplate.opsForSet().remove(EVENTS_KEY, eventId.toString());
+        redisTemplate.delete(keys.eventSettingsKey(eventId));
+    }
+
+    public void publishChanged(Long eventId) {
+        redisTemplate.convertAndSend(CHANGED_CHANNEL, eventId.toString());
+    }
+}
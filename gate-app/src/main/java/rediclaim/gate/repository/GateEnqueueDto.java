@@ -1,7 +1,15 @@
 package rediclaim.gate.repository;
 
+/**
+ * @param ticket 대기열 번호표 (gate:queue:rank:{eventId} 에서 발급된 단조 증가 값)
+ */
 public record GateEnqueueDto(
         boolean enqueued,
-        Long rank
+        Long rank,
+        Long ticket
 ) {
+
+    public GateEnqueueDto(boolean enqueued, Long rank) {
+        this(enqueued, rank, null);
+    }
 }
@@ -0,0 +1,112 @@
+package rediclaim.gate.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.config.GateProperties;
+
+/**
+ * gate-app Redis 키 규칙.
+ *
+ * <p>Redis Cluster 에서 한 Lua 스크립트가 접근하는 키는 모두 같은 slot 에 있어야 하므로
+ * 중괄호 hash tag 로 slot 을 고정한다.</p>
+ * <ul>
+ *   <li>event 단위 키 (번호표 카운터, head cursor) : {@code {eventId}}</li>
+ *   <li>shard 단위 키 (대기열, processing) : shard 가 1개면 {@code {eventId}}, 여러 개면 {@code {eventId:shard}}</li>
+ * </ul>
+ *
+ * <p>shard 가 1개이면 한 event 의 모든 키가 같은 slot 에 있으므로 기존처럼 한 스크립트로 원자적으로 처리한다.
+ * shard 를 늘리면 hot event 하나의 대기열을 여러 cluster 노드로 분산할 수 있다.
+ * shard 수는 대기열이 비어 있을 때만 변경해야 한다 (userId → shard 매핑이 바뀌기 때문).</p>
+ *
+ * <p>Active Key ({@code gate:active:{eventId}:{userId}}) 와 Active Index ({@code gate:active:index:{eventId}}) 는
+ * issuer-api-app 과 공유하는 형식이다. 둘 다 {@code {eventId}} slot 에 있으므로 shard 가 1개일 때
+ * pop-to-active 스크립트가 대기열과 함께 KEYS 로 선언해 접근한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class GateKeys {
+
+    /** issuer-api-app 이 주기적으로 보고하는 응답 시간 / 에러율 (issuer-api-app 과 공유하는 형식) */
+    public static final String ISSUER_SIGNALS_KEY = "gate:signals:issuer-api";
+
+    /** 살아 있는 gate replica 목록 (ZSet, member = instanceId, score = 마지막 heartbeat) */
+    public static final String MEMBERS_KEY = "gate:members";
+
+    private final GateProperties gateProperties;
+
+    public int shards() {
+        return Math.max(1, gateProperties.getQueueShards());
+    }
+
+    public boolean sharded() {
+        return shards() > 1;
+    }
+
+    public int shardOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) shards());
+    }
+
+    // ── event 단위 ───────────────────────────────────────────────────────────
+
+    public String queueRankKey(Long eventId) {
+        return "gate:queue:rank:" + eventTag(eventId);
+    }
+
+    public String queueHeadKey(Long eventId) {
+        return "gate:queue:head:" + eventTag(eventId);
+    }
+
+    public String eventSettingsKey(Long eventId) {
+        return "gate:event:" + eventTag(eventId);
+    }
+
+    public String ownerKey(Long eventId) {
+        return "gate:owner:" + eventTag(eventId);
+    }
+
+    /** keys 모드 Active Key (issuer-api-app 과 공유하는 형식) */
+    public String activeKey(Long eventId, Long userId) {
+        return "gate:active:" + eventTag(eventId) + ":" + userId;
+    }
+
+    /** index 모드 Active Queue (issuer-api-app 과 공유하는 형식) */
+    public String activeIndexKey(Long eventId) {
+        return "gate:active:index:" + eventTag(eventId);
+    }
+
+    public boolean activeIndexed() {
+        return "index".equalsIgnoreCase(gateProperties.getActiveStore());
+    }
+
+    /** 품절 플래그 (issuer-api-app / issuer-worker-app 과 공유하는 형식) */
+    public String soldOutKey(Long eventId) {
+        return "gate:soldout:" + eventTag(eventId);
+    }
+
+    /** issuer-api-app 이 보고하는 남은 재고 (issuer-api-app 과 공유하는 형식) */
+    public String stockKey(Long eventId) {
+        return "gate:stock:" + eventTag(eventId);
+    }
+
+    // ── shard 단위 ───────────────────────────────────────────────────────────
+
+    public String queueKey(Long eventId, int shard) {
+        return "gate:queue:" + shardTag(eventId, shard);
+    }
+
+    public String processingKey(Long eventId, int shard) {
+        return "gate:processing:" + shardTag(eventId, shard);
+    }
+
+    public String processingRankKey(Long eventId, int shard) {
+        return "gate:processing:rank:" + shardTag(eventId, shard);
+    }
+
+    private String eventTag(Long eventId) {
+        return "{" + eventId + "}";
+    }
+
+    private String shardTag(Long eventId, int shard) {
+        return sharded() ? "{" + eventId + ":" + shard + "}" : eventTag(eventId);
+    }
+}
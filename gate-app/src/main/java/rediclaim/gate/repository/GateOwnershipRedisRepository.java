@@ -0,0 +1,56 @@
+package rediclaim.gate.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import rediclaim.gate.repository.script.GateScript;
+import rediclaim.gate.repository.script.GateScriptRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * gate replica 간 event dispatch 소유권(lease) 저장소.
+ *
+ * <ul>
+ *   <li>{@code gate:members} (ZSet) : 살아 있는 replica 목록, score = 마지막 heartbeat (ms)</li>
+ *   <li>{@code gate:owner:{eventId}} (String, PX) : event 를 dispatch 하는 replica instanceId</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class GateOwnershipRedisRepository {
+
+    private final StringRedisTemplate redisTemplate;
+    private final GateScriptRegistry scriptRegistry;
+    private final GateKeys keys;
+
+    /**
+     * heartbeat 기록 후 memberTtlMs 이상 heartbeat 가 없는 replica 를 정리하고, 살아 있는 replica 목록을 반환한다.
+     */
+    public Set<String> heartbeat(String instanceId, long now, long memberTtlMs) {
+        redisTemplate.opsForZSet().add(GateKeys.MEMBERS_KEY, instanceId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(GateKeys.MEMBERS_KEY, 0, now - memberTtlMs);
+        return redisTemplate.opsForZSet().range(GateKeys.MEMBERS_KEY, 0, -1);
+    }
+
+    public void leave(String instanceId) {
+        redisTemplate.opsForZSet().remove(GateKeys.MEMBERS_KEY, instanceId);
+    }
+
+    public boolean tryAcquire(Long eventId, String instanceId, long leaseMs) {
+        return Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(keys.ownerKey(eventId), instanceId, Duration.ofMillis(leaseMs)));
+    }
+
+    public boolean renew(Long eventId, String instanceId, long leaseMs) {
+        Long renewed = scriptRegistry.execute(
+                GateScript.LEASE_RENEW, List.of(keys.ownerKey(eventId)), instanceId, String.valueOf(leaseMs));
+        return renewed != null && renewed == 1;
+    }
+
+    public void release(Long eventId, String instanceId) {
+        scriptRegistry.execute(GateScript.LEASE_RELEASE, List.of(keys.ownerKey(eventId)), instanceId);
+    }
+}
@@ -1,90 +1,163 @@
 package rediclaim.gate.repository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Repository;
+import rediclaim.gate.repository.script.GateScript;
+import rediclaim.gate.repository.script.GateScriptRegistry;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * gate-app 대기열 Redis 저장소.
+ *
+ * <p>키 규칙과 shard 배치는 {@link GateKeys} 를 따른다.</p>
+ * <ul>
+ *   <li>shard 1개 (기본) : 한 event 의 모든 키가 같은 slot 이므로 기존처럼 Lua 한 번으로 원자적으로 처리</li>
+ *   <li>shard N개 : 번호표는 event 단위 카운터에서 전역 순서로 발급하고, 대기열은 userId 기준 N개 ZSet 으로 분산.
+ *       순번은 shard 별 "내 ticket 보다 작은 인원" 의 합, dispatch 는 shard 간 ticket 기준 k-way merge</li>
+ * </ul>
+ */
 @Repository
 @RequiredArgsConstructor
 public class GateRedisRepository {
 
     private final StringRedisTemplate redisTemplate;
-
-    private static final String QUEUE_KEY_PREFIX = "gate:queue:";
-    private static final String QUEUE_RANK_KEY_PREFIX = "gate:queue:rank:";
-
-    private static final String PROCESSING_KEY_PREFIX = "gate:processing:";
-    private static final String PROCESSING_RANK_KEY_PREFIX = "gate:processing:rank:";
-
-    private static final String ACTIVE_KEY_PREFIX = "gate:active:";
-
-    private String queueKey(Long eventId) {
-        return QUEUE_KEY_PREFIX + eventId;
-    }
-    private String queueRankKey(Long eventId) {
-        return QUEUE_RANK_KEY_PREFIX + eventId;
-    }
-    private String processingKey(Long eventId) {
-        return PROCESSING_KEY_PREFIX + eventId;
-    }
-    private String processingRankKey(Long eventId) {
-        return PROCESSING_RANK_KEY_PREFIX + eventId;
-    }
+    private final GateScriptRegistry scriptRegistry;
+    private final GateKeys keys;
 
     /**
      * 대기열에 유저 추가
      */
     public GateEnqueueDto enqueueLua(Long eventId, Long userId) {
-        String qKey = queueKey(eventId);
-        String rKey = queueRankKey(eventId);
+        if (keys.sharded()) {
+            return enqueueSharded(eventId, List.of(userId)).get(0);
+        }
+
+        String qKey = keys.queueKey(eventId, 0);
+        String rKey = keys.queueRankKey(eventId);
         String val = userId.toString();
 
-        String lua = """
-            local qKey = KEYS[1]
-            local rKey = KEYS[2]
-            local val = ARGV[1]
-            
-            -- 1. 이미 대기열에 있는지 확인 (중복 방지)
-            if redis.call('ZSCORE', qKey, val) then
-                return {0, redis.call('ZRANK', qKey, val)}
-            end
-            
-            -- 2. 번호표 발급 (Atomic Increment)
-            local score = redis.call('INCR', rKey)
-            
-            -- 3. 대기열 추가
-            redis.call('ZADD', qKey, score, val)
-            
-            -- 4. 현재 순번 조회
-            local rank = redis.call('ZRANK', qKey, val)
-            
-            return {1, rank}
-        """;
-
-        DefaultRedisScript<List> script = new DefaultRedisScript<>();
-        script.setScriptText(lua);
-        script.setResultType(List.class);
-
-        // 결과: [isNew(1/0), rank(Long)]
-        List<Long> result = redisTemplate.execute(script, List.of(qKey, rKey), val);
+        // 결과: [isNew(1/0), rank(Long), ticket(Long)]
+        List<Long> result = scriptRegistry.execute(GateScript.ENQUEUE, List.of(qKey, rKey), val);
 
         if (result.isEmpty()) return new GateEnqueueDto(false, -1L);
 
-        return new GateEnqueueDto(result.get(0) == 1, result.get(1));
+        return new GateEnqueueDto(result.get(0) == 1, result.get(1), result.get(2));
+    }
+
+    /**
+     * 여러 유저를 한 번의 Lua 호출로 대기열에 추가 (enqueue coalescing 용)
+     * - userIds 순서대로 번호표를 발급하므로 도착 순서가 유지된다
+     *
+     * @return userIds 와 같은 순서의 입장 결과
+     */
+    public List<GateEnqueueDto> enqueueBatchLua(Long eventId, List<Long> userIds) {
+        if (keys.sharded()) {
+            return enqueueSharded(eventId, userIds);
+        }
+
+        String qKey = keys.queueKey(eventId, 0);
+        String rKey = keys.queueRankKey(eventId);
+        String[] vals = userIds.stream().map(String::valueOf).toArray(String[]::new);
+
+        // 결과: [isNew(1/0), rank(Long), ticket(Long), isNew, rank, ticket ...]
+        List<Long> result = scriptRegistry.execute(GateScript.ENQUEUE_BATCH, List.of(qKey, rKey), vals);
+
+        List<GateEnqueueDto> dtos = new ArrayList<>(userIds.size());
+        for (int i = 0; i < result.size(); i += 3) {
+            dtos.add(new GateEnqueueDto(result.get(i) == 1, result.get(i + 1), result.get(i + 2)));
+        }
+        return dtos;
+    }
+
+    /**
+     * shard 대기열 입장
+     * 1. event 카운터에서 인원수만큼 번호표를 한 번에 발급 (INCRBY) — 도착 순서 = 번호표 순서
+     * 2. shard 별로 묶어 enqueue-shard 스크립트 실행 (이미 대기 중이면 기존 번호표 유지)
+     * 3. 전 shard 에서 내 번호표보다 작은 인원 수를 합산해 순번 계산
+     */
+    private List<GateEnqueueDto> enqueueSharded(Long eventId, List<Long> userIds) {
+        Long last = redisTemplate.opsForValue().increment(keys.queueRankKey(eventId), userIds.size());
+        long first = last - userIds.size() + 1;
+
+        Map<Integer, List<Integer>> indexesByShard = new LinkedHashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            indexesByShard.computeIfAbsent(keys.shardOf(userIds.get(i)), s -> new ArrayList<>()).add(i);
+        }
+
+        boolean[] enqueued = new boolean[userIds.size()];
+        List<Long> tickets = new ArrayList<>(Collections.nCopies(userIds.size(), 0L));
+
+        indexesByShard.forEach((shard, indexes) -> {
+            List<String> args = new ArrayList<>(indexes.size() * 2);
+            for (int i : indexes) {
+                args.add(userIds.get(i).toString());
+                args.add(String.valueOf(first + i));
+            }
+
+            // 결과: [isNew(1/0), ticket(Long), isNew, ticket ...]
+            List<Long> result = scriptRegistry.execute(
+                    GateScript.ENQUEUE_SHARD,
+                    List.of(keys.queueKey(eventId, shard)),
+                    args.toArray(String[]::new)
+            );
+            for (int j = 0; j < indexes.size(); j++) {
+                enqueued[indexes.get(j)] = result.get(j * 2) == 1;
+                tickets.set(indexes.get(j), result.get(j * 2 + 1));
+            }
+        });
+
+        List<Long> ranks = countAhead(eventId, tickets);
+        List<GateEnqueueDto> dtos = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            dtos.add(new GateEnqueueDto(enqueued[i], ranks.get(i), tickets.get(i)));
+        }
+        return dtos;
     }
 
     /**
      * 현재 대기 순번 조회 (0-based)
      */
     public Optional<Long> getRank(Long eventId, Long userId) {
-        Long rank = redisTemplate.opsForZSet().rank(queueKey(eventId), userId.toString());
-        return Optional.ofNullable(rank);
+        if (!keys.sharded()) {
+            Long rank = redisTemplate.opsForZSet().rank(keys.queueKey(eventId, 0), userId.toString());
+            return Optional.ofNullable(rank);
+        }
+        return getTicket(eventId, userId).map(ticket -> countAhead(eventId, List.of(ticket)).get(0));
+    }
+
+    /**
+     * 대기 중인 유저의 번호표(ticket) 조회
+     */
+    public Optional<Long> getTicket(Long eventId, Long userId) {
+        Double score = redisTemplate.opsForZSet().score(keys.queueKey(eventId, keys.shardOf(userId)), userId.toString());
+        return Optional.ofNullable(score).map(Double::longValue);
+    }
+
+    /**
+     * 지금까지 dispatch 된 최대 ticket (head cursor) 조회
+     * - pop 스크립트가 갱신하며, 아직 dispatch 가 없었다면 0
+     */
+    public long getDispatchedHead(Long eventId) {
+        String head = redisTemplate.opsForValue().get(keys.queueHeadKey(eventId));
+        return head == null ? 0L : Long.parseLong(head);
     }
 
     /**
@@ -92,7 +165,35 @@ public class GateRedisRepository {
      */
     public boolean isProcessing(Long eventId, Long userId) {
         // ZSCORE가 존재하면 Processing 상태임 (Score는 timestamp)
-        return redisTemplate.opsForZSet().score(processingKey(eventId), userId.toString()) != null;
+        String pKey = keys.processingKey(eventId, keys.shardOf(userId));
+        return redisTemplate.opsForZSet().score(pKey, userId.toString()) != null;
+    }
+
+    /**
+     * processing 인원 수 (전 shard 합) - dispatch 속도 조절 신호
+     */
+    public long processingSize(Long eventId) {
+        long total = 0;
+        for (int shard = 0; shard < keys.shards(); shard++) {
+            Long size = redisTemplate.opsForZSet().zCard(keys.processingKey(eventId, shard));
+            total += size == null ? 0 : size;
+        }
+        return total;
+    }
+
+    /**
+     * issuer-api-app 이 DB 에서 읽어 보고한 남은 재고 (보고가 없거나 만료되었으면 empty)
+     */
+    public OptionalLong remainingStock(Long eventId) {
+        String remaining = redisTemplate.opsForValue().get(keys.stockKey(eventId));
+        return remaining == null ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(remaining));
+    }
+
+    /**
+     * issuer-api-app 인스턴스별 신호 조회 (field = instanceId, value = "p99Ms:errorRate:reportedAt")
+     */
+    public Map<Object, Object> getIssuerSignals() {
+        return redisTemplate.opsForHash().entries(GateKeys.ISSUER_SIGNALS_KEY);
     }
 
     /**
@@ -100,59 +201,53 @@ public class GateRedisRepository {
      * - Queue ZSet: (Member=userId, Score=ticket) 제거
      * - Processing ZSet: (Member=userId, Score=now) 추가 -> 타임아웃 용도
      * - Processing Ticket Hash: (Field=userId, Value=ticket) 추가 -> 티켓번호 보존 용도
-     * - 반환값: [userId, ticket, userId, ticket ...]
+     * - head cursor 를 이동된 최대 ticket 으로 갱신
+     * - 반환값: [userId, ticket, userId, ticket ...] (ticket 오름차순)
      */
     public List<String> popToProcessing(Long eventId, int batchSize) {
-        String qKey = queueKey(eventId);
-        String pKey = processingKey(eventId);
-        String tKey = processingRankKey(eventId); // Ticket Hash Key
-
-        String lua = """
-            local qKey = KEYS[1]
-            local pKey = KEYS[2]
-            local tKey = KEYS[3]
-            local count = tonumber(ARGV[1])
-            local now = tonumber(ARGV[2])
-
-            -- 1. 대기열 상위 N명 조회 (값, 점수 함께 조회)
-            -- returns {u1, ticket1, u2, ticket2, ...}
-            local members = redis.call('ZRANGE', qKey, 0, count - 1, 'WITHSCORES')
-            if #members == 0 then
-                return {}
-            end
-
-            -- 2. Processing 이동 (ZSet + Hash 분리 저장)
-            for i = 1, #members, 2 do
-                local user = members[i]
-                local ticket = members[i+1] -- 원래 점수(번호표)
-                
-                -- A. Queue 제거
-                redis.call('ZREM', qKey, user)
-                
-                -- B. Processing ZSet 추가 (Score = Timestamp)
-                redis.call('ZADD', pKey, now, user)
-                
-                -- C. Ticket Hash 저장 (Key = User, Val = Ticket)
-                redis.call('HSET', tKey, user, ticket)
-            end
-
-            -- 3. 결과 반환 (Java 단에서 Dispatcher로 넘기기 위함)
-            return members
-        """;
-
-        DefaultRedisScript<List> script = new DefaultRedisScript<>();
-        script.setScriptText(lua);
-        script.setResultType(List.class);
-
-        List<String> result = redisTemplate.execute(
-                script,
-                List.of(qKey, pKey, tKey),
-                String.valueOf(batchSize),
-                String.valueOf(System.currentTimeMillis())
-        );
-
-        if (result == null) return Collections.emptyList();
-        return result;
+        String now = String.valueOf(System.currentTimeMillis());
+
+        if (!keys.sharded()) {
+            List<String> result = scriptRegistry.execute(
+                    GateScript.POP_TO_PROCESSING,
+                    List.of(keys.queueKey(eventId, 0), keys.processingKey(eventId, 0),
+                            keys.processingRankKey(eventId, 0), keys.queueHeadKey(eventId)),
+                    String.valueOf(batchSize),
+                    now
+            );
+
+            if (result == null) return Collections.emptyList();
+            return result;
+        }
+
+        // shard 별 선두를 ticket 기준으로 merge 한 뒤, shard 단위로 이동
+        List<QueueEntry> moved = new ArrayList<>();
+        groupByShard(peekHead(eventId, batchSize)).forEach((shard, entries) -> {
+            List<String> args = new ArrayList<>(entries.size() + 1);
+            args.add(now);
+            entries.forEach(e -> args.add(e.userId()));
+
+            List<String> result = scriptRegistry.execute(
+                    GateScript.MOVE_TO_PROCESSING,
+                    List.of(keys.queueKey(eventId, shard), keys.processingKey(eventId, shard),
+                            keys.processingRankKey(eventId, shard)),
+                    args.toArray(String[]::new)
+            );
+            for (int i = 0; i < result.size(); i += 2) {
+                moved.add(new QueueEntry(result.get(i), (long) Double.parseDouble(result.get(i + 1)), shard));
+            }
+        });
+        if (moved.isEmpty()) return Collections.emptyList();
+
+        moved.sort(Comparator.comparingLong(QueueEntry::ticket));
+        advanceHead(eventId, moved.get(moved.size() - 1).ticket());
+
+        List<String> flat = new ArrayList<>(moved.size() * 2);
+        for (QueueEntry entry : moved) {
+            flat.add(entry.userId());
+            flat.add(String.valueOf(entry.ticket()));
+        }
+        return flat;
     }
 
     /**
@@ -161,131 +256,299 @@ public class GateRedisRepository {
      * - Ticket Hash 에서도 제거
      */
     public void removeFromProcessing(Long eventId, Long userId) {
-        String pKey = processingKey(eventId);
-        String tKey = processingRankKey(eventId);
+        int shard = keys.shardOf(userId);
+        String pKey = keys.processingKey(eventId, shard);
+        String tKey = keys.processingRankKey(eventId, shard);
         String val  = userId.toString();
 
-        String lua = """
-            redis.call('ZREM', KEYS[1], ARGV[1])
-            redis.call('HDEL', KEYS[2], ARGV[1])
-        """;
+        scriptRegistry.execute(GateScript.REMOVE_FROM_PROCESSING, List.of(pKey, tKey), val);
+    }
 
-        DefaultRedisScript<Object> script = new DefaultRedisScript<>();
-        script.setScriptText(lua);
-        script.setResultType(Object.class);
+    /**
+     * processing 에서 완료된 user 묶음 제거 (issuer-worker 의 묶음 콜백)
+     *
+     * @return Processing ZSet 에서 제거된 수
+     */
+    public int removeFromProcessing(Long eventId, Collection<Long> userIds) {
+        return removeFromProcessing(Map.of(eventId, userIds));
+    }
 
-        redisTemplate.execute(script, List.of(pKey, tKey), val);
+    /**
+     * 여러 event 의 완료 user 를 한 번에 제거 (completion topic 배치)
+     * - (event, shard) 마다 스크립트 한 번, 전체를 하나의 pipeline 으로 전송
+     *
+     * @param usersByEvent eventId -> 완료 userId 목록
+     * @return Processing ZSet 에서 제거된 수
+     */
+    public int removeFromProcessing(Map<Long, ? extends Collection<Long>> usersByEvent) {
+        List<GateScriptRegistry.Call> calls = new ArrayList<>();
+        usersByEvent.forEach((eventId, userIds) -> {
+            Map<Integer, List<String>> usersByShard = new LinkedHashMap<>();
+            for (Long userId : userIds) {
+                usersByShard.computeIfAbsent(keys.shardOf(userId), s -> new ArrayList<>()).add(userId.toString());
+            }
+            usersByShard.forEach((shard, users) -> calls.add(new GateScriptRegistry.Call(
+                    List.of(keys.processingKey(eventId, shard), keys.processingRankKey(eventId, shard)), users)));
+        });
+
+        int total = 0;
+        for (Object removed : scriptRegistry.executePipelined(GateScript.REMOVE_FROM_PROCESSING, calls)) {
+            total += removed instanceof Long count ? count.intValue() : 0;
+        }
+        return total;
     }
 
     /**
      * processing 에 오래 머무른 요청을 queue 로 되돌림
      * - issuer-worker 장애 등으로 콜백이 오지 않은 경우의 재시도 안전망
      * - timeoutMs 이상 경과한 항목을 원래 순번(ticket)을 보존하여 재큐
-     * - maxRequeue: 한 번에 너무 많이 되돌리지 않기 위한 제한
+     * - maxRequeue: 한 번에 너무 많이 되돌리지 않기 위한 제한 (shard 별 적용)
      *
      * @return 재큐된 항목 수
      */
     public int requeueStaleProcessing(Long eventId, long timeoutMs, int maxRequeue) {
-        String pKey = processingKey(eventId);
-        String qKey = queueKey(eventId);
-        String tKey = processingRankKey(eventId);
-        String rKey = queueRankKey(eventId);
+        long cutoff = System.currentTimeMillis() - timeoutMs;
+        String counter = redisTemplate.opsForValue().get(keys.queueRankKey(eventId));
+        String fallbackTicket = counter == null ? "0" : counter;
+
+        int total = 0;
+        for (int shard = 0; shard < keys.shards(); shard++) {
+            Long requeued = scriptRegistry.execute(
+                    GateScript.REQUEUE_STALE_PROCESSING,
+                    List.of(keys.processingKey(eventId, shard), keys.queueKey(eventId, shard),
+                            keys.processingRankKey(eventId, shard)),
+                    String.valueOf(cutoff),
+                    String.valueOf(maxRequeue),
+                    fallbackTicket
+            );
+            total += requeued == null ? 0 : requeued.intValue();
+        }
+        return total;
+    }
 
-        String lua = """
-            local cutoff     = tonumber(ARGV[1])
-            local maxRequeue = tonumber(ARGV[2])
+    /**
+     * 지정한 processing 유저를 원래 순번(ticket)으로 즉시 queue 에 되돌림
+     * - Kafka 발행 실패 시 stale timeout 을 기다리지 않고 바로 재큐하기 위한 용도
+     *
+     * @param tickets userId -> 원래 ticket
+     * @return 재큐된 항목 수
+     */
+    public int requeueFromProcessing(Long eventId, Map<Long, Long> tickets) {
+        Map<Integer, List<String>> argsByShard = new LinkedHashMap<>();
+        tickets.forEach((userId, ticket) -> {
+            List<String> args = argsByShard.computeIfAbsent(keys.shardOf(userId), s -> new ArrayList<>());
+            args.add(userId.toString());
+            args.add(ticket.toString());
+        });
+
+        int total = 0;
+        for (Map.Entry<Integer, List<String>> entry : argsByShard.entrySet()) {
+            int shard = entry.getKey();
+            Long requeued = scriptRegistry.execute(
+                    GateScript.REQUEUE_PROCESSING,
+                    List.of(keys.processingKey(eventId, shard), keys.queueKey(eventId, shard),
+                            keys.processingRankKey(eventId, shard)),
+                    entry.getValue().toArray(String[]::new)
+            );
+            total += requeued == null ? 0 : requeued.intValue();
+        }
+        return total;
+    }
 
-            -- processing ZSet 에서 오래된 항목 조회 (Score = 입장 timestamp)
-            local stale = redis.call('ZRANGEBYSCORE', KEYS[1], 0, cutoff, 'LIMIT', 0, maxRequeue)
-            if #stale == 0 then return 0 end
+    /**
+     * 대기열 상위 N명을 Active Queue 로 이동
+     *
+     * <p>shard 가 1개이면 pop-to-active 스크립트 한 번으로 "대기열 제거 + Active 등록 + head cursor 갱신" 을 원자적으로 처리한다.
+     * keys 모드는 Active Key 를 KEYS 로 선언하기 위해 선두를 먼저 조회해 후보로 넘긴다.</p>
+     *
+     * <p>shard 가 여러 개이면 대기열과 Active 키가 다른 slot 에 있으므로 "권한 부여 → 대기열 제거" 순서로 처리한다.
+     * 중간에 실패해도 유저가 유실되지 않고 다음 dispatch 에서 다시 권한을 받는다 (at-least-once).
+     * 두 replica 가 같은 선두를 동시에 꺼내지 않도록 이 경로는 dispatch 소유권({@code gate.ownership-enabled})을 전제로 한다.</p>
+     *
+     * @return 이동된 userId 목록
+     */
+    public List<Long> popToActive(Long eventId, int batchSize, long ttlSeconds) {
+        if (!keys.sharded()) {
+            List<String> scriptKeys = new ArrayList<>(
+                    List.of(keys.queueKey(eventId, 0), keys.queueHeadKey(eventId), keys.activeIndexKey(eventId)));
+            List<String> args = new ArrayList<>(
+                    List.of(String.valueOf(batchSize), String.valueOf(ttlSeconds)));
+
+            if (keys.activeIndexed()) {
+                args.add("index");
+                args.add(String.valueOf(System.currentTimeMillis() + ttlSeconds * 1000));
+            } else {
+                List<QueueEntry> head = peekHead(eventId, batchSize);
+                if (head.isEmpty()) return Collections.emptyList();
+
+                args.add("keys");
+                args.add("");
+                for (QueueEntry entry : head) {
+                    scriptKeys.add(keys.activeKey(eventId, Long.parseLong(entry.userId())));
+                    args.add(entry.userId());
+                }
+            }
+
+            List<String> result = scriptRegistry.execute(
+                    GateScript.POP_TO_ACTIVE, scriptKeys, args.toArray(String[]::new));
+            if (result == null) return Collections.emptyList();
+            return result.stream().map(Long::parseLong).toList();
+        }
+
+        List<QueueEntry> head = peekHead(eventId, batchSize);
+        if (head.isEmpty()) return Collections.emptyList();
+
+        if (keys.activeIndexed()) {
+            grantActiveIndex(eventId, head, ttlSeconds);
+        } else {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (QueueEntry entry : head) {
+                    conn.setEx(keys.activeKey(eventId, Long.parseLong(entry.userId())), ttlSeconds, "1");
+                }
+                return null;
+            });
+        }
+
+        groupByShard(head).forEach((shard, entries) ->
+                redisTemplate.opsForZSet().remove(keys.queueKey(eventId, shard),
+                        entries.stream().map(QueueEntry::userId).toArray()));
+        advanceHead(eventId, head.get(head.size() - 1).ticket());
+
+        return head.stream().map(e -> Long.parseLong(e.userId())).toList();
+    }
 
-            for _, user in ipairs(stale) do
-                -- 원래 ticket 번호 복원 (없으면 새 번호 발급)
-                local ticket = redis.call('HGET', KEYS[3], user)
-                if not ticket then
-                    ticket = redis.call('INCR', KEYS[4])
-                end
+    /**
+     * Active Queue 존재 여부 확인 (read-only)
+     * - gate-app 의 getStatus 에서 사용
+     */
+    public boolean isActive(Long eventId, Long userId) {
+        if (keys.activeIndexed()) {
+            Double expireAt = redisTemplate.opsForZSet().score(keys.activeIndexKey(eventId), userId.toString());
+            return expireAt != null && expireAt > System.currentTimeMillis();
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(keys.activeKey(eventId, userId)));
+    }
 
-                -- processing 에서 제거
-                redis.call('ZREM', KEYS[1], user)
-                redis.call('HDEL', KEYS[3], user)
+    /**
+     * Active Queue 만료 시각 (epoch ms) - 발급 허가 토큰의 만료 시각으로 사용
+     */
+    public OptionalLong activeExpiresAt(Long eventId, Long userId) {
+        if (keys.activeIndexed()) {
+            Double expireAt = redisTemplate.opsForZSet().score(keys.activeIndexKey(eventId), userId.toString());
+            return expireAt != null && expireAt > System.currentTimeMillis()
+                    ? OptionalLong.of(expireAt.longValue())
+                    : OptionalLong.empty();
+        }
+        Long ttlMs = redisTemplate.getExpire(keys.activeKey(eventId, userId), TimeUnit.MILLISECONDS);
+        return ttlMs != null && ttlMs > 0
+                ? OptionalLong.of(System.currentTimeMillis() + ttlMs)
+                : OptionalLong.empty();
+    }
 
-                -- queue 에 재삽입 (원래 순번 유지)
-                redis.call('ZADD', KEYS[2], ticket, user)
-            end
+    /**
+     * index 모드 Active Queue 에서 만료된 항목 일괄 제거
+     *
+     * @return 제거된 항목 수
+     */
+    public long sweepExpiredActive(Long eventId) {
+        Long removed = redisTemplate.opsForZSet()
+                .removeRangeByScore(keys.activeIndexKey(eventId), Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+        return removed == null ? 0 : removed;
+    }
 
-            return #stale
-        """;
+    /**
+     * index 모드 Active 등록 - 유저 묶음을 ZADD 한 번으로 추가하고,
+     * 마지막 등록 후 TTL 이 지나면 index 전체가 사라지도록 key 만료를 연장한다.
+     */
+    private void grantActiveIndex(Long eventId, List<QueueEntry> head, long ttlSeconds) {
+        String indexKey = keys.activeIndexKey(eventId);
+        double expireAt = System.currentTimeMillis() + ttlSeconds * 1000;
 
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
-        script.setScriptText(lua);
-        script.setResultType(Long.class);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(head.size() * 2);
+        for (QueueEntry entry : head) {
+            tuples.add(ZSetOperations.TypedTuple.of(entry.userId(), expireAt));
+        }
 
-        long cutoff = System.currentTimeMillis() - timeoutMs;
-        Long requeued = redisTemplate.execute(
-                script,
-                List.of(pKey, qKey, tKey, rKey),
-                String.valueOf(cutoff),
-                String.valueOf(maxRequeue)
-        );
-
-        return requeued == null ? 0 : requeued.intValue();
+        redisTemplate.opsForZSet().add(indexKey, tuples);
+        redisTemplate.expire(indexKey, Duration.ofSeconds(ttlSeconds));
     }
 
     /**
-     * 대기열 상위 N명을 Active Queue 로 이동
-     * - Queue ZSet 에서 제거
-     * - Active Key (gate:active:{eventId}:{userId}) 를 TTL 과 함께 SET
-     * - issuer-api-app 이 Active Key 존재 여부로 발급 허용 여부를 판단
+     * 각 shard 선두 batchSize 명을 조회한 뒤 ticket 기준 k-way merge 로 전체 선두 batchSize 명을 고른다.
      *
-     * @return 이동된 userId 목록
+     * @return ticket 오름차순 목록
      */
-    public List<Long> popToActive(Long eventId, int batchSize, long ttlSeconds) {
-        String qKey = queueKey(eventId);
-        String activePrefix = ACTIVE_KEY_PREFIX + eventId + ":";
-
-        String lua = """
-            local qKey        = KEYS[1]
-            local count       = tonumber(ARGV[1])
-            local ttl         = tonumber(ARGV[2])
-            local activePrefix = ARGV[3]
-
-            -- 1. 대기열 상위 N명 조회
-            local members = redis.call('ZRANGE', qKey, 0, count - 1)
-            if #members == 0 then
-                return {}
-            end
-
-            -- 2. 대기열에서 제거 + Active Key SET (TTL 포함)
-            for _, user in ipairs(members) do
-                redis.call('ZREM', qKey, user)
-                redis.call('SET', activePrefix .. user, '1', 'EX', ttl)
-            end
-
-            return members
-        """;
-
-        DefaultRedisScript<List> script = new DefaultRedisScript<>();
-        script.setScriptText(lua);
-        script.setResultType(List.class);
-
-        List<String> result = redisTemplate.execute(
-                script,
-                List.of(qKey),
-                String.valueOf(batchSize),
-                String.valueOf(ttlSeconds),
-                activePrefix
-        );
-
-        if (result == null) return Collections.emptyList();
-        return result.stream().map(Long::parseLong).collect(Collectors.toList());
+    private List<QueueEntry> peekHead(Long eventId, int batchSize) {
+        List<List<QueueEntry>> perShard = new ArrayList<>(keys.shards());
+        for (int shard = 0; shard < keys.shards(); shard++) {
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    redisTemplate.opsForZSet().rangeWithScores(keys.queueKey(eventId, shard), 0, batchSize - 1);
+
+            List<QueueEntry> entries = new ArrayList<>();
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    entries.add(new QueueEntry(tuple.getValue(), tuple.getScore().longValue(), shard));
+                }
+            }
+            perShard.add(entries);
+        }
+
+        int[] cursor = new int[perShard.size()];
+        PriorityQueue<Integer> heads = new PriorityQueue<>(
+                Comparator.comparingLong(shard -> perShard.get(shard).get(cursor[shard]).ticket()));
+        for (int shard = 0; shard < perShard.size(); shard++) {
+            if (!perShard.get(shard).isEmpty()) heads.add(shard);
+        }
+
+        List<QueueEntry> merged = new ArrayList<>(batchSize);
+        while (merged.size() < batchSize && !heads.isEmpty()) {
+            int shard = heads.poll();
+            merged.add(perShard.get(shard).get(cursor[shard]++));
+            if (cursor[shard] < perShard.get(shard).size()) heads.add(shard);
+        }
+        return merged;
     }
 
     /**
-     * Active Queue 존재 여부 확인 (read-only)
-     * - gate-app 의 getStatus 에서 사용
+     * 각 ticket 앞에 대기 중인 인원 수 (0-based 순번) — 전 shard 의 ZCOUNT(-inf, ticket) 합
+     * 모든 ZCOUNT 를 한 번의 pipeline 으로 보낸다.
      */
-    public boolean isActive(Long eventId, Long userId) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(ACTIVE_KEY_PREFIX + eventId + ":" + userId));
+    private List<Long> countAhead(Long eventId, List<Long> tickets) {
+        int shards = keys.shards();
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Long ticket : tickets) {
+                for (int shard = 0; shard < shards; shard++) {
+                    conn.zCount(keys.queueKey(eventId, shard), Double.NEGATIVE_INFINITY, ticket - 1);
+                }
+            }
+            return null;
+        });
+
+        List<Long> ranks = new ArrayList<>(tickets.size());
+        for (int i = 0; i < tickets.size(); i++) {
+            long sum = 0;
+            for (int shard = 0; shard < shards; shard++) {
+                sum += (Long) counts.get(i * shards + shard);
+            }
+            ranks.add(sum);
+        }
+        return ranks;
+    }
+
+    private void advanceHead(Long eventId, long ticket) {
+        scriptRegistry.execute(GateScript.ADVANCE_HEAD, List.of(keys.queueHeadKey(eventId)), String.valueOf(ticket));
+    }
+
+    private static Map<Integer, List<QueueEntry>> groupByShard(List<QueueEntry> entries) {
+        Map<Integer, List<QueueEntry>> byShard = new LinkedHashMap<>();
+        for (QueueEntry entry : entries) {
+            byShard.computeIfAbsent(entry.shard(), s -> new ArrayList<>()).add(entry);
+        }
+        return byShard;
+    }
+
+    private record QueueEntry(String userId, long ticket, int shard) {
     }
 }
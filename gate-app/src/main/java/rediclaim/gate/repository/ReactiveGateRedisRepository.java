@@ -0,0 +1,155 @@
+package rediclaim.gate.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rediclaim.gate.repository.script.GateScript;
+import rediclaim.gate.repository.script.ReactiveGateScriptExecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link GateRedisRepository} 의 reactive 버전 (요청 경로 전용: enqueue / 순번 / 상태 / 완료 콜백)
+ * {@code spring.main.web-application-type=reactive} 일 때만 등록된다.
+ *
+ * <p>키 규칙과 Lua 스크립트는 blocking 저장소와 동일하다. dispatch / 재큐는 스케줄러 스레드에서
+ * 실행되므로 계속 {@link GateRedisRepository} 를 사용한다.</p>
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveGateRedisRepository {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ReactiveGateScriptExecutor scriptExecutor;
+    private final GateKeys keys;
+
+    /**
+     * 대기열에 유저 추가
+     */
+    public Mono<GateEnqueueDto> enqueue(Long eventId, Long userId) {
+        if (keys.sharded()) {
+            return enqueueSharded(eventId, userId);
+        }
+
+        // 결과: [isNew(1/0), rank(Long), ticket(Long)]
+        return scriptExecutor.<List<Long>>execute(
+                        GateScript.ENQUEUE,
+                        List.of(keys.queueKey(eventId, 0), keys.queueRankKey(eventId)),
+                        userId.toString())
+                .map(result -> result.isEmpty()
+                        ? new GateEnqueueDto(false, -1L)
+                        : new GateEnqueueDto(result.get(0) == 1, result.get(1), result.get(2)))
+                .defaultIfEmpty(new GateEnqueueDto(false, -1L));
+    }
+
+    /**
+     * shard 대기열 입장 - {@link GateRedisRepository} 의 shard 입장과 동일한 순서
+     * (번호표 발급 → shard 등록 → 전 shard ZCOUNT 합으로 순번 계산)
+     */
+    private Mono<GateEnqueueDto> enqueueSharded(Long eventId, Long userId) {
+        return redisTemplate.opsForValue().increment(keys.queueRankKey(eventId))
+                .flatMap(issued -> scriptExecutor.<List<Long>>execute(
+                        GateScript.ENQUEUE_SHARD,
+                        List.of(keys.queueKey(eventId, keys.shardOf(userId))),
+                        userId.toString(), String.valueOf(issued)))
+                // 결과: [isNew(1/0), ticket(Long)]
+                .flatMap(result -> countAhead(eventId, result.get(1))
+                        .map(rank -> new GateEnqueueDto(result.get(0) == 1, rank, result.get(1))));
+    }
+
+    /**
+     * 현재 대기 순번 조회 (0-based), 대기열에 없으면 empty
+     */
+    public Mono<Long> getRank(Long eventId, Long userId) {
+        if (!keys.sharded()) {
+            return redisTemplate.opsForZSet().rank(keys.queueKey(eventId, 0), userId.toString());
+        }
+        return getTicket(eventId, userId).flatMap(ticket -> countAhead(eventId, ticket));
+    }
+
+    /**
+     * 대기 중인 유저의 번호표(ticket) 조회
+     */
+    public Mono<Long> getTicket(Long eventId, Long userId) {
+        return redisTemplate.opsForZSet()
+                .score(keys.queueKey(eventId, keys.shardOf(userId)), userId.toString())
+                .map(Double::longValue);
+    }
+
+    public Mono<Boolean> isProcessing(Long eventId, Long userId) {
+        return redisTemplate.opsForZSet()
+                .score(keys.processingKey(eventId, keys.shardOf(userId)), userId.toString())
+                .hasElement();
+    }
+
+    public Mono<Boolean> isActive(Long eventId, Long userId) {
+        if (keys.activeIndexed()) {
+            return redisTemplate.opsForZSet().score(keys.activeIndexKey(eventId), userId.toString())
+                    .map(expireAt -> expireAt > System.currentTimeMillis())
+                    .defaultIfEmpty(false);
+        }
+        return redisTemplate.hasKey(keys.activeKey(eventId, userId));
+    }
+
+    /**
+     * Active Queue 만료 시각 (epoch ms), Active 가 아니면 empty
+     */
+    public Mono<Long> activeExpiresAt(Long eventId, Long userId) {
+        long now = System.currentTimeMillis();
+        if (keys.activeIndexed()) {
+            return redisTemplate.opsForZSet().score(keys.activeIndexKey(eventId), userId.toString())
+                    .filter(expireAt -> expireAt > now)
+                    .map(Double::longValue);
+        }
+        return redisTemplate.getExpire(keys.activeKey(eventId, userId))
+                .filter(ttl -> ttl.toMillis() > 0)
+                .map(ttl -> now + ttl.toMillis());
+    }
+
+    /**
+     * processing 에서 완료된 user 제거 (issuer-worker 콜백)
+     */
+    public Mono<Void> removeFromProcessing(Long eventId, Long userId) {
+        int shard = keys.shardOf(userId);
+        return scriptExecutor.execute(
+                        GateScript.REMOVE_FROM_PROCESSING,
+                        List.of(keys.processingKey(eventId, shard), keys.processingRankKey(eventId, shard)),
+                        userId.toString())
+                .then();
+    }
+
+    /**
+     * processing 에서 완료된 user 묶음 제거 - shard 별 스크립트를 동시에 보낸다.
+     */
+    public Mono<Void> removeFromProcessing(Long eventId, Collection<Long> userIds) {
+        Map<Integer, List<String>> usersByShard = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            usersByShard.computeIfAbsent(keys.shardOf(userId), s -> new ArrayList<>()).add(userId.toString());
+        }
+        return Flux.fromIterable(usersByShard.entrySet())
+                .flatMap(entry -> scriptExecutor.execute(
+                        GateScript.REMOVE_FROM_PROCESSING,
+                        List.of(keys.processingKey(eventId, entry.getKey()), keys.processingRankKey(eventId, entry.getKey())),
+                        entry.getValue().toArray(String[]::new)))
+                .then();
+    }
+
+    /**
+     * ticket 앞에 대기 중인 인원 수 - 전 shard ZCOUNT 를 동시에 보내 합산한다.
+     */
+    private Mono<Long> countAhead(Long eventId, long ticket) {
+        Range<Double> ahead = Range.of(Range.Bound.unbounded(), Range.Bound.exclusive((double) ticket));
+        return Flux.range(0, keys.shards())
+                .flatMap(shard -> redisTemplate.opsForZSet().count(keys.queueKey(eventId, shard), ahead))
+                .reduce(0L, Long::sum);
+    }
+}
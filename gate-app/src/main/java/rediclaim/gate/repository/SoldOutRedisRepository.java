@@ -0,0 +1,55 @@
+package rediclaim.gate.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * event 품절 신호 저장소 (issuer-api-app / issuer-worker-app 과 공유하는 형식).
+ *
+ * <ul>
+ *   <li>{@code gate:soldout:{eventId}} (String) : 품절 플래그 - 재고 차감이 0건이 된 쪽이 기록한다</li>
+ *   <li>{@code gate:soldout} (pub/sub) : 품절된 eventId, 또는 품절 해제 {@code reset:{eventId}} 전파</li>
+ * </ul>
+ *
+ * <p>gate-app 은 플래그를 읽고, 운영자가 event 를 다시 등록할 때만 플래그를 지우고 해제를 발행한다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SoldOutRedisRepository {
+
+    public static final String CHANNEL = "gate:soldout";
+    public static final String RESET_PREFIX = "reset:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final GateKeys keys;
+
+    /**
+     * 주어진 event 중 품절 플래그가 있는 eventId 목록
+     */
+    public List<Long> soldOutAmong(List<Long> eventIds) {
+        if (eventIds.isEmpty()) return List.of();
+
+        List<String> flags = redisTemplate.opsForValue()
+                .multiGet(eventIds.stream().map(keys::soldOutKey).toList());
+
+        List<Long> soldOut = new ArrayList<>();
+        for (int i = 0; i < eventIds.size(); i++) {
+            if (flags != null && flags.get(i) != null) {
+                soldOut.add(eventIds.get(i));
+            }
+        }
+        return soldOut;
+    }
+
+    /**
+     * 품절 해제 - 플래그를 지운 뒤 발행한다 (수신 측이 플래그를 다시 읽어도 품절이 아니도록)
+     */
+    public void reset(Long eventId) {
+        redisTemplate.delete(keys.soldOutKey(eventId));
+        redisTemplate.convertAndSend(CHANNEL, RESET_PREFIX + eventId);
+    }
+}
@@ -0,0 +1,36 @@
+package rediclaim.gate.repository.script;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+
+/**
+ * gate-app 이 사용하는 Lua 스크립트 목록.
+ *
+ * <p>스크립트 본문은 {@code classpath:lua/} 하위 파일로 분리되어 있으며,
+ * {@link GateScriptRegistry} 가 기동 시 한 번만 로드한다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GateScript {
+
+    ENQUEUE("enqueue", "lua/enqueue.lua", ReturnType.MULTI),
+    ENQUEUE_BATCH("enqueue-batch", "lua/enqueue-batch.lua", ReturnType.MULTI),
+    ENQUEUE_SHARD("enqueue-shard", "lua/enqueue-shard.lua", ReturnType.MULTI),
+    POP_TO_ACTIVE("pop-to-active", "lua/pop-to-active.lua", ReturnType.MULTI),
+    POP_TO_PROCESSING("pop-to-processing", "lua/pop-to-processing.lua", ReturnType.MULTI),
+    MOVE_TO_PROCESSING("move-to-processing", "lua/move-to-processing.lua", ReturnType.MULTI),
+    ADVANCE_HEAD("advance-head", "lua/advance-head.lua", ReturnType.INTEGER),
+    REMOVE_FROM_PROCESSING("remove-from-processing", "lua/remove-from-processing.lua", ReturnType.INTEGER),
+    REQUEUE_STALE_PROCESSING("requeue-stale-processing", "lua/requeue-stale-processing.lua", ReturnType.INTEGER),
+    REQUEUE_PROCESSING("requeue-processing", "lua/requeue-processing.lua", ReturnType.INTEGER),
+    LEASE_RENEW("lease-renew", "lua/lease-renew.lua", ReturnType.INTEGER),
+    LEASE_RELEASE("lease-release", "lua/lease-release.lua", ReturnType.INTEGER);
+
+    /** 메트릭 태그로 사용되는 스크립트 이름 */
+    private final String scriptName;
+
+    private final String location;
+
+    private final ReturnType returnType;
+}
@@ -0,0 +1,259 @@
+package rediclaim.gate.repository.script;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * gate-app Lua 스크립트 레지스트리.
+ *
+ * <p>스크립트 본문과 SHA1 은 기동 시 한 번만 계산한다. 매 호출마다 {@code DefaultRedisScript} 를
+ * 새로 만들면 hot path(enqueue) 에서 SHA1 재계산과 문자열 생성이 반복되기 때문이다.</p>
+ *
+ * <ul>
+ *   <li>기동 완료 시 SCRIPT LOAD 로 모든 스크립트를 Redis 스크립트 캐시에 적재한다.</li>
+ *   <li>실행은 항상 EVALSHA 로 수행한다 (스크립트 본문을 네트워크로 보내지 않음).</li>
+ *   <li>Redis failover / SCRIPT FLUSH 로 NOSCRIPT 가 반환되면 SCRIPT LOAD 후 한 번 재시도한다.</li>
+ * </ul>
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code gate.redis.script} (Timer, tag: script / outcome) — 스크립트별 호출 수와 지연 시간</li>
+ *   <li>{@code gate.redis.script.reloads} (Counter, tag: script) — NOSCRIPT 로 인한 재등록 횟수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GateScriptRegistry {
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<GateScript, LoadedScript> scripts = new EnumMap<>(GateScript.class);
+
+    public GateScriptRegistry(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        for (GateScript script : GateScript.values()) {
+            scripts.put(script, LoadedScript.of(script, meterRegistry));
+        }
+    }
+
+    /**
+     * 기동 완료 후 모든 스크립트를 SCRIPT LOAD 로 선적재한다.
+     * Redis 가 아직 준비되지 않았더라도 기동을 막지 않으며, 첫 호출 시 NOSCRIPT 경로로 적재된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (LoadedScript loaded : scripts.values()) {
+                    connection.scriptingCommands().scriptLoad(loaded.body());
+                }
+                return null;
+            });
+            log.info("Preloaded {} gate lua scripts", scripts.size());
+        } catch (Exception e) {
+            log.warn("Failed to preload gate lua scripts, will load on first NOSCRIPT : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스크립트를 EVALSHA 로 실행한다.
+     *
+     * @return MULTI 결과는 {@code List}(bulk string 은 String, integer 는 Long), INTEGER 결과는 {@code Long}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(GateScript script, List<String> keys, String... args) {
+        LoadedScript loaded = scripts.get(script);
+        byte[][] keysAndArgs = toBytes(keys, args);
+
+        long start = System.nanoTime();
+        try {
+            Object raw = redisTemplate.execute((RedisCallback<Object>) connection ->
+                    evalSha(connection, loaded, keys.size(), keysAndArgs));
+            loaded.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return (T) deserialize(raw);
+        } catch (RuntimeException e) {
+            loaded.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * 같은 스크립트를 여러 번 EVALSHA 하되 한 번의 pipeline 으로 보낸다 (key 가 서로 다른 slot 이어도 됨).
+     * NOSCRIPT 가 섞여 있으면 SCRIPT LOAD 후 전체를 한 번 재시도하므로, 스크립트는 재실행에 안전해야 한다.
+     *
+     * @return 호출 순서대로의 결과 ({@link #execute} 와 같은 타입 규칙)
+     */
+    public List<Object> executePipelined(GateScript script, List<Call> calls) {
+        if (calls.isEmpty()) return List.of();
+        LoadedScript loaded = scripts.get(script);
+
+        long start = System.nanoTime();
+        try {
+            List<Object> results;
+            try {
+                results = evalShaPipelined(loaded, calls);
+            } catch (RuntimeException e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                log.warn("NOSCRIPT for {} in pipeline, reloading script", loaded.script().getScriptName());
+                loaded.reloads().increment();
+                redisTemplate.execute((RedisCallback<Object>) connection ->
+                        connection.scriptingCommands().scriptLoad(loaded.body()));
+                results = evalShaPipelined(loaded, calls);
+            }
+            loaded.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return results;
+        } catch (RuntimeException e) {
+            loaded.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * pipeline 으로 보낼 스크립트 호출 한 건
+     */
+    public record Call(List<String> keys, List<String> args) {
+    }
+
+    /**
+     * 등록된 스크립트 객체 (SHA1 계산 완료 상태)
+     */
+    public RedisScript<?> script(GateScript script) {
+        return scripts.get(script).redisScript();
+    }
+
+    private Object evalSha(RedisConnection connection, LoadedScript loaded, int numKeys, byte[][] keysAndArgs) {
+        try {
+            return connection.scriptingCommands()
+                    .evalSha(loaded.redisScript().getSha1(), loaded.script().getReturnType(), numKeys, keysAndArgs);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            // failover 등으로 스크립트 캐시가 비워진 경우 재등록 후 1회 재시도
+            log.warn("NOSCRIPT for {}, reloading script", loaded.script().getScriptName());
+            loaded.reloads().increment();
+            connection.scriptingCommands().scriptLoad(loaded.body());
+            return connection.scriptingCommands()
+                    .evalSha(loaded.redisScript().getSha1(), loaded.script().getReturnType(), numKeys, keysAndArgs);
+        }
+    }
+
+    private List<Object> evalShaPipelined(LoadedScript loaded, List<Call> calls) {
+        List<Object> raw = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Call call : calls) {
+                connection.scriptingCommands().evalSha(
+                        loaded.redisScript().getSha1(), loaded.script().getReturnType(), call.keys().size(),
+                        toBytes(call.keys(), call.args().toArray(String[]::new)));
+            }
+            return null;
+        });
+
+        List<Object> results = new ArrayList<>(raw.size());
+        for (Object result : raw) {
+            results.add(deserialize(result));
+        }
+        return results;
+    }
+
+    static boolean isNoScript(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[][] toBytes(List<String> keys, String... args) {
+        byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+        int i = 0;
+        for (String key : keys) {
+            keysAndArgs[i++] = key.getBytes(StandardCharsets.UTF_8);
+        }
+        for (String arg : args) {
+            keysAndArgs[i++] = arg.getBytes(StandardCharsets.UTF_8);
+        }
+        return keysAndArgs;
+    }
+
+    /**
+     * StringRedisTemplate 과 동일하게 bulk string 은 String 으로, 중첩 리스트는 재귀적으로 변환한다.
+     */
+    private static Object deserialize(Object raw) {
+        if (raw instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (raw instanceof List<?> list) {
+            List<Object> converted = new ArrayList<>(list.size());
+            for (Object element : list) {
+                converted.add(deserialize(element));
+            }
+            return converted;
+        }
+        return raw;
+    }
+
+    private record LoadedScript(
+            GateScript script,
+            RedisScript<?> redisScript,
+            byte[] body,
+            Timer success,
+            Timer error,
+            Counter reloads
+    ) {
+        static LoadedScript of(GateScript script, MeterRegistry meterRegistry) {
+            String text = readScript(script.getLocation());
+
+            DefaultRedisScript<Object> redisScript = new DefaultRedisScript<>(text);
+            redisScript.setResultType(Object.class);
+
+            return new LoadedScript(
+                    script,
+                    redisScript,
+                    text.getBytes(StandardCharsets.UTF_8),
+                    timer(meterRegistry, script, "success"),
+                    timer(meterRegistry, script, "error"),
+                    Counter.builder("gate.redis.script.reloads")
+                            .tag("script", script.getScriptName())
+                            .register(meterRegistry)
+            );
+        }
+
+        private static Timer timer(MeterRegistry meterRegistry, GateScript script, String outcome) {
+            return Timer.builder("gate.redis.script")
+                    .tag("script", script.getScriptName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private static String readScript(String location) {
+            try {
+                return StreamUtils.copyToString(new ClassPathResource(location).getInputStream(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read lua script " + location, e);
+            }
+        }
+    }
+}
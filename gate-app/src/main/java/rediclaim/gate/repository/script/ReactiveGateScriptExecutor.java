@@ -0,0 +1,106 @@
+package rediclaim.gate.repository.script;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GateScriptRegistry} 의 스크립트를 reactive 연결에서 EVALSHA 로 실행한다.
+ * (reactive 모드, {@code spring.main.web-application-type=reactive} 일 때만 등록)
+ *
+ * <p>스크립트 본문 / SHA1 / 메트릭 이름은 blocking 경로와 동일하게 사용하며,
+ * NOSCRIPT 시 SCRIPT LOAD 후 한 번 재시도하는 동작도 같다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveGateScriptExecutor {
+
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final GateScriptRegistry scriptRegistry;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @return MULTI 결과는 {@code List}(bulk string 은 String, integer 는 Long), INTEGER 결과는 {@code Long}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(GateScript script, List<String> keys, String... args) {
+        RedisScript<?> redisScript = scriptRegistry.script(script);
+        long start = System.nanoTime();
+
+        return reactiveRedisTemplate
+                .execute(connection -> evalSha(connection, script, redisScript, keys, args)
+                        .onErrorResume(GateScriptRegistry::isNoScript, e -> {
+                            log.warn("NOSCRIPT for {}, reloading script", script.getScriptName());
+                            return connection.scriptingCommands()
+                                    .scriptLoad(ByteBuffer.wrap(redisScript.getScriptAsString().getBytes(StandardCharsets.UTF_8)))
+                                    .then(evalSha(connection, script, redisScript, keys, args));
+                        }))
+                .next()
+                .map(raw -> (T) raw)
+                .doOnSuccess(r -> timer(script, "success").record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                .doOnError(e -> timer(script, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Lettuce 는 MULTI 결과를 원소 단위 Flux 로 풀어서 내보내므로 다시 List 로 모은다.
+     */
+    private Mono<Object> evalSha(ReactiveRedisConnection connection, GateScript script, RedisScript<?> redisScript,
+                                 List<String> keys, String... args) {
+        ByteBuffer[] keysAndArgs = new ByteBuffer[keys.size() + args.length];
+        int i = 0;
+        for (String key : keys) {
+            keysAndArgs[i++] = ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+        }
+        for (String arg : args) {
+            keysAndArgs[i++] = ByteBuffer.wrap(arg.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return connection.scriptingCommands()
+                .evalSha(redisScript.getSha1(), script.getReturnType(), keys.size(), keysAndArgs)
+                .map(ReactiveGateScriptExecutor::deserialize)
+                .collectList()
+                .flatMap(values -> Mono.justOrEmpty(switch (script.getReturnType()) {
+                    case MULTI -> values.size() == 1 && values.get(0) instanceof List<?> list ? list : values;
+                    default -> values.isEmpty() ? null : values.get(0);
+                }));
+    }
+
+    private Timer timer(GateScript script, String outcome) {
+        return Timer.builder("gate.redis.script")
+                .tag("script", script.getScriptName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Object deserialize(Object raw) {
+        if (raw instanceof ByteBuffer buffer) {
+            return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+        }
+        if (raw instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (raw instanceof List<?> list) {
+            List<Object> converted = new ArrayList<>(list.size());
+            for (Object element : list) {
+                converted.add(deserialize(element));
+            }
+            return converted;
+        }
+        return raw;
+    }
+}
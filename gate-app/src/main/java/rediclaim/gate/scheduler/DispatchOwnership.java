@@ -0,0 +1,184 @@
+package rediclaim.gate.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.repository.GateOwnershipRedisRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * replica 간 event dispatch 소유권 관리 ({@code gate.ownership-enabled=true} 일 때만 동작).
+ *
+ * <p>replica 가 여러 개여도 한 event 는 한 replica 만 dispatch 하도록 Redis lease 로 소유권을 나눈다.
+ * 비활성화 시 모든 replica 가 모든 event 를 dispatch 한다 (기존 동작).</p>
+ *
+ * <ul>
+ *   <li>분배 : 살아 있는 replica 목록에 대해 rendezvous hashing 으로 event 별 담당 replica 를 정한다.
+ *       replica 가 추가 / 제거되어도 해당 replica 몫의 event 만 이동한다.</li>
+ *   <li>획득 : 담당 replica 만 {@code SET NX PX} 로 lease 를 획득한다.</li>
+ *   <li>연장 / 이양 : heartbeat 마다 lease 를 연장하고, 담당이 바뀐 event 는 반납해 새 담당에게 넘긴다.</li>
+ *   <li>장애 : heartbeat 가 끊긴 replica 는 memberTtl 후 목록에서 빠지고, lease 는 최대 leaseMs 후 만료된다.
+ *       정상 종료 시에는 즉시 반납하므로 바로 넘어간다.</li>
+ * </ul>
+ *
+ * <p>Redis 연장에 실패하면 로컬 lease 기한(연장 시각 + leaseMs / 2)이 지나는 순간 스스로 소유권을 내려놓아,
+ * 다른 replica 가 lease 를 가져가도 두 replica 가 동시에 dispatch 하지 않는다.
+ * heartbeat 는 전용 스레드({@code gate-ownership-})에서 실행하므로 다른 {@code @Scheduled} 작업이 밀려도 연장이 늦어지지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class DispatchOwnership {
+
+    private final GateOwnershipRedisRepository ownershipRedisRepository;
+    private final GateProperties gateProperties;
+    private final EventRegistry eventRegistry;
+    private final String instanceId;
+
+    /** 소유 중인 event -> 로컬 lease 기한 (ms) */
+    private final Map<Long, Long> owned = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService heartbeatExecutor;
+
+    public DispatchOwnership(
+            GateOwnershipRedisRepository ownershipRedisRepository,
+            GateProperties gateProperties,
+            EventRegistry eventRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        this.ownershipRedisRepository = ownershipRedisRepository;
+        this.gateProperties = gateProperties;
+        this.eventRegistry = eventRegistry;
+        this.instanceId = Optional.ofNullable(System.getenv("HOSTNAME")).orElse("gate")
+                + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        Gauge.builder("gate.ownership.owned", owned, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 이 replica 가 event 를 dispatch 해야 하는지 여부
+     */
+    public boolean owns(Long eventId) {
+        if (!gateProperties.isOwnershipEnabled()) {
+            return true;
+        }
+        Long deadline = owned.get(eventId);
+        return deadline != null && System.currentTimeMillis() < deadline;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!gateProperties.isOwnershipEnabled()) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("gate-ownership-");
+        threadFactory.setDaemon(true);
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        heartbeatExecutor.scheduleWithFixedDelay(
+                this::heartbeat, 0, gateProperties.getOwnershipHeartbeatMs(), TimeUnit.MILLISECONDS);
+    }
+
+    public void heartbeat() {
+        if (!gateProperties.isOwnershipEnabled()) {
+            return;
+        }
+
+        long leaseMs = gateProperties.getOwnershipLeaseMs();
+        try {
+            long now = System.currentTimeMillis();
+            Set<String> members = ownershipRedisRepository.heartbeat(instanceId, now, gateProperties.getOwnershipMemberTtlMs());
+
+            List<Long> eventIds = eventRegistry.eventIds();
+            for (Long eventId : eventIds) {
+                boolean assigned = instanceId.equals(assignee(eventId, members));
+                boolean holding = owned.containsKey(eventId);
+
+                if (holding && !assigned) {
+                    // 담당이 바뀜 (replica 추가 등) → 반납하여 새 담당이 바로 가져가도록
+                    owned.remove(eventId);
+                    ownershipRedisRepository.release(eventId, instanceId);
+                    log.info("Released dispatch ownership of event {} (reassigned)", eventId);
+                } else if (holding) {
+                    if (ownershipRedisRepository.renew(eventId, instanceId, leaseMs)) {
+                        owned.put(eventId, now + leaseMs / 2);
+                    } else {
+                        owned.remove(eventId);
+                        log.warn("Lost dispatch ownership of event {}", eventId);
+                    }
+                } else if (assigned && ownershipRedisRepository.tryAcquire(eventId, instanceId, leaseMs)) {
+                    owned.put(eventId, now + leaseMs / 2);
+                    log.info("Acquired dispatch ownership of event {}", eventId);
+                }
+            }
+
+            // 종료된 event 의 소유권 반납
+            for (Long eventId : owned.keySet()) {
+                if (!eventIds.contains(eventId)) {
+                    owned.remove(eventId);
+                    ownershipRedisRepository.release(eventId, instanceId);
+                }
+            }
+        } catch (Exception e) {
+            // 연장 실패 시 로컬 기한이 지나면 owns() 가 false 가 된다
+            log.warn("Failed to heartbeat dispatch ownership : {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void leave() {
+        if (!gateProperties.isOwnershipEnabled()) {
+            return;
+        }
+        try {
+            // 진행 중인 heartbeat 가 반납 이후 다시 획득하지 않도록 먼저 멈춘다
+            if (heartbeatExecutor != null) {
+                heartbeatExecutor.shutdownNow();
+                heartbeatExecutor.awaitTermination(1, TimeUnit.SECONDS);
+            }
+            for (Long eventId : owned.keySet()) {
+                ownershipRedisRepository.release(eventId, instanceId);
+            }
+            owned.clear();
+            ownershipRedisRepository.leave(instanceId);
+        } catch (Exception e) {
+            log.warn("Failed to release dispatch ownership on shutdown : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * rendezvous hashing - (eventId, member) 해시가 가장 큰 member 가 담당
+     */
+    static String assignee(Long eventId, Set<String> members) {
+        String best = null;
+        long bestScore = 0;
+        for (String member : members) {
+            long score = mix(member.hashCode() * 0x9E3779B97F4A7C15L + eventId);
+            if (best == null || Long.compareUnsigned(score, bestScore) > 0) {
+                best = member;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /** splitmix64 finalizer - 입력이 비슷해도 결과가 고르게 퍼지도록 */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
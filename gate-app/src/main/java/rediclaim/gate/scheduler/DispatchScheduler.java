@@ -1,34 +1,82 @@
 package rediclaim.gate.scheduler;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Component;
 import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.event.EventRegistry;
 import rediclaim.gate.service.GateService;
 
+import java.time.Duration;
+
+/**
+ * dispatch / stale 재큐 스케줄러.
+ *
+ * <p>스케줄러 스레드는 tick 마다 event 별 작업을 제출만 하고, 실제 Redis / Kafka 호출은
+ * {@link EventTaskExecutor} 의 전용 스레드 풀에서 event 단위로 독립 실행된다.
+ * dispatch 와 재큐는 서로 다른 풀을 사용한다.</p>
+ *
+ * <p>{@code gate.ownership-enabled=true} 이면 소유권을 가진 event 만 dispatch / 재큐하고,
+ * 나머지 event 는 head cursor 만 갱신한다 ({@link DispatchOwnership}).</p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class DispatchScheduler {
+public class DispatchScheduler implements SchedulingConfigurer {
 
     private final GateService gateService;
     private final GateProperties gateProperties;
+    private final MeterRegistry meterRegistry;
+    private final DispatchOwnership dispatchOwnership;
+    private final EventRegistry eventRegistry;
+
+    private EventTaskExecutor dispatchExecutor;
+    private EventTaskExecutor requeueExecutor;
+
+    @PostConstruct
+    void init() {
+        dispatchExecutor = new EventTaskExecutor(
+                "dispatch", gateProperties.getDispatchThreads(), gateProperties.getDispatchTimeoutMs(), meterRegistry);
+        requeueExecutor = new EventTaskExecutor(
+                "requeue", gateProperties.getRequeueThreads(), gateProperties.getStaleRequeueIntervalMs(), meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatchExecutor.shutdown();
+        requeueExecutor.shutdown();
+    }
 
     /**
-     * 설정된 주기(gate.dispatch-interval-ms)마다 각 event별로 queue -> active queue로 이동
-     * - rate 설정에 따라 N명씩 처리
+     * dispatch 주기 등록
+     * - 기본 : gate.dispatch-interval-ms 마다 (fixed delay) dispatchQuantity 명씩 처리
+     * - gate.dispatch-pacing-enabled=true : gate.dispatch-tick-ms 마다 (fixed rate) token bucket 만큼 처리
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (gateProperties.isDispatchPacingEnabled()) {
+            registrar.addFixedRateTask(this::dispatchQueueToProcessing, Duration.ofMillis(gateProperties.getDispatchTickMs()));
+        } else {
+            registrar.addFixedDelayTask(this::dispatchQueueToProcessing, Duration.ofMillis(gateProperties.getDispatchIntervalMs()));
+        }
+    }
+
+    /**
+     * 레지스트리에 등록된 각 event별로 queue -> active queue(또는 processing)로 이동
+     * - 이번 tick 의 인원은 DispatchPacer 가 결정
      */
-    @Scheduled(fixedDelayString = "${gate.dispatch-interval-ms:3000}")
     public void dispatchQueueToProcessing() {
-        for (Long eventId : gateProperties.getEventIds()) {
-            try {
-                int dispatched = gateService.dispatchOnce(eventId);
-                if (dispatched > 0) {
-                    log.debug("Event {} dispatched {} users to processing", eventId, dispatched);
-                }
-            } catch (Exception e) {
-                log.error("Failed to dispatch for event {}", eventId, e);
+        for (Long eventId : eventRegistry.eventIds()) {
+            if (dispatchOwnership.owns(eventId)) {
+                dispatchExecutor.submit(eventId, this::dispatch);
+            } else {
+                dispatchExecutor.submit(eventId, gateService::refreshHeadCursor);
             }
         }
     }
@@ -39,15 +87,32 @@ public class DispatchScheduler {
      */
     @Scheduled(fixedDelayString = "${gate.stale-requeue-interval-ms:30000}")
     public void requeueStaleRequests() {
-        for (Long eventId : gateProperties.getEventIds()) {
-            try {
-                int requeued = gateService.requeueStaleProcessing(eventId);
-                if (requeued > 0) {
-                    log.warn("Event {} requeued {} stale processing requests", eventId, requeued);
-                }
-            } catch (Exception e) {
-                log.error("Failed to requeue stale processing for event {}", eventId, e);
+        for (Long eventId : eventRegistry.eventIds()) {
+            if (dispatchOwnership.owns(eventId)) {
+                requeueExecutor.submit(eventId, this::requeue);
+            }
+        }
+    }
+
+    private void dispatch(Long eventId) {
+        try {
+            int dispatched = gateService.dispatchOnce(eventId);
+            if (dispatched > 0) {
+                log.debug("Event {} dispatched {} users to processing", eventId, dispatched);
+            }
+        } catch (Exception e) {
+            log.error("Failed to dispatch for event {}", eventId, e);
+        }
+    }
+
+    private void requeue(Long eventId) {
+        try {
+            int requeued = gateService.requeueStaleProcessing(eventId);
+            if (requeued > 0) {
+                log.warn("Event {} requeued {} stale processing requests", eventId, requeued);
             }
+        } catch (Exception e) {
+            log.error("Failed to requeue stale processing for event {}", eventId, e);
         }
     }
 }
@@ -0,0 +1,145 @@
+package rediclaim.gate.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * event 단위로 격리된 주기 작업 실행기 (dispatch / stale 재큐 용).
+ *
+ * <ul>
+ *   <li>각 event 작업은 전용 스레드 풀에서 독립적으로 실행되므로, 한 event 의 느린 Lua 호출이
+ *       다른 event 의 tick 을 지연시키지 않는다.</li>
+ *   <li>같은 event 의 이전 작업이 아직 실행 중이면 이번 tick 은 건너뛴다 (중첩 실행 방지).</li>
+ *   <li>작업이 timeoutMs 를 넘기면 한 번 경고하고 카운트한다. 실행 중인 Redis / Kafka 호출은 중단하지 않는다
+ *       (중간 중단 시 processing 에 남는 유저가 생기므로, Redis command timeout 에 맡긴다).</li>
+ * </ul>
+ *
+ * <p>메트릭 ({@code gate.<name>.*}, tag: eventId)</p>
+ * <ul>
+ *   <li>{@code lag} (Timer) — tick 시점부터 실제 실행 시작까지의 대기 시간</li>
+ *   <li>{@code duration} (Timer) — 작업 실행 시간</li>
+ *   <li>{@code skipped} (Counter) — 이전 작업이 끝나지 않아 건너뛴 tick 수</li>
+ *   <li>{@code timeouts} (Counter) — timeoutMs 를 넘긴 작업 수</li>
+ * </ul>
+ */
+@Slf4j
+final class EventTaskExecutor {
+
+    private final String name;
+    private final long timeoutMs;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Map<Long, EventState> states = new ConcurrentHashMap<>();
+
+    EventTaskExecutor(String name, int threads, long timeoutMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.timeoutMs = timeoutMs;
+        this.meterRegistry = meterRegistry;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("gate-" + name + "-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    /**
+     * event 작업 제출. 이전 작업이 실행 중이면 건너뛴다.
+     */
+    void submit(Long eventId, Consumer<Long> task) {
+        EventState state = states.computeIfAbsent(eventId, this::newState);
+        long now = System.nanoTime();
+
+        if (!state.running.compareAndSet(false, true)) {
+            state.skipped.increment();
+            reportTimeout(eventId, state, now);
+            return;
+        }
+
+        state.startedAt = now;
+        state.timeoutReported = false;
+        try {
+            executor.execute(() -> run(eventId, state, now, task));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            state.running.set(false);
+        }
+    }
+
+    void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    private void run(Long eventId, EventState state, long scheduledAt, Consumer<Long> task) {
+        long start = System.nanoTime();
+        state.lag.record(start - scheduledAt, TimeUnit.NANOSECONDS);
+        try {
+            task.accept(eventId);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            state.duration.record(elapsed, TimeUnit.NANOSECONDS);
+            if (!state.timeoutReported && elapsed > TimeUnit.MILLISECONDS.toNanos(timeoutMs)) {
+                state.timeouts.increment();
+                log.warn("Event {} {} took {} ms (timeout {} ms)", eventId, name, TimeUnit.NANOSECONDS.toMillis(elapsed), timeoutMs);
+            }
+            state.running.set(false);
+        }
+    }
+
+    private void reportTimeout(Long eventId, EventState state, long now) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - state.startedAt);
+        if (elapsedMs > timeoutMs && !state.timeoutReported) {
+            state.timeoutReported = true;
+            state.timeouts.increment();
+            log.warn("Event {} {} still running after {} ms (timeout {} ms), skipping ticks", eventId, name, elapsedMs, timeoutMs);
+        }
+    }
+
+    private EventState newState(Long eventId) {
+        String tag = eventId.toString();
+        return new EventState(
+                Timer.builder("gate." + name + ".lag").tag("eventId", tag).register(meterRegistry),
+                Timer.builder("gate." + name + ".duration").tag("eventId", tag).register(meterRegistry),
+                Counter.builder("gate." + name + ".skipped").tag("eventId", tag).register(meterRegistry),
+                Counter.builder("gate." + name + ".timeouts").tag("eventId", tag).register(meterRegistry)
+        );
+    }
+
+    private static final class EventState {
+
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final Timer lag;
+        private final Timer duration;
+        private final Counter skipped;
+        private final Counter timeouts;
+
+        /** 최근 작업 제출 시각 (nanoTime) */
+        private volatile long startedAt;
+        private volatile boolean timeoutReported;
+
+        private EventState(Timer lag, Timer duration, Counter skipped, Counter timeouts) {
+            this.lag = lag;
+            this.duration = duration;
+            this.skipped = skipped;
+            this.timeouts = timeouts;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package rediclaim.gate.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.repository.GateEnqueueDto;
+import rediclaim.gate.repository.GateRedisRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * enqueue 요청 묶음 처리기 ({@code gate.enqueue-coalescing-enabled=true} 일 때만 동작)
+ *
+ * <p>같은 event 로 동시에 들어온 enqueue 요청을 짧은 시간(window) 또는 최대 인원(maxBatch)
+ * 단위로 모아 {@link GateRedisRepository#enqueueBatchLua} 한 번으로 처리한다.
+ * 스파이크 구간에서 요청당 Redis round trip 을 묶음당 1회로 줄여 Lettuce 풀 고갈을 막는다.</p>
+ *
+ * <ul>
+ *   <li>묶음 내 순서는 버퍼 적재 순서(도착 순서)이며, Lua 가 이 순서대로 번호표를 발급한다.</li>
+ *   <li>maxBatch 에 도달하면 마지막으로 들어온 호출자 스레드가 즉시 실행한다.</li>
+ *   <li>window 만료 시에는 별도 flush 스레드가 실행한다.</li>
+ *   <li>{@link RedisConcurrencyLimiter} 허용은 묶음 Lua 호출 동안에만 잡는다. 허용을 얻지 못하면 묶음 전체가 503 으로 실패한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnqueueCoalescer {
+
+    private final GateRedisRepository gateRedisRepository;
+    private final GateProperties gateProperties;
+    private final RedisConcurrencyLimiter redisConcurrencyLimiter;
+
+    private final Map<Long, EventBuffer> buffers = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService windowTimer;
+    private ExecutorService flushExecutor;
+
+    @PostConstruct
+    void start() {
+        if (!gateProperties.isEnqueueCoalescingEnabled()) {
+            return;
+        }
+        windowTimer = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("gate-enqueue-window-"));
+        flushExecutor = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(),
+                daemonThreadFactory("gate-enqueue-flush-")
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        if (windowTimer != null) windowTimer.shutdownNow();
+        if (flushExecutor != null) flushExecutor.shutdown();
+    }
+
+    /**
+     * 현재 묶음에 합류하고, 묶음 실행 결과를 기다린다.
+     */
+    public GateEnqueueDto enqueue(Long eventId, Long userId) {
+        CompletableFuture<GateEnqueueDto> future = new CompletableFuture<>();
+
+        List<PendingEnqueue> full = buffers
+                .computeIfAbsent(eventId, id -> new EventBuffer())
+                .add(eventId, new PendingEnqueue(userId, future));
+        if (full != null) {
+            flush(eventId, full);
+        }
+
+        try {
+            return future.get(gateProperties.getEnqueueCoalescingTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for enqueue batch", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("Enqueue batch failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Enqueue batch timed out. eventId=" + eventId, e);
+        }
+    }
+
+    private void flushOnWindow(Long eventId) {
+        EventBuffer buffer = buffers.get(eventId);
+        if (buffer == null) return;
+
+        List<PendingEnqueue> batch = buffer.drainOnWindow();
+        if (!batch.isEmpty()) {
+            flush(eventId, batch);
+        }
+    }
+
+    private void flush(Long eventId, List<PendingEnqueue> batch) {
+        try {
+            List<Long> userIds = batch.stream().map(PendingEnqueue::userId).toList();
+            List<GateEnqueueDto> results = redisConcurrencyLimiter.call(
+                    () -> gateRedisRepository.enqueueBatchLua(eventId, userIds));
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+            log.debug("Event {} coalesced {} enqueue requests", eventId, batch.size());
+        } catch (Exception e) {
+            log.error("Failed to flush enqueue batch. eventId={} size={}", eventId, batch.size(), e);
+            batch.forEach(p -> p.future().completeExceptionally(e));
+        }
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+        CustomizableThreadFactory factory = new CustomizableThreadFactory(prefix);
+        factory.setDaemon(true);
+        return factory;
+    }
+
+    private record PendingEnqueue(Long userId, CompletableFuture<GateEnqueueDto> future) {
+    }
+
+    /**
+     * event 별 묶음 버퍼.
+     * 적재 순서를 그대로 보존해야 하므로 lock 안에서 append 와 swap 을 수행한다.
+     */
+    private final class EventBuffer {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private List<PendingEnqueue> pending = new ArrayList<>();
+        private boolean windowScheduled;
+
+        /**
+         * @return maxBatch 에 도달한 경우 즉시 실행할 묶음, 아니면 null
+         */
+        List<PendingEnqueue> add(Long eventId, PendingEnqueue request) {
+            lock.lock();
+            try {
+                pending.add(request);
+                if (pending.size() >= gateProperties.getEnqueueCoalescingMaxBatch()) {
+                    return swap();
+                }
+                if (!windowScheduled) {
+                    windowScheduled = true;
+                    windowTimer.schedule(
+                            () -> flushExecutor.execute(() -> flushOnWindow(eventId)),
+                            gateProperties.getEnqueueCoalescingWindowMs(),
+                            TimeUnit.MILLISECONDS
+                    );
+                }
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<PendingEnqueue> drainOnWindow() {
+            lock.lock();
+            try {
+                windowScheduled = false;
+                return swap();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<PendingEnqueue> swap() {
+            List<PendingEnqueue> batch = pending;
+            pending = new ArrayList<>();
+            return batch;
+        }
+    }
+}
@@ -2,11 +2,21 @@ package rediclaim.gate.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import rediclaim.gate.config.GateProperties;
 import rediclaim.gate.dispatcher.DispatchStrategy;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.event.SoldOutRegistry;
 import rediclaim.gate.repository.GateEnqueueDto;
 import rediclaim.gate.repository.GateRedisRepository;
 import rediclaim.gate.controller.dto.GateEnqueueResponse;
 import rediclaim.gate.controller.dto.GateStatusResponse;
+import rediclaim.gate.ticket.DispatchHeadCursor;
+import rediclaim.gate.ticket.QueueTicket;
+import rediclaim.gate.ticket.QueueTicketSigner;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 @Service
 @RequiredArgsConstructor
@@ -14,35 +24,148 @@ public class GateService {
 
     private final GateRedisRepository gateRedisRepository;
     private final DispatchStrategy dispatchStrategy;
+    private final EnqueueCoalescer enqueueCoalescer;
+    private final GateProperties gateProperties;
+    private final QueueTicketSigner queueTicketSigner;
+    private final DispatchHeadCursor dispatchHeadCursor;
+    private final RedisConcurrencyLimiter redisConcurrencyLimiter;
+    private final SoldOutRegistry soldOutRegistry;
+    private final EventRegistry eventRegistry;
 
+    /**
+     * 대기열 입장.
+     * {@code gate.enqueue-coalescing-enabled=true} 이면 동시 요청을 묶어 한 번의 Lua 호출로 처리한다.
+     * 등록되지 않은 event 와 품절된 event 는 대기열에 넣지 않는다.
+     */
     public GateEnqueueResponse enqueue(Long eventId, Long userId) {
-        GateEnqueueDto result = gateRedisRepository.enqueueLua(eventId, userId);
+        Optional<GateEnqueueResponse> rejected = rejectEnqueue(eventId);
+        if (rejected.isPresent()) {
+            return rejected.get();
+        }
+
+        // 묶음 처리 시 동시 호출 제한은 묶음 Lua 호출에만 적용된다 (묶음을 기다리는 동안 허용을 잡지 않음)
+        GateEnqueueDto result = gateProperties.isEnqueueCoalescingEnabled()
+                ? enqueueCoalescer.enqueue(eventId, userId)
+                : redisConcurrencyLimiter.call(() -> gateRedisRepository.enqueueLua(eventId, userId));
+
+        return toEnqueueResponse(eventId, userId, result);
+    }
+
+    /**
+     * 입장 결과를 응답으로 변환 (번호표 사용 시 서명된 ticket 포함)
+     */
+    public GateEnqueueResponse toEnqueueResponse(Long eventId, Long userId, GateEnqueueDto result) {
+        String ticket = null;
+        if (gateProperties.isTicketEnabled() && result.ticket() != null) {
+            ticket = queueTicketSigner.sign(new QueueTicket(eventId, userId, result.ticket()));
+        }
 
         if (result.enqueued()) {
-            return new GateEnqueueResponse("ENQUEUED", result.rank() + 1);
+            return new GateEnqueueResponse("ENQUEUED", result.rank() + 1, ticket);
         } else {
-            return new GateEnqueueResponse("ALREADY_ENQUEUED", result.rank() + 1);
+            return new GateEnqueueResponse("ALREADY_ENQUEUED", result.rank() + 1, ticket);
+        }
+    }
+
+    /**
+     * 상태 조회.
+     *
+     * <p>유효한 번호표가 전달되고 head cursor 와 충분히 떨어져 있으면 {@code ticket - head} 로
+     * WAITING 순번을 계산한다 (Redis 호출 없음). 대기열 head 근처이거나 번호표가 없으면 Redis 로 조회한다.
+     * 품절된 event 는 Redis 호출 없이 SOLD_OUT 으로 응답한다.</p>
+     *
+     * @param ticket enqueue 응답으로 받은 서명된 번호표 (nullable)
+     */
+    public GateStatusResponse getStatus(Long eventId, Long userId, String ticket) {
+        if (soldOutRegistry.isSoldOut(eventId)) {
+            return soldOut();
+        }
+
+        Optional<GateStatusResponse> estimated = estimateFromTicket(eventId, userId, ticket);
+        if (estimated.isPresent()) {
+            return estimated.get();
+        }
+
+        return redisConcurrencyLimiter.call(() -> {
+            // 1. 대기열 확인
+            Long rank = gateRedisRepository.getRank(eventId, userId).orElse(null);
+            if (rank != null) {
+                return new GateStatusResponse("WAITING", rank + 1);
+            }
+
+            // 2. dispatch-mode 별 상태 확인 (PROCESSING / ACTIVE / UNKNOWN)
+            return dispatchStrategy.statusOf(eventId, userId);
+        });
+    }
+
+    /**
+     * 대기열에 넣지 않을 event 면 응답 (Redis 호출 없음)
+     * - 등록되지 않았거나 종료된 event : EVENT_NOT_FOUND (dispatch 되지 않아 영원히 대기하게 되므로)
+     * - 품절된 event : SOLD_OUT
+     */
+    public Optional<GateEnqueueResponse> rejectEnqueue(Long eventId) {
+        if (!eventRegistry.isRegistered(eventId)) {
+            return Optional.of(new GateEnqueueResponse("EVENT_NOT_FOUND", null));
+        }
+        if (soldOutRegistry.isSoldOut(eventId)) {
+            return Optional.of(new GateEnqueueResponse("SOLD_OUT", null));
         }
+        return Optional.empty();
+    }
+
+    /**
+     * 품절된 event 면 SOLD_OUT 상태 (Redis 호출 없음)
+     */
+    public Optional<GateStatusResponse> soldOutStatus(Long eventId) {
+        return soldOutRegistry.isSoldOut(eventId) ? Optional.of(soldOut()) : Optional.empty();
+    }
+
+    private static GateStatusResponse soldOut() {
+        return new GateStatusResponse("SOLD_OUT", null);
     }
 
-    public GateStatusResponse getStatus(Long eventId, Long userId) {
-        // 1. 대기열 확인
-        Long rank = gateRedisRepository.getRank(eventId, userId).orElse(null);
-        if (rank != null) {
-            return new GateStatusResponse("WAITING", rank + 1);
+    /**
+     * 번호표와 로컬 head cursor 로 WAITING 순번 계산 (Redis 호출 없음).
+     * 번호표가 없거나 유효하지 않거나, head 근처라 정확한 조회가 필요하면 empty.
+     */
+    public Optional<GateStatusResponse> estimateFromTicket(Long eventId, Long userId, String ticket) {
+        if (!gateProperties.isTicketEnabled() || ticket == null) {
+            return Optional.empty();
         }
 
-        // 2. dispatch-mode 별 상태 확인 (PROCESSING / ACTIVE / UNKNOWN)
-        return dispatchStrategy.statusOf(eventId, userId);
+        Optional<QueueTicket> verified = queueTicketSigner.verify(ticket, eventId, userId);
+        OptionalLong head = dispatchHeadCursor.head(eventId);
+        if (verified.isEmpty() || head.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long distance = verified.get().ticket() - head.getAsLong();
+        if (distance > gateProperties.getTicketExactRankThreshold()) {
+            return Optional.of(new GateStatusResponse("WAITING", distance));
+        }
+        return Optional.empty();
     }
 
     /**
      * 대기열에서 N명을 꺼내 다음 단계로 이동.
      * - kafka 모드      : Processing Queue 이동 후 Kafka 발행
      * - active-queue 모드 : Active Queue(TTL) 이동 후 클라이언트가 issuer-api-app 직접 호출
+     * dispatch 후 로컬 head cursor 를 갱신한다. 품절된 event 는 dispatch 하지 않는다.
      */
     public int dispatchOnce(Long eventId) {
-        return dispatchStrategy.dispatch(eventId);
+        if (soldOutRegistry.isSoldOut(eventId)) {
+            return 0;
+        }
+        int dispatched = dispatchStrategy.dispatch(eventId);
+        dispatchHeadCursor.refresh(eventId);
+        return dispatched;
+    }
+
+    /**
+     * dispatch 를 담당하지 않는 replica 의 head cursor 갱신 (번호표 순번 계산용)
+     */
+    public void refreshHeadCursor(Long eventId) {
+        dispatchHeadCursor.refresh(eventId);
     }
 
     /**
@@ -50,7 +173,15 @@ public class GateService {
      * kafka 모드에서만 호출된다.
      */
     public void removeFromProcessing(Long eventId, Long userId) {
-        gateRedisRepository.removeFromProcessing(eventId, userId);
+        redisConcurrencyLimiter.run(() -> gateRedisRepository.removeFromProcessing(eventId, userId));
+    }
+
+    /**
+     * issuer-worker-app 의 묶음 완료 콜백 - 여러 유저를 한 번에 processing 에서 제거.
+     */
+    public void removeFromProcessing(Long eventId, List<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        redisConcurrencyLimiter.run(() -> gateRedisRepository.removeFromProcessing(eventId, userIds));
     }
 
     /**
@@ -0,0 +1,54 @@
+package rediclaim.gate.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import rediclaim.gate.controller.dto.GateEnqueueResponse;
+import rediclaim.gate.controller.dto.GateStatusResponse;
+import rediclaim.gate.dispatcher.ReactiveDispatchStrategy;
+import rediclaim.gate.repository.ReactiveGateRedisRepository;
+
+import java.util.List;
+
+/**
+ * {@link GateService} 요청 경로(enqueue / 상태 조회 / 완료 콜백)의 reactive 버전.
+ * {@code spring.main.web-application-type=reactive} 일 때만 등록된다.
+ *
+ * <p>번호표 서명 / head cursor 기반 순번 계산은 {@link GateService} 와 같은 로직을 사용한다.
+ * enqueue coalescing 은 적용하지 않는다 — reactive 경로는 스레드를 점유하지 않고
+ * 하나의 Lettuce 연결에 명령을 파이프라인으로 흘려보내므로 묶음 처리의 이점이 작다.</p>
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveGateService {
+
+    private final ReactiveGateRedisRepository reactiveGateRedisRepository;
+    private final ReactiveDispatchStrategy reactiveDispatchStrategy;
+    private final GateService gateService;
+
+    public Mono<GateEnqueueResponse> enqueue(Long eventId, Long userId) {
+        return gateService.rejectEnqueue(eventId)
+                .map(Mono::just)
+                .orElseGet(() -> reactiveGateRedisRepository.enqueue(eventId, userId)
+                        .map(result -> gateService.toEnqueueResponse(eventId, userId, result)));
+    }
+
+    public Mono<GateStatusResponse> getStatus(Long eventId, Long userId, String ticket) {
+        return gateService.soldOutStatus(eventId)
+                .or(() -> gateService.estimateFromTicket(eventId, userId, ticket))
+                .map(Mono::just)
+                .orElseGet(() -> reactiveGateRedisRepository.getRank(eventId, userId)
+                        .map(rank -> new GateStatusResponse("WAITING", rank + 1))
+                        .switchIfEmpty(Mono.defer(() -> reactiveDispatchStrategy.statusOf(eventId, userId))));
+    }
+
+    public Mono<Void> removeFromProcessing(Long eventId, Long userId) {
+        return reactiveGateRedisRepository.removeFromProcessing(eventId, userId);
+    }
+
+    public Mono<Void> removeFromProcessing(Long eventId, List<Long> userIds) {
+        return reactiveGateRedisRepository.removeFromProcessing(eventId, userIds);
+    }
+}
@@ -0,0 +1,73 @@
+package rediclaim.gate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.config.GateProperties;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 경로의 Redis 동시 호출 수 제한 ({@code gate.redis-max-concurrency}, 0 이면 제한 없음)
+ *
+ * <p>가상 스레드 모드({@code spring.threads.virtual.enabled=true})에서는 Tomcat 스레드 수가 더 이상
+ * 동시 요청 수의 상한이 되지 않으므로, 스파이크 시 Lettuce 풀 대기열이 무한정 늘어나지 않도록
+ * 여기서 먼저 제한한다. 허용 수를 넘긴 요청은 {@code gate.redis-acquire-timeout-ms} 만큼만 기다린 뒤
+ * 503 으로 빠르게 실패한다.</p>
+ *
+ * <p>Semaphore 는 대기 중 carrier 스레드를 점유(pinning)하지 않는다.</p>
+ */
+@Component
+public class RedisConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Counter rejected;
+
+    public RedisConcurrencyLimiter(GateProperties gateProperties, MeterRegistry meterRegistry) {
+        int maxConcurrency = gateProperties.getRedisMaxConcurrency();
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        this.acquireTimeoutMs = gateProperties.getRedisAcquireTimeoutMs();
+        this.rejected = Counter.builder("gate.redis.limiter.rejected").register(meterRegistry);
+
+        if (permits != null) {
+            Gauge.builder("gate.redis.limiter.in.use", permits, p -> maxConcurrency - p.availablePermits())
+                    .register(meterRegistry);
+        }
+    }
+
+    public <T> T call(Supplier<T> action) {
+        if (permits == null) {
+            return action.get();
+        }
+
+        acquire();
+        try {
+            return action.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new ConcurrencyLimitExceededException("Redis concurrency limit exceeded");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Redis permit", e);
+        }
+    }
+}
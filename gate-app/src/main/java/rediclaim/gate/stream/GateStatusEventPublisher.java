@@ -0,0 +1,36 @@
+package rediclaim.gate.stream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * dispatch 로 상태가 바뀐 유저 목록을 Redis pub/sub 으로 모든 gate replica 에 전파한다.
+ *
+ * <p>채널: {@code gate:status:{eventId}} / 메시지: {@code {status}:{userId},{userId},...}</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GateStatusEventPublisher {
+
+    public static final String CHANNEL_PREFIX = "gate:status:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void publishDispatched(Long eventId, String status, List<Long> userIds) {
+        if (userIds.isEmpty()) return;
+
+        String message = status + ":" + userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + eventId, message);
+        } catch (Exception e) {
+            // 전파 실패 시 스트림은 주기적 상태 확인으로 전이를 감지한다
+            log.warn("Failed to publish status transition for event {} : {}", eventId, e.getMessage());
+        }
+    }
+}
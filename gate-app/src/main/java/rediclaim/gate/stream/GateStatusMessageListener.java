@@ -0,0 +1,42 @@
+package rediclaim.gate.stream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code gate:status:*} 채널 구독자.
+ * 다른 replica(또는 자신)가 dispatch 한 유저 중 이 replica 에 스트림이 연결된 유저에게 즉시 전이를 push 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GateStatusMessageListener implements MessageListener {
+
+    private final GateStatusStreamService gateStatusStreamService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            Long eventId = Long.parseLong(channel.substring(GateStatusEventPublisher.CHANNEL_PREFIX.length()));
+            int sep = body.indexOf(':');
+            String status = body.substring(0, sep);
+            List<Long> userIds = Arrays.stream(body.substring(sep + 1).split(","))
+                    .map(Long::parseLong)
+                    .toList();
+
+            gateStatusStreamService.pushTransition(eventId, status, userIds);
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed status message. channel={} body={}", channel, body);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package rediclaim.gate.stream;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.controller.dto.GateStatusResponse;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.repository.GateRedisRepository;
+import rediclaim.gate.service.GateService;
+import rediclaim.gate.ticket.AdmissionTokenSigner;
+import rediclaim.gate.ticket.DispatchHeadCursor;
+import rediclaim.gate.ticket.QueueTicket;
+import rediclaim.gate.ticket.QueueTicketSigner;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기 유저 상태 SSE 스트림 관리.
+ *
+ * <p>폴링 대신 연결을 유지하고, 서버가 상태 변화만 push 한다.</p>
+ * <ul>
+ *   <li>WAITING 순번: {@code gate.stream-push-interval-ms} 주기로 {@code ticket - head} 를 계산해
+ *       값이 바뀐 경우에만 push 한다 (Redis 호출 없음).</li>
+ *   <li>ACTIVE / PROCESSING 전이: dispatch 시 Redis pub/sub({@link GateStatusMessageListener})으로
+ *       전달받아 즉시 push 하고 스트림을 종료한다.</li>
+ * </ul>
+ *
+ * <p>연결당 상태는 emitter 와 ticket / 마지막 순번뿐이므로, 대기 중인 스트림은 스레드를 점유하지 않는다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GateStatusStreamService {
+
+    private static final String EVENT_NAME = "status";
+
+    private final GateService gateService;
+    private final GateRedisRepository gateRedisRepository;
+    private final QueueTicketSigner queueTicketSigner;
+    private final DispatchHeadCursor dispatchHeadCursor;
+    private final GateProperties gateProperties;
+    private final AdmissionTokenSigner admissionTokenSigner;
+    private final EventRegistry eventRegistry;
+
+    /** eventId -> (userId -> 구독) */
+    private final Map<Long, Map<Long, Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService pusher;
+
+    @PostConstruct
+    void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("gate-stream-push-");
+        threadFactory.setDaemon(true);
+        pusher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+
+        long interval = gateProperties.getStreamPushIntervalMs();
+        pusher.scheduleWithFixedDelay(this::pushRanks, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        pusher.shutdownNow();
+        subscriptions.values().forEach(users -> users.values().forEach(s -> s.emitter().complete()));
+    }
+
+    /**
+     * 스트림 연결.
+     * 현재 상태를 즉시 한 번 보내고, 대기 중이면 구독을 등록한다.
+     */
+    public SseEmitter subscribe(Long eventId, Long userId, String ticket) {
+        SseEmitter emitter = new SseEmitter(gateProperties.getStreamTimeoutMs());
+
+        GateStatusResponse current = gateService.getStatus(eventId, userId, ticket);
+        if (!"WAITING".equals(current.status())) {
+            sendAndComplete(emitter, current);
+            return emitter;
+        }
+
+        Optional<Long> resolvedTicket = resolveTicket(eventId, userId, ticket);
+        if (resolvedTicket.isEmpty()) {
+            // 조회 사이에 dispatch 된 경우: 최신 상태를 다시 보내고 종료
+            sendAndComplete(emitter, gateService.getStatus(eventId, userId, null));
+            return emitter;
+        }
+
+        Subscription subscription = new Subscription(emitter, resolvedTicket.get());
+        subscription.lastRank = current.rank();
+
+        Subscription previous = subscriptions
+                .computeIfAbsent(eventId, id -> new ConcurrentHashMap<>())
+                .put(userId, subscription);
+        if (previous != null) {
+            // 같은 유저의 이전 연결(새로고침 등)은 종료
+            previous.emitter().complete();
+        }
+
+        Runnable remove = () -> unsubscribe(eventId, userId, subscription);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        send(emitter, current);
+        return emitter;
+    }
+
+    /**
+     * dispatch 전이 push (pub/sub 수신 시 호출).
+     * 이 replica 에 연결된 유저에게만 전달하고 스트림을 종료한다.
+     */
+    public void pushTransition(Long eventId, String status, List<Long> userIds) {
+        Map<Long, Subscription> users = subscriptions.get(eventId);
+        if (users == null) return;
+
+        // ACTIVE 전이는 방금 부여된 권한이므로 TTL 만큼의 발급 허가 토큰을 함께 보낸다
+        boolean mintToken = "ACTIVE".equals(status) && admissionTokenSigner.enabled();
+        long expiresAt = mintToken
+                ? System.currentTimeMillis() + eventRegistry.settings(eventId).activeTtlSeconds() * 1000
+                : 0;
+
+        GateStatusResponse response = new GateStatusResponse(status, null);
+        for (Long userId : userIds) {
+            Subscription subscription = users.remove(userId);
+            if (subscription != null) {
+                sendAndComplete(subscription.emitter(), mintToken
+                        ? new GateStatusResponse(status, null, admissionTokenSigner.sign(eventId, userId, expiresAt))
+                        : response);
+            }
+        }
+    }
+
+    /**
+     * 품절 push (품절 신호 수신 시 호출).
+     * 이 replica 에 연결된 해당 event 의 대기 유저 전체에 SOLD_OUT 을 보내고 스트림을 종료한다.
+     */
+    public void pushSoldOut(Long eventId) {
+        Map<Long, Subscription> users = subscriptions.remove(eventId);
+        if (users == null) return;
+
+        GateStatusResponse response = new GateStatusResponse("SOLD_OUT", null);
+        users.values().forEach(subscription -> sendAndComplete(subscription.emitter(), response));
+    }
+
+    /**
+     * 연결된 스트림 수 (메트릭/운영 확인용)
+     */
+    public int connectionCount() {
+        return subscriptions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void pushRanks() {
+        subscriptions.forEach((eventId, users) -> {
+            try {
+                OptionalLong head = dispatchHeadCursor.head(eventId);
+                if (head.isEmpty()) return;
+
+                users.forEach((userId, subscription) -> pushRank(eventId, userId, subscription, head.getAsLong()));
+            } catch (Exception e) {
+                log.error("Failed to push stream ranks for event {}", eventId, e);
+            }
+        });
+    }
+
+    private void pushRank(Long eventId, Long userId, Subscription subscription, long head) {
+        long distance = subscription.ticket() - head;
+
+        GateStatusResponse status;
+        if (distance > 0) {
+            status = new GateStatusResponse("WAITING", distance);
+        } else {
+            // head 를 지났는데 전이 메시지를 받지 못한 경우 (재큐 / pub/sub 유실) Redis 로 확인
+            status = gateService.getStatus(eventId, userId, null);
+            if (!"WAITING".equals(status.status())) {
+                subscriptions.get(eventId).remove(userId, subscription);
+                sendAndComplete(subscription.emitter(), status);
+                return;
+            }
+        }
+
+        if (!status.rank().equals(subscription.lastRank)) {
+            subscription.lastRank = status.rank();
+            send(subscription.emitter(), status);
+        }
+    }
+
+    private Optional<Long> resolveTicket(Long eventId, Long userId, String ticket) {
+        if (ticket != null) {
+            Optional<QueueTicket> verified = queueTicketSigner.verify(ticket, eventId, userId);
+            if (verified.isPresent()) {
+                return Optional.of(verified.get().ticket());
+            }
+        }
+        return gateRedisRepository.getTicket(eventId, userId);
+    }
+
+    private void unsubscribe(Long eventId, Long userId, Subscription subscription) {
+        Map<Long, Subscription> users = subscriptions.get(eventId);
+        if (users != null) {
+            users.remove(userId, subscription);
+        }
+    }
+
+    private void send(SseEmitter emitter, GateStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(status));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 - onError / onCompletion 에서 정리된다
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendAndComplete(SseEmitter emitter, GateStatusResponse status) {
+        send(emitter, status);
+        emitter.complete();
+    }
+
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private final long ticket;
+        private volatile Long lastRank;
+
+        private Subscription(SseEmitter emitter, long ticket) {
+            this.emitter = emitter;
+            this.ticket = ticket;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        long ticket() {
+            return ticket;
+        }
+    }
+}
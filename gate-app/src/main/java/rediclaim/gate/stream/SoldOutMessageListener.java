@@ -0,0 +1,76 @@
+package rediclaim.gate.stream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.event.SoldOutRegistry;
+import rediclaim.gate.repository.SoldOutRedisRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * {@code gate:soldout} 채널 구독자.
+ *
+ * <p>issuer-api-app / issuer-worker-app 이 재고 소진을 알리면 event 를 로컬 latch 에 표시하고,
+ * 이 replica 에 스트림이 연결된 대기 유저 전체에게 SOLD_OUT 을 push 한 뒤 스트림을 종료한다.
+ * 폴링 유저는 다음 상태 조회에서 SOLD_OUT 을 받는다.
+ * {@code reset:{eventId}} 를 받으면 (운영자가 event 를 다시 등록) latch 를 해제한다.</p>
+ *
+ * <p>pub/sub 유실 / 기동 전 품절에 대비해 {@code gate.event-registry-refresh-ms} 주기로 플래그도 확인한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutMessageListener implements MessageListener {
+
+    private final SoldOutRegistry soldOutRegistry;
+    private final SoldOutRedisRepository soldOutRedisRepository;
+    private final EventRegistry eventRegistry;
+    private final GateStatusStreamService gateStatusStreamService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        try {
+            if (body.startsWith(SoldOutRedisRepository.RESET_PREFIX)) {
+                reset(Long.parseLong(body.substring(SoldOutRedisRepository.RESET_PREFIX.length())));
+            } else {
+                latch(Long.parseLong(body));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed sold-out message. body={}", body);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gate.event-registry-refresh-ms:5000}")
+    public void refresh() {
+        if (!soldOutRegistry.enabled()) return;
+
+        List<Long> candidates = eventRegistry.eventIds().stream()
+                .filter(eventId -> !soldOutRegistry.isSoldOut(eventId))
+                .toList();
+        try {
+            soldOutRedisRepository.soldOutAmong(candidates).forEach(this::latch);
+        } catch (Exception e) {
+            log.warn("Failed to refresh sold-out flags : {}", e.getMessage());
+        }
+    }
+
+    private void latch(Long eventId) {
+        if (soldOutRegistry.markSoldOut(eventId)) {
+            log.info("Event {} sold out, closing queue", eventId);
+            gateStatusStreamService.pushSoldOut(eventId);
+        }
+    }
+
+    private void reset(Long eventId) {
+        if (soldOutRegistry.reset(eventId)) {
+            log.info("Event {} sold-out reset, reopening queue", eventId);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package rediclaim.gate.ticket;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import rediclaim.gate.config.GateProperties;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 발급 허가 토큰 서명 ({@code gate.admission-token-enabled=true}).
+ *
+ * <p>형식: {@code {eventId}.{userId}.{expiresAtMs}.{nonce}.{base64url(HMAC-SHA256)}}</p>
+ *
+ * <p>ACTIVE 상태 응답에 함께 내려주며, issuer-api-app 은 같은 서명 키로 이 토큰을 로컬 검증하므로
+ * 발급 요청마다 Active Queue 를 Redis 에서 조회하지 않아도 된다. 만료 시각은 Active Queue 의 만료 시각과 같다.
+ * nonce 는 토큰마다 달라 issuer-api-app 의 replay cache 키로 쓰인다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionTokenSigner {
+
+    private final GateProperties gateProperties;
+
+    private HmacSha256 hmac;
+
+    @PostConstruct
+    void init() {
+        if (!gateProperties.isAdmissionTokenEnabled()) {
+            return;
+        }
+        if (!StringUtils.hasText(gateProperties.getAdmissionSecret())) {
+            throw new IllegalStateException("gate.admission-secret must be set when gate.admission-token-enabled=true");
+        }
+        hmac = new HmacSha256(gateProperties.getAdmissionSecret());
+    }
+
+    public boolean enabled() {
+        return hmac != null;
+    }
+
+    public String sign(Long eventId, Long userId, long expiresAtMs) {
+        String nonce = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        String payload = eventId + "." + userId + "." + expiresAtMs + "." + nonce;
+        return payload + "." + hmac.sign(payload);
+    }
+}
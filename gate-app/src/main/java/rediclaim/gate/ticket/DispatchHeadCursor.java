@@ -0,0 +1,52 @@
+package rediclaim.gate.ticket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.repository.GateRedisRepository;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * event 별 "여기까지 dispatch 됨" head cursor 의 로컬 캐시.
+ *
+ * <p>dispatch 직후 {@link #refresh(Long)} 로 Redis 의 head cursor 를 읽어 캐싱한다.
+ * 상태 조회는 {@code ticket - head} 로 대기 순번을 계산하므로, 폴링마다 Redis 를 조회하지 않는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DispatchHeadCursor {
+
+    private final GateRedisRepository gateRedisRepository;
+    private final GateProperties gateProperties;
+
+    private final Map<Long, Snapshot> heads = new ConcurrentHashMap<>();
+
+    public void refresh(Long eventId) {
+        try {
+            heads.put(eventId, new Snapshot(gateRedisRepository.getDispatchedHead(eventId), System.currentTimeMillis()));
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 값이 오래되면 자연스럽게 Redis 조회 경로로 fallback 된다
+            log.warn("Failed to refresh dispatch head cursor for event {} : {}", eventId, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 최근 갱신된 head cursor. 갱신된 적이 없거나 오래된 경우 empty
+     */
+    public OptionalLong head(Long eventId) {
+        Snapshot snapshot = heads.get(eventId);
+        if (snapshot == null
+                || System.currentTimeMillis() - snapshot.refreshedAt() > gateProperties.getTicketCursorMaxAgeMs()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(snapshot.head());
+    }
+
+    private record Snapshot(long head, long refreshedAt) {
+    }
+}
@@ -0,0 +1,66 @@
+package rediclaim.gate.ticket;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * gate 서명 토큰 공용 HMAC-SHA256 (base64url, padding 없음)
+ */
+final class HmacSha256 {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    /**
+     * 초기화된 Mac 원본. Mac 은 thread-safe 하지 않으므로 호출마다 복제해서 사용한다.
+     * (가상 스레드는 요청마다 새로 생성되므로 ThreadLocal 캐시가 재사용되지 않는다)
+     */
+    private final Mac prototype;
+
+    HmacSha256(String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.prototype = newMac();
+    }
+
+    String sign(String payload) {
+        byte[] raw = mac().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * {@code payload.signature} 형식 토큰의 서명을 검증하고 payload 를 반환한다 (실패 시 null)
+     */
+    String verifiedPayload(String token) {
+        int sigIndex = token.lastIndexOf('.');
+        if (sigIndex < 0) {
+            return null;
+        }
+        String payload = token.substring(0, sigIndex);
+        byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(sigIndex + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual) ? payload : null;
+    }
+
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return newMac();
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+        }
+    }
+}
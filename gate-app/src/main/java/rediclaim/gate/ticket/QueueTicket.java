@@ -0,0 +1,13 @@
+package rediclaim.gate.ticket;
+
+/**
+ * 대기열 번호표.
+ *
+ * @param ticket gate:queue:rank:{eventId} 에서 발급된 단조 증가 번호
+ */
+public record QueueTicket(
+        Long eventId,
+        Long userId,
+        long ticket
+) {
+}
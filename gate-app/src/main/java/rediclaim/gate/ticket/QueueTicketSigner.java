@@ -0,0 +1,70 @@
+package rediclaim.gate.ticket;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import rediclaim.gate.config.GateProperties;
+
+import java.util.Optional;
+
+/**
+ * 번호표 서명/검증.
+ *
+ * <p>형식: {@code {eventId}.{userId}.{ticket}.{base64url(HMAC-SHA256)}}</p>
+ *
+ * <p>서명 키를 공유하는 모든 gate replica 가 Redis 조회 없이 번호표를 검증할 수 있다.
+ * 클라이언트가 ticket 값을 임의로 낮춰 순번을 속이는 것을 막기 위한 용도이다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class QueueTicketSigner {
+
+    private final GateProperties gateProperties;
+
+    private HmacSha256 hmac;
+
+    @PostConstruct
+    void init() {
+        if (!gateProperties.isTicketEnabled()) {
+            return;
+        }
+        if (!StringUtils.hasText(gateProperties.getTicketSecret())) {
+            throw new IllegalStateException("gate.ticket-secret must be set when gate.ticket-enabled=true");
+        }
+        hmac = new HmacSha256(gateProperties.getTicketSecret());
+    }
+
+    public String sign(QueueTicket ticket) {
+        String payload = ticket.eventId() + "." + ticket.userId() + "." + ticket.ticket();
+        return payload + "." + hmac.sign(payload);
+    }
+
+    /**
+     * 서명이 유효하고 eventId / userId 가 요청과 일치할 때만 번호표를 반환한다.
+     */
+    public Optional<QueueTicket> verify(String token, Long eventId, Long userId) {
+        if (hmac == null || !StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        String payload = hmac.verifiedPayload(token);
+        if (payload == null) {
+            return Optional.empty();
+        }
+
+        String[] parts = payload.split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            QueueTicket ticket = new QueueTicket(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            if (!ticket.eventId().equals(eventId) || !ticket.userId().equals(userId)) {
+                return Optional.empty();
+            }
+            return Optional.of(ticket);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+--[[
+  head cursor 를 전진 (현재 값보다 클 때만 갱신)
+
+  KEYS[1] : gate:queue:head:{eventId}  — 지금까지 dispatch 된 최대 ticket
+  ARGV[1] : 이번에 dispatch 된 최대 ticket
+
+  반환값: 갱신 후 head cursor
+--]]
+
+local ticket = tonumber(ARGV[1])
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+
+if ticket > current then
+    redis.call('SET', KEYS[1], ticket)
+    return ticket
+end
+
+return current
@@ -0,0 +1,36 @@
+--[[
+  여러 유저 대기열 일괄 입장 (enqueue coalescing 용)
+  gate.queue-shards = 1 일 때 사용 (모든 키가 {eventId} hash tag 로 같은 slot)
+
+  ARGV 순서가 곧 도착 순서이며, 번호표도 이 순서대로 발급된다.
+
+  KEYS[1] : gate:queue:{eventId}       — 대기열 ZSet (member=userId, score=ticket)
+  KEYS[2] : gate:queue:rank:{eventId}  — 번호표 카운터 (INCR)
+  ARGV[n] : userId (도착 순서)
+
+  반환값: {isNew(1/0), rank(0-based), ticket, isNew, rank, ticket ...} (ARGV 와 같은 순서)
+--]]
+
+local qKey = KEYS[1]
+local rKey = KEYS[2]
+local result = {}
+
+for i = 1, #ARGV do
+    local val = ARGV[i]
+
+    local ticket = redis.call('ZSCORE', qKey, val)
+    if ticket then
+        -- 이미 대기열에 있음 (같은 묶음 내 중복 요청 포함)
+        ticket = tonumber(ticket)
+        result[#result + 1] = 0
+    else
+        ticket = redis.call('INCR', rKey)
+        redis.call('ZADD', qKey, ticket, val)
+        result[#result + 1] = 1
+    end
+
+    result[#result + 1] = redis.call('ZRANK', qKey, val)
+    result[#result + 1] = ticket
+end
+
+return result
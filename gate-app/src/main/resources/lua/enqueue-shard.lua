@@ -0,0 +1,32 @@
+--[[
+  shard 대기열 입장 (gate.queue-shards > 1 일 때 사용)
+
+  번호표는 event 단위 카운터(gate:queue:rank:{eventId})에서 미리 발급받아 ARGV 로 전달한다.
+  카운터는 다른 slot 에 있으므로 이 스크립트에서 접근하지 않는다.
+
+  KEYS[1] : gate:queue:{eventId:shard}  — shard 대기열 ZSet (member=userId, score=ticket)
+  ARGV    : userId, ticket, userId, ticket ... (도착 순서)
+
+  반환값: {isNew(1/0), ticket, isNew, ticket ...}
+          이미 대기 중이면 기존 ticket 을 반환하며, 새로 발급받은 ticket 은 사용하지 않는다.
+--]]
+
+local qKey = KEYS[1]
+local result = {}
+
+for i = 1, #ARGV, 2 do
+    local user = ARGV[i]
+    local existing = redis.call('ZSCORE', qKey, user)
+
+    if existing then
+        result[#result + 1] = 0
+        result[#result + 1] = tonumber(existing)
+    else
+        local ticket = tonumber(ARGV[i + 1])
+        redis.call('ZADD', qKey, ticket, user)
+        result[#result + 1] = 1
+        result[#result + 1] = ticket
+    end
+end
+
+return result
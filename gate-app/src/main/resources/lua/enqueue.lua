@@ -0,0 +1,31 @@
+--[[
+  대기열 입장 (중복 방지 + 번호표 발급)
+  gate.queue-shards = 1 일 때 사용 (모든 키가 {eventId} hash tag 로 같은 slot)
+
+  KEYS[1] : gate:queue:{eventId}       — 대기열 ZSet (member=userId, score=ticket)
+  KEYS[2] : gate:queue:rank:{eventId}  — 번호표 카운터 (INCR)
+  ARGV[1] : userId
+
+  반환값: {isNew(1/0), rank(0-based), ticket}
+--]]
+
+local qKey = KEYS[1]
+local rKey = KEYS[2]
+local val = ARGV[1]
+
+-- 1. 이미 대기열에 있는지 확인 (중복 방지)
+local existing = redis.call('ZSCORE', qKey, val)
+if existing then
+    return {0, redis.call('ZRANK', qKey, val), tonumber(existing)}
+end
+
+-- 2. 번호표 발급 (Atomic Increment)
+local score = redis.call('INCR', rKey)
+
+-- 3. 대기열 추가
+redis.call('ZADD', qKey, score, val)
+
+-- 4. 현재 순번 조회
+local rank = redis.call('ZRANK', qKey, val)
+
+return {1, rank, score}
@@ -0,0 +1,15 @@
+--[[
+  dispatch 소유권(lease) 반납 — 내가 소유자일 때만
+
+  KEYS[1] : gate:owner:{eventId}  — 소유 replica instanceId
+  ARGV[1] : 내 instanceId
+
+  반환값: 1 (반납됨) / 0 (소유자가 아님)
+--]]
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+
+return 0
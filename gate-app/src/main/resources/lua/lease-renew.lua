@@ -0,0 +1,16 @@
+--[[
+  dispatch 소유권(lease) 연장 — 내가 소유자일 때만
+
+  KEYS[1] : gate:owner:{eventId}  — 소유 replica instanceId
+  ARGV[1] : 내 instanceId
+  ARGV[2] : lease 시간 (ms)
+
+  반환값: 1 (연장됨) / 0 (소유자가 아님)
+--]]
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+
+return 0
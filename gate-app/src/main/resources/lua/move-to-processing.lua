@@ -0,0 +1,36 @@
+--[[
+  지정한 유저들을 shard 대기열 -> processing 으로 이동 (gate.queue-shards > 1 일 때 사용)
+
+  어떤 유저를 꺼낼지는 Java 단에서 shard 간 k-way merge 로 결정한다.
+  그 사이 다른 replica 가 먼저 꺼낸 유저는 건너뛴다.
+
+  KEYS[1] : gate:queue:{eventId:shard}            — shard 대기열 ZSet
+  KEYS[2] : gate:processing:{eventId:shard}       — Processing ZSet (score=입장 timestamp)
+  KEYS[3] : gate:processing:rank:{eventId:shard}  — Ticket Hash
+  ARGV[1] : 현재 시각 (ms)
+  ARGV[2..] : userId
+
+  반환값: {userId, ticket, userId, ticket ...} (실제로 이동된 유저만)
+--]]
+
+local qKey = KEYS[1]
+local pKey = KEYS[2]
+local tKey = KEYS[3]
+local now = tonumber(ARGV[1])
+local moved = {}
+
+for i = 2, #ARGV do
+    local user = ARGV[i]
+    local ticket = redis.call('ZSCORE', qKey, user)
+
+    if ticket then
+        redis.call('ZREM', qKey, user)
+        redis.call('ZADD', pKey, now, user)
+        redis.call('HSET', tKey, user, ticket)
+
+        moved[#moved + 1] = user
+        moved[#moved + 1] = ticket
+    end
+end
+
+return moved
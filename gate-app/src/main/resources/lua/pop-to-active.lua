@@ -0,0 +1,71 @@
+--[[
+  대기열 상위 N명을 Active Queue 로 이동 (gate.queue-shards = 1 일 때 사용)
+
+  KEYS[1] : gate:queue:{eventId}        — 대기열 ZSet
+  KEYS[2] : gate:queue:head:{eventId}   — 지금까지 dispatch 된 최대 ticket (head cursor)
+  KEYS[3] : gate:active:index:{eventId} — index 모드 Active Queue ZSet (keys 모드에서는 사용하지 않음)
+  KEYS[4..] : keys 모드 - 후보 유저의 Active Key (gate:active:{eventId}:{userId}, ARGV[5..] 와 같은 순서)
+  ARGV[1] : 최대 이동 인원
+  ARGV[2] : Active TTL (초)
+  ARGV[3] : Active 저장 방식 (keys | index)
+  ARGV[4] : index 모드 - 만료 시각 (epoch ms)
+  ARGV[5..] : keys 모드 - 후보 userId (Java 단에서 대기열 선두를 조회해 전달)
+
+  keys 모드는 접근할 Active Key 를 모두 KEYS 로 선언해야 하므로 Java 단에서 선두를 먼저 조회한다.
+  그 사이 다른 replica 가 먼저 꺼낸 유저는 건너뛴다.
+  모든 키가 같은 {eventId} slot 에 있으므로 Redis Cluster 에서도 원자적으로 실행된다.
+
+  반환값: {userId, userId ...}
+--]]
+
+local qKey  = KEYS[1]
+local hKey  = KEYS[2]
+local count = tonumber(ARGV[1])
+local ttl   = tonumber(ARGV[2])
+local mode  = ARGV[3]
+
+local members = {}
+local lastTicket = 0
+
+if mode == 'index' then
+    -- 1. 대기열 상위 N명 조회 (ticket 함께 조회)
+    local entries = redis.call('ZRANGE', qKey, 0, count - 1, 'WITHSCORES')
+    if #entries == 0 then
+        return {}
+    end
+
+    -- 2. 대기열에서 제거 + Active Index 등록
+    for i = 1, #entries, 2 do
+        local user = entries[i]
+        redis.call('ZREM', qKey, user)
+        redis.call('ZADD', KEYS[3], tonumber(ARGV[4]), user)
+        members[#members + 1] = user
+    end
+    redis.call('EXPIRE', KEYS[3], ttl)
+
+    -- ZRANGE 는 ticket 오름차순이므로 마지막 항목이 최대값
+    lastTicket = tonumber(entries[#entries])
+else
+    -- 1~2. 후보 중 아직 대기열에 남아 있는 유저만 제거 + Active Key 등록 (TTL 포함)
+    for i = 5, #ARGV do
+        local user = ARGV[i]
+        local ticket = redis.call('ZSCORE', qKey, user)
+
+        if ticket then
+            redis.call('ZREM', qKey, user)
+            redis.call('SET', KEYS[i - 1], '1', 'EX', ttl)
+            members[#members + 1] = user
+            lastTicket = math.max(lastTicket, tonumber(ticket))
+        end
+    end
+    if #members == 0 then
+        return {}
+    end
+end
+
+-- 3. head cursor 갱신
+if lastTicket > tonumber(redis.call('GET', hKey) or '0') then
+    redis.call('SET', hKey, lastTicket)
+end
+
+return members
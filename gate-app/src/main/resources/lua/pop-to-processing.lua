@@ -0,0 +1,51 @@
+--[[
+  queue -> processing 이동
+  gate.queue-shards = 1 일 때 사용 (모든 키가 {eventId} hash tag 로 같은 slot)
+
+  KEYS[1] : gate:queue:{eventId}            — 대기열 ZSet
+  KEYS[2] : gate:processing:{eventId}       — Processing ZSet (score=입장 timestamp, 타임아웃 용도)
+  KEYS[3] : gate:processing:rank:{eventId}  — Ticket Hash (field=userId, value=ticket, 번호표 보존 용도)
+  KEYS[4] : gate:queue:head:{eventId}       — 지금까지 dispatch 된 최대 ticket (head cursor)
+  ARGV[1] : 최대 이동 인원
+  ARGV[2] : 현재 시각 (ms)
+
+  반환값: {userId, ticket, userId, ticket ...}
+--]]
+
+local qKey = KEYS[1]
+local pKey = KEYS[2]
+local tKey = KEYS[3]
+local hKey = KEYS[4]
+local count = tonumber(ARGV[1])
+local now = tonumber(ARGV[2])
+
+-- 1. 대기열 상위 N명 조회 (값, 점수 함께 조회)
+-- returns {u1, ticket1, u2, ticket2, ...}
+local members = redis.call('ZRANGE', qKey, 0, count - 1, 'WITHSCORES')
+if #members == 0 then
+    return {}
+end
+
+-- 2. Processing 이동 (ZSet + Hash 분리 저장)
+for i = 1, #members, 2 do
+    local user = members[i]
+    local ticket = members[i+1] -- 원래 점수(번호표)
+
+    -- A. Queue 제거
+    redis.call('ZREM', qKey, user)
+
+    -- B. Processing ZSet 추가 (Score = Timestamp)
+    redis.call('ZADD', pKey, now, user)
+
+    -- C. Ticket Hash 저장 (Key = User, Val = Ticket)
+    redis.call('HSET', tKey, user, ticket)
+end
+
+-- 3. head cursor 갱신 (ZRANGE 는 ticket 오름차순이므로 마지막 항목이 최대값)
+local lastTicket = tonumber(members[#members])
+if lastTicket > tonumber(redis.call('GET', hKey) or '0') then
+    redis.call('SET', hKey, lastTicket)
+end
+
+-- 4. 결과 반환 (Java 단에서 Dispatcher로 넘기기 위함)
+return members
@@ -0,0 +1,18 @@
+--[[
+  processing 에서 완료된 user 제거 (단건 / 묶음 공용)
+
+  KEYS[1] : gate:processing:{eventId}       — Processing ZSet
+  KEYS[2] : gate:processing:rank:{eventId}  — Ticket Hash
+  ARGV    : userId, userId ...
+
+  반환값: Processing ZSet 에서 제거된 수
+--]]
+
+local removed = 0
+
+for i = 1, #ARGV do
+    removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+    redis.call('HDEL', KEYS[2], ARGV[i])
+end
+
+return removed
@@ -0,0 +1,24 @@
+--[[
+  지정한 processing 유저를 원래 순번(ticket)으로 queue 에 즉시 되돌림
+  (Kafka 발행 실패 등 다음 단계로 넘기지 못한 유저용, shard 단위로 실행)
+
+  KEYS[1] : gate:processing:{eventId:shard}       — Processing ZSet
+  KEYS[2] : gate:queue:{eventId:shard}            — 대기열 ZSet
+  KEYS[3] : gate:processing:rank:{eventId:shard}  — Ticket Hash
+  ARGV    : userId, ticket, userId, ticket ...
+
+  반환값: 재큐된 수 (이미 processing 에서 빠진 유저는 건너뜀)
+--]]
+
+local requeued = 0
+
+for i = 1, #ARGV, 2 do
+    local user = ARGV[i]
+    if redis.call('ZREM', KEYS[1], user) == 1 then
+        redis.call('HDEL', KEYS[3], user)
+        redis.call('ZADD', KEYS[2], ARGV[i + 1], user)
+        requeued = requeued + 1
+    end
+end
+
+return requeued
@@ -0,0 +1,38 @@
+--[[
+  processing 에 오래 머무른 요청을 원래 순번(ticket)으로 queue 에 되돌림
+
+  shard 단위로 실행되며, 키는 모두 같은 shard hash tag 를 가진다.
+
+  KEYS[1] : gate:processing:{eventId:shard}       — Processing ZSet (score=입장 timestamp)
+  KEYS[2] : gate:queue:{eventId:shard}            — 대기열 ZSet
+  KEYS[3] : gate:processing:rank:{eventId:shard}  — Ticket Hash
+  ARGV[1] : cutoff timestamp (ms)
+  ARGV[2] : 최대 재큐 수
+  ARGV[3] : ticket 이 유실된 경우 사용할 번호 (현재 번호표 카운터 값)
+
+  반환값: 재큐된 항목 수
+--]]
+
+local cutoff     = tonumber(ARGV[1])
+local maxRequeue = tonumber(ARGV[2])
+
+-- processing ZSet 에서 오래된 항목 조회 (Score = 입장 timestamp)
+local stale = redis.call('ZRANGEBYSCORE', KEYS[1], 0, cutoff, 'LIMIT', 0, maxRequeue)
+if #stale == 0 then return 0 end
+
+for _, user in ipairs(stale) do
+    -- 원래 ticket 번호 복원 (없으면 대기열 맨 뒤 번호 사용)
+    local ticket = redis.call('HGET', KEYS[3], user)
+    if not ticket then
+        ticket = ARGV[3]
+    end
+
+    -- processing 에서 제거
+    redis.call('ZREM', KEYS[1], user)
+    redis.call('HDEL', KEYS[3], user)
+
+    -- queue 에 재삽입 (원래 순번 유지)
+    redis.call('ZADD', KEYS[2], ticket, user)
+end
+
+return #stale
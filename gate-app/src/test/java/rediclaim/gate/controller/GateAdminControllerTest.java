@@ -0,0 +1,121 @@
+package rediclaim.gate.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.event.EventSettings;
+import rediclaim.gate.repository.SoldOutRedisRepository;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GateAdminController 단위 테스트
+ * - EventRegistry / SoldOutRedisRepository 를 Mock 으로 처리하여 shared secret 인증과 위임만 검증
+ */
+@DisplayName("Gate 운영 API 단위 테스트")
+class GateAdminControllerTest {
+
+    private static final String SECRET = "test-admin-secret";
+
+    private final EventRegistry eventRegistry = mock(EventRegistry.class);
+    private final SoldOutRedisRepository soldOutRedisRepository = mock(SoldOutRedisRepository.class);
+    private final GateProperties gateProperties = new GateProperties();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        gateProperties.setAdminSecret(SECRET);
+        mockMvc = MockMvcBuilders.standaloneSetup(new GateAdminController(eventRegistry, gateProperties, soldOutRedisRepository)).build();
+    }
+
+    @Test
+    @DisplayName("secret 헤더가 없으면 401 이며 레지스트리를 변경하지 않는다")
+    void testMissingSecret() throws Exception {
+        mockMvc.perform(put("/gate/admin/events/{eventId}", 1001L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dispatchQuantity\": 300}"))
+                .andExpect(status().isUnauthorized());
+
+        verify(eventRegistry, never()).register(any(), any(), any(), any());
+        verify(soldOutRedisRepository, never()).reset(any());
+    }
+
+    @Test
+    @DisplayName("secret 이 다르면 401")
+    void testWrongSecret() throws Exception {
+        mockMvc.perform(delete("/gate/admin/events/{eventId}", 1001L)
+                        .header(GateAdminController.ADMIN_SECRET_HEADER, "wrong"))
+                .andExpect(status().isUnauthorized());
+
+        verify(eventRegistry, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("gate.admin-secret 이 설정되지 않았으면 403")
+    void testSecretNotConfigured() throws Exception {
+        gateProperties.setAdminSecret(null);
+
+        mockMvc.perform(get("/gate/admin/events")
+                        .header(GateAdminController.ADMIN_SECRET_HEADER, SECRET))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("올바른 secret 이면 event 를 등록하고 적용된 설정을 반환한다 (품절 상태는 바꾸지 않음)")
+    void testRegister() throws Exception {
+        when(eventRegistry.register(1001L, 300, null, null)).thenReturn(new EventSettings(300, 60, 60_000));
+
+        mockMvc.perform(put("/gate/admin/events/{eventId}", 1001L)
+                        .header(GateAdminController.ADMIN_SECRET_HEADER, SECRET)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dispatchQuantity\": 300}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventId").value(1001))
+                .andExpect(jsonPath("$.dispatchQuantity").value(300));
+
+        verify(eventRegistry).register(1001L, 300, null, null);
+        verify(soldOutRedisRepository, never()).reset(any());
+    }
+
+    @Test
+    @DisplayName("품절 해제는 별도 API 로만 한다")
+    void testResetSoldOut() throws Exception {
+        mockMvc.perform(delete("/gate/admin/events/{eventId}/sold-out", 1001L))
+                .andExpect(status().isUnauthorized());
+        verify(soldOutRedisRepository, never()).reset(any());
+
+        mockMvc.perform(delete("/gate/admin/events/{eventId}/sold-out", 1001L)
+                        .header(GateAdminController.ADMIN_SECRET_HEADER, SECRET))
+                .andExpect(status().isOk());
+
+        verify(soldOutRedisRepository).reset(1001L);
+        verify(eventRegistry, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("올바른 secret 이면 목록 조회 / 종료가 가능하다")
+    void testListAndClose() throws Exception {
+        when(eventRegistry.snapshot()).thenReturn(Map.of(1001L, new EventSettings(300, 60, 60_000)));
+
+        mockMvc.perform(get("/gate/admin/events")
+                        .header(GateAdminController.ADMIN_SECRET_HEADER, SECRET))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].eventId").value(1001));
+        mockMvc.perform(delete("/gate/admin/events/{eventId}", 1001L)
+                        .header(GateAdminController.ADMIN_SECRET_HEADER, SECRET))
+                .andExpect(status().isOk());
+
+        verify(eventRegistry).close(1001L);
+    }
+}
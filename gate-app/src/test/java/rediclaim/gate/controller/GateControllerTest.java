@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import rediclaim.gate.repository.GateEnqueueDto;
@@ -14,6 +15,7 @@ import rediclaim.gate.repository.GateRedisRepository;
 import rediclaim.gate.controller.dto.GateEnqueueResponse;
 import rediclaim.gate.controller.dto.GateStatusResponse;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,7 +28,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * - GateRedisRepository를 Mock으로 처리
  * - getStatus()를 통해 queue/processing 상태를 함께 테스트
  */
-@SpringBootTest
+@SpringBootTest(properties = "gate.event-ids=1001,1002")
 @AutoConfigureMockMvc
 @DisplayName("Gate Controller 통합 테스트")
 class GateControllerTest {
@@ -102,6 +104,29 @@ class GateControllerTest {
         assertThat(result.rank()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("등록되지 않은 event 에는 입장할 수 없다")
+    void testEnqueueUnregisteredEvent() throws Exception {
+        // given
+        Long eventId = 9999L;
+        Long userId = 100L;
+
+        // when
+        String response = mockMvc.perform(
+                post("/gate/events/{eventId}/enqueue", eventId)
+                        .param("userId", String.valueOf(userId))
+        )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        GateEnqueueResponse result = objectMapper.readValue(response, GateEnqueueResponse.class);
+        assertThat(result.status()).isEqualTo("EVENT_NOT_FOUND");
+        verify(gateRedisRepository, never()).enqueueLua(eventId, userId);
+    }
+
     @Test
     @DisplayName("여러 사용자 입장 시 순서가 유지된다")
     void testMultipleUsersEnqueue() throws Exception {
@@ -473,4 +498,38 @@ class GateControllerTest {
         GateStatusResponse unknownStatus = objectMapper.readValue(unknownResponse, GateStatusResponse.class);
         assertThat(unknownStatus.status()).isEqualTo("UNKNOWN");
     }
+
+    // ============= 완료 콜백 테스트 =============
+
+    @Test
+    @DisplayName("묶음 완료 콜백은 전달된 유저를 한 번에 processing 에서 제거한다")
+    void testCompleteBatch() throws Exception {
+        // given
+        Long eventId = 1001L;
+
+        // when
+        mockMvc.perform(
+                post("/gate/events/{eventId}/processing/complete-batch", eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":[100,200,300]}")
+        )
+                .andExpect(status().isOk());
+
+        // then
+        verify(gateRedisRepository).removeFromProcessing(eventId, List.of(100L, 200L, 300L));
+    }
+
+    @Test
+    @DisplayName("묶음 완료 콜백에 유저가 없으면 400 을 반환한다")
+    void testCompleteBatchEmpty() throws Exception {
+        // when & then
+        mockMvc.perform(
+                post("/gate/events/{eventId}/processing/complete-batch", 1001L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":[]}")
+        )
+                .andExpect(status().isBadRequest());
+
+        verify(gateRedisRepository, never()).removeFromProcessing(anyLong(), anyList());
+    }
 }
@@ -0,0 +1,53 @@
+package rediclaim.gate.dispatcher.kafka;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 직렬화 테스트용 역직렬화 (실제 소비는 issuer-worker-app 의 deserializer 가 담당)
+ */
+final class IssueMessageDecoder {
+
+    private IssueMessageDecoder() {
+    }
+
+    /**
+     * {@link IssueRequestMessageSerializer} version 1 레이아웃 복원
+     */
+    static IssueRequestMessage decodeRequest(byte[] data) {
+        assertThat(data).hasSize(IssueRequestMessageSerializer.SIZE);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        assertThat(buffer.get()).isEqualTo(IssueRequestMessageSerializer.VERSION);
+
+        int flags = buffer.get();
+        long eventId = buffer.getLong();
+        long userId = buffer.getLong();
+        long rank = buffer.getLong();
+        return new IssueRequestMessage(
+                (flags & 1) != 0 ? eventId : null,
+                (flags & 1 << 1) != 0 ? userId : null,
+                (flags & 1 << 2) != 0 ? rank : null
+        );
+    }
+
+    /**
+     * {@link IssueBatchMessageSerializer} version 2 레이아웃 복원
+     */
+    static IssueBatchMessage decodeBatch(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        assertThat(buffer.get()).isEqualTo(IssueBatchMessageSerializer.VERSION);
+
+        long eventId = buffer.getLong();
+        int size = buffer.getInt();
+        assertThat(data).hasSize(IssueBatchMessageSerializer.HEADER_SIZE + IssueBatchMessageSerializer.ENTRY_SIZE * size);
+
+        List<IssueBatchMessage.Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new IssueBatchMessage.Entry(buffer.getLong(), buffer.getLong()));
+        }
+        return new IssueBatchMessage(eventId, entries);
+    }
+}
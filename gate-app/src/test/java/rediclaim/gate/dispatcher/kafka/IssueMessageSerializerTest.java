@@ -0,0 +1,60 @@
+package rediclaim.gate.dispatcher.kafka;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Kafka 발급 요청 binary 직렬화 단위 테스트")
+class IssueMessageSerializerTest {
+
+    private final IssueRequestMessageSerializer serializer = new IssueRequestMessageSerializer();
+    private final IssueBatchMessageSerializer batchSerializer = new IssueBatchMessageSerializer();
+
+    @Test
+    @DisplayName("고정 길이 version 1 레이아웃으로 직렬화되고 그대로 복원된다")
+    void testRoundTrip() {
+        // given
+        IssueRequestMessage message = new IssueRequestMessage(1001L, 100L, 42L);
+
+        // when
+        byte[] bytes = serializer.serialize("topic", message);
+
+        // then
+        assertThat(bytes).hasSize(IssueRequestMessageSerializer.SIZE);
+        assertThat(bytes[0]).isEqualTo(IssueRequestMessageSerializer.VERSION);
+        assertThat(IssueMessageDecoder.decodeRequest(bytes)).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("null 필드는 null 로 복원된다")
+    void testNullField() {
+        // given
+        IssueRequestMessage message = new IssueRequestMessage(1001L, 100L, null);
+
+        // when
+        byte[] bytes = serializer.serialize("topic", message);
+
+        // then
+        assertThat(IssueMessageDecoder.decodeRequest(bytes).rank()).isNull();
+    }
+
+    @Test
+    @DisplayName("batch 레코드는 version 2 로 직렬화되고 그대로 복원된다")
+    void testBatchRoundTrip() {
+        // given
+        IssueBatchMessage message = new IssueBatchMessage(1001L, List.of(
+                new IssueBatchMessage.Entry(100L, 1L),
+                new IssueBatchMessage.Entry(200L, 2L)
+        ));
+
+        // when
+        byte[] bytes = batchSerializer.serialize("topic", message);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(IssueBatchMessageSerializer.VERSION);
+        assertThat(IssueMessageDecoder.decodeBatch(bytes)).isEqualTo(message);
+    }
+}
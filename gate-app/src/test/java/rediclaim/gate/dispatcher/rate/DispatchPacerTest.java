@@ -0,0 +1,105 @@
+package rediclaim.gate.dispatcher.rate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rediclaim.gate.config.GateProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * DispatchPacer 단위 테스트
+ * - DispatchRateController 를 Mock 으로 처리하여 token bucket 적립 / 반환 / tick 상한 경고만 검증
+ */
+@DisplayName("Paced dispatch 단위 테스트")
+class DispatchPacerTest {
+
+    private static final Long EVENT_ID = 1001L;
+
+    private final DispatchRateController dispatchRateController = mock(DispatchRateController.class);
+    private final GateProperties gateProperties = new GateProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DispatchPacer dispatchPacer;
+
+    @BeforeEach
+    void setUp() {
+        gateProperties.setDispatchPacingEnabled(true);
+        gateProperties.setDispatchIntervalMs(1000);
+        gateProperties.setDispatchTickMs(100);
+        gateProperties.setDispatchCatchUpMs(1000);
+        gateProperties.setDispatchMaxPerTick(1000);
+        dispatchPacer = new DispatchPacer(dispatchRateController, gateProperties, meterRegistry);
+        dispatchPacer.init();
+    }
+
+    @Test
+    @DisplayName("pacing 비활성화 시 batchSize 를 그대로 반환한다")
+    void testPacingDisabled() {
+        // given
+        gateProperties.setDispatchPacingEnabled(false);
+        when(dispatchRateController.batchSize(EVENT_ID)).thenReturn(300);
+
+        // when & then
+        assertThat(dispatchPacer.permits(EVENT_ID)).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("쓰지 못한 인원을 되돌리면 다음 tick 에 다시 쓸 수 있다")
+    void testRefundCarriesOver() throws InterruptedException {
+        // given - 초당 1000 명
+        when(dispatchRateController.batchSize(EVENT_ID)).thenReturn(1000);
+        dispatchPacer.permits(EVENT_ID);
+        Thread.sleep(100);
+        int permits = dispatchPacer.permits(EVENT_ID);
+        assertThat(permits).isPositive();
+
+        // when - 대기열이 비어 하나도 쓰지 못함
+        dispatchPacer.refund(EVENT_ID, permits);
+        int next = dispatchPacer.permits(EVENT_ID);
+
+        // then
+        assertThat(next).isGreaterThanOrEqualTo(permits);
+    }
+
+    @Test
+    @DisplayName("되돌리지 않으면 토큰은 소비된 것으로 본다")
+    void testWithoutRefund() throws InterruptedException {
+        // given
+        when(dispatchRateController.batchSize(EVENT_ID)).thenReturn(1000);
+        dispatchPacer.permits(EVENT_ID);
+        Thread.sleep(100);
+        assertThat(dispatchPacer.permits(EVENT_ID)).isPositive();
+
+        // when
+        int next = dispatchPacer.permits(EVENT_ID);
+
+        // then - 직후 tick 에는 적립된 토큰이 거의 없음
+        assertThat(next).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("초당 속도 * tick 이 dispatchMaxPerTick 을 넘으면 tick 당 인원을 묶고 gauge 로 노출한다")
+    void testClampedRate() throws InterruptedException {
+        // given - tick 당 200 명이 필요하지만 상한 50
+        gateProperties.setDispatchMaxPerTick(50);
+        when(dispatchRateController.batchSize(EVENT_ID)).thenReturn(2000);
+        dispatchPacer.permits(EVENT_ID);
+        Thread.sleep(100);
+
+        // when
+        int permits = dispatchPacer.permits(EVENT_ID);
+
+        // then
+        assertThat(permits).isEqualTo(50);
+        assertThat(meterRegistry.get("gate.dispatch.pacer.clamped").gauge().value()).isEqualTo(1.0);
+
+        // when - 속도가 상한 아래로 내려옴
+        when(dispatchRateController.batchSize(EVENT_ID)).thenReturn(100);
+        dispatchPacer.permits(EVENT_ID);
+
+        // then
+        assertThat(meterRegistry.get("gate.dispatch.pacer.clamped").gauge().value()).isZero();
+    }
+}
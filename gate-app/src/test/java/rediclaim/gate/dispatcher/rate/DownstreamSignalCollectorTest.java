@@ -0,0 +1,94 @@
+package rediclaim.gate.dispatcher.rate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaAdmin;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.repository.GateRedisRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * DownstreamSignalCollector 단위 테스트
+ * - GateRedisRepository / EventRegistry 를 Mock 으로 처리하여 dispatch 모드별 수집 대상만 검증
+ */
+@DisplayName("하위 시스템 신호 수집 단위 테스트")
+class DownstreamSignalCollectorTest {
+
+    private static final Long EVENT_ID = 1001L;
+
+    private final GateRedisRepository gateRedisRepository = mock(GateRedisRepository.class);
+    private final EventRegistry eventRegistry = mock(EventRegistry.class);
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<KafkaAdmin> kafkaAdmin = mock(ObjectProvider.class);
+    private final GateProperties gateProperties = new GateProperties();
+    private DownstreamSignalCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        gateProperties.setRateControlEnabled(true);
+        when(eventRegistry.eventIds()).thenReturn(List.of(EVENT_ID));
+        collector = new DownstreamSignalCollector(
+                gateRedisRepository, gateProperties, eventRegistry, kafkaAdmin, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("active-queue 모드는 processing 인원을 수집하지 않고, issuer 보고가 없으면 신호가 비어 있다")
+    void testActiveQueueWithoutIssuerSignals() {
+        // given
+        gateProperties.setDispatchMode("active-queue");
+        when(gateRedisRepository.getIssuerSignals()).thenReturn(Map.of());
+
+        // when
+        collector.collect();
+
+        // then
+        assertThat(collector.snapshot(EVENT_ID).isEmpty()).isTrue();
+        verify(gateRedisRepository, never()).processingSize(any());
+    }
+
+    @Test
+    @DisplayName("active-queue 모드는 issuer-api-app 이 보고한 p99 / 에러율만 담는다")
+    void testActiveQueueWithIssuerSignals() {
+        // given
+        gateProperties.setDispatchMode("active-queue");
+        when(gateRedisRepository.getIssuerSignals())
+                .thenReturn(Map.of("issuer-1", "120.0:0.01:" + System.currentTimeMillis()));
+
+        // when
+        collector.collect();
+        DownstreamSignals signals = collector.snapshot(EVENT_ID);
+
+        // then
+        assertThat(signals.issuerP99Ms()).isEqualTo(120.0);
+        assertThat(signals.issuerErrorRate()).isEqualTo(0.01);
+        assertThat(signals.processingSize()).isNull();
+        assertThat(signals.workerLag()).isNull();
+    }
+
+    @Test
+    @DisplayName("kafka 모드는 processing 인원을 수집하고 issuer 신호는 담지 않는다")
+    void testKafkaMode() {
+        // given
+        gateProperties.setDispatchMode("kafka");
+        when(gateRedisRepository.processingSize(EVENT_ID)).thenReturn(42L);
+
+        // when
+        collector.collect();
+        DownstreamSignals signals = collector.snapshot(EVENT_ID);
+
+        // then
+        assertThat(signals.processingSize()).isEqualTo(42L);
+        assertThat(signals.issuerP99Ms()).isNull();
+        verify(gateRedisRepository, never()).getIssuerSignals();
+    }
+}
@@ -0,0 +1,130 @@
+package rediclaim.gate.dispatcher.rate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.event.EventSettings;
+import rediclaim.gate.repository.GateRedisRepository;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * StockBudget 단위 테스트
+ * - GateRedisRepository / EventRegistry 를 Mock 으로 처리하여 재고 상한과 입장 창 계산만 검증
+ */
+@DisplayName("재고 기반 dispatch 상한 단위 테스트")
+class StockBudgetTest {
+
+    private static final Long EVENT_ID = 1001L;
+    private static final long WINDOW_MS = 250;
+
+    private final GateRedisRepository gateRedisRepository = mock(GateRedisRepository.class);
+    private final EventRegistry eventRegistry = mock(EventRegistry.class);
+    private final GateProperties gateProperties = new GateProperties();
+    private StockBudget stockBudget;
+
+    @BeforeEach
+    void setUp() {
+        gateProperties.setStockCapEnabled(true);
+        gateProperties.setStockOverAdmissionFactor(1.0);
+        gateProperties.setDispatchMode("kafka");
+        when(eventRegistry.settings(EVENT_ID)).thenReturn(new EventSettings(100, 60, WINDOW_MS));
+        when(eventRegistry.isRegistered(EVENT_ID)).thenReturn(true);
+        stockBudget = new StockBudget(gateRedisRepository, gateProperties, eventRegistry, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("재고 보고가 없으면 상한을 두지 않는다")
+    void testNoReport() {
+        // given
+        when(gateRedisRepository.remainingStock(EVENT_ID)).thenReturn(OptionalLong.empty());
+
+        // when
+        int capped = stockBudget.cap(EVENT_ID, 500);
+
+        // then
+        assertThat(capped).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("결과 대기 인원이 남은 재고에 도달하면 상한은 0 이다")
+    void testCapAtZero() {
+        // given
+        when(gateRedisRepository.remainingStock(EVENT_ID)).thenReturn(OptionalLong.of(10));
+        assertThat(stockBudget.cap(EVENT_ID, 50)).isEqualTo(10);
+        stockBudget.recordAdmitted(EVENT_ID, 10);
+
+        // when
+        int capped = stockBudget.cap(EVENT_ID, 50);
+
+        // then
+        assertThat(capped).isZero();
+    }
+
+    @Test
+    @DisplayName("발급으로 줄어든 재고만큼 결과 대기 인원이 줄어든다")
+    void testIssuedReducesInFlight() {
+        // given
+        when(gateRedisRepository.remainingStock(EVENT_ID)).thenReturn(OptionalLong.of(100));
+        stockBudget.cap(EVENT_ID, 40);
+        stockBudget.recordAdmitted(EVENT_ID, 40);
+
+        // when - 40 명 중 30 명 발급
+        when(gateRedisRepository.remainingStock(EVENT_ID)).thenReturn(OptionalLong.of(70));
+        int capped = stockBudget.cap(EVENT_ID, 100);
+
+        // then - 70 - 10
+        assertThat(capped).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("창을 지난 입장 기록은 버리고, 그 유저들의 발급은 창 안의 입장에서 빼지 않는다")
+    void testWindowEviction() throws InterruptedException {
+        // given - 창 밖으로 밀려날 입장 10 명
+        when(gateRedisRepository.remainingStock(EVENT_ID)).thenReturn(OptionalLong.of(100));
+        stockBudget.cap(EVENT_ID, 10);
+        stockBudget.recordAdmitted(EVENT_ID, 10);
+        Thread.sleep(150);
+
+        // 창 안에 남을 입장 10 명
+        stockBudget.cap(EVENT_ID, 10);
+        stockBudget.recordAdmitted(EVENT_ID, 10);
+        Thread.sleep(150);
+
+        // when - 먼저 입장한 10 명이 발급받은 뒤 창을 지남
+        when(gateRedisRepository.remainingStock(EVENT_ID)).thenReturn(OptionalLong.of(90));
+        int capped = stockBudget.cap(EVENT_ID, 100);
+
+        // then - 나중에 입장한 10 명은 여전히 결과 대기
+        assertThat(capped).isEqualTo(80);
+
+        // when - 나중 입장도 창을 지남
+        Thread.sleep(WINDOW_MS);
+        int afterWindow = stockBudget.cap(EVENT_ID, 100);
+
+        // then
+        assertThat(afterWindow).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("종료된 event 의 입장 기록은 정리된다")
+    void testEvictClosedEvents() {
+        // given
+        when(gateRedisRepository.remainingStock(EVENT_ID)).thenReturn(OptionalLong.of(10));
+        stockBudget.cap(EVENT_ID, 10);
+        stockBudget.recordAdmitted(EVENT_ID, 10);
+        when(eventRegistry.isRegistered(EVENT_ID)).thenReturn(false);
+
+        // when
+        stockBudget.evictClosedEvents();
+
+        // then - 빈 창으로 다시 시작
+        assertThat(stockBudget.cap(EVENT_ID, 10)).isEqualTo(10);
+    }
+}
@@ -0,0 +1,167 @@
+package rediclaim.gate.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.repository.EventRegistryRedisRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * EventRegistry 단위 테스트
+ * - EventRegistryRedisRepository 를 Mock 으로 처리하여 로컬 캐시 갱신 규칙만 검증
+ */
+@DisplayName("Event 레지스트리 단위 테스트")
+class EventRegistryTest {
+
+    private final EventRegistryRedisRepository repository = mock(EventRegistryRedisRepository.class);
+    private final GateProperties gateProperties = new GateProperties();
+    private EventRegistry eventRegistry;
+
+    @BeforeEach
+    void setUp() {
+        gateProperties.setEventIds(List.of(1001L));
+        gateProperties.setDispatchQuantity(100);
+        gateProperties.setActiveTtlSeconds(60);
+        gateProperties.setStaleTimeoutMs(30_000);
+        eventRegistry = new EventRegistry(repository, gateProperties);
+    }
+
+    @Test
+    @DisplayName("Redis 에서 읽기 전에는 gate.event-ids 와 전역 설정을 사용한다")
+    void testFallbackBeforeLoad() {
+        assertThat(eventRegistry.eventIds()).containsExactly(1001L);
+        assertThat(eventRegistry.isRegistered(1001L)).isTrue();
+        assertThat(eventRegistry.isRegistered(1002L)).isFalse();
+        assertThat(eventRegistry.settings(1001L)).isEqualTo(new EventSettings(100, 60, 30_000));
+    }
+
+    @Test
+    @DisplayName("주기 갱신 시 Redis 의 event 목록과 event 별 설정을 읽고, 없는 항목은 전역 값을 사용한다")
+    void testRefreshLoadsRegistry() {
+        // given
+        when(repository.eventIds()).thenReturn(Set.of("1002"));
+        when(repository.settings(1002L)).thenReturn(Map.of(EventRegistry.DISPATCH_QUANTITY, "300"));
+
+        // when
+        eventRegistry.refresh();
+
+        // then
+        assertThat(eventRegistry.eventIds()).containsExactly(1002L);
+        assertThat(eventRegistry.isRegistered(1001L)).isFalse();
+        assertThat(eventRegistry.settings(1002L)).isEqualTo(new EventSettings(300, 60, 30_000));
+    }
+
+    @Test
+    @DisplayName("변경 알림을 받으면 다시 읽는다")
+    void testReloadOnMessage() {
+        // given
+        when(repository.eventIds()).thenReturn(Set.of("1001")).thenReturn(Set.of("1001", "1003"));
+        when(repository.settings(any())).thenReturn(Map.of());
+        eventRegistry.refresh();
+
+        // when
+        eventRegistry.onMessage(null, null);
+
+        // then
+        assertThat(eventRegistry.eventIds()).containsExactlyInAnyOrder(1001L, 1003L);
+    }
+
+    @Test
+    @DisplayName("다시 읽기에 실패하면 마지막으로 읽은 값을 유지한다")
+    void testKeepPreviousOnFailure() {
+        // given
+        when(repository.eventIds()).thenReturn(Set.of("1002")).thenThrow(new IllegalStateException("redis down"));
+        when(repository.settings(1002L)).thenReturn(Map.of());
+        eventRegistry.refresh();
+
+        // when
+        eventRegistry.refresh();
+
+        // then
+        assertThat(eventRegistry.eventIds()).containsExactly(1002L);
+    }
+
+    @Test
+    @DisplayName("등록 / 종료는 Redis 에 기록하고 변경을 알린 뒤 즉시 다시 읽는다")
+    void testRegisterAndClosePublish() {
+        // given
+        when(repository.eventIds()).thenReturn(Set.of("1002")).thenReturn(Set.of());
+        when(repository.settings(1002L)).thenReturn(Map.of(EventRegistry.ACTIVE_TTL_SECONDS, "120"));
+
+        // when
+        EventSettings settings = eventRegistry.register(1002L, null, 120L, null);
+
+        // then
+        verify(repository).register(eq(1002L), eq(Map.of(EventRegistry.ACTIVE_TTL_SECONDS, "120")));
+        verify(repository).publishChanged(1002L);
+        assertThat(settings.activeTtlSeconds()).isEqualTo(120);
+
+        // when - 종료
+        eventRegistry.close(1002L);
+
+        // then
+        verify(repository).close(1002L);
+        verify(repository, times(2)).publishChanged(1002L);
+        assertThat(eventRegistry.isRegistered(1002L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최초 기동 시 gate.event-ids 로 초기화한다")
+    void testSeedOnStartup() {
+        // given
+        when(repository.markSeeded()).thenReturn(true);
+        when(repository.exists()).thenReturn(false);
+        when(repository.eventIds()).thenReturn(Set.of("1001"));
+        when(repository.settings(1001L)).thenReturn(Map.of());
+
+        // when
+        eventRegistry.init();
+
+        // then
+        verify(repository).register(eq(1001L), anyMap());
+        assertThat(eventRegistry.eventIds()).containsExactly(1001L);
+    }
+
+    @Test
+    @DisplayName("이미 초기화했으면 모든 event 가 종료되어 레지스트리가 비어 있어도 다시 초기화하지 않는다")
+    void testNoReseedAfterAllClosed() {
+        // given
+        when(repository.markSeeded()).thenReturn(false);
+        when(repository.exists()).thenReturn(false);
+        when(repository.eventIds()).thenReturn(Set.of());
+
+        // when
+        eventRegistry.init();
+
+        // then
+        verify(repository, never()).register(any(), anyMap());
+        assertThat(eventRegistry.eventIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("표시 도입 이전에 만든 레지스트리는 초기화하지 않고 표시만 남긴다")
+    void testNoSeedForExistingRegistry() {
+        // given
+        when(repository.markSeeded()).thenReturn(true);
+        when(repository.exists()).thenReturn(true);
+        when(repository.eventIds()).thenReturn(Set.of("1002"));
+        when(repository.settings(1002L)).thenReturn(Map.of());
+
+        // when
+        eventRegistry.init();
+
+        // then
+        verify(repository, never()).register(any(), anyMap());
+        assertThat(eventRegistry.eventIds()).containsExactly(1002L);
+    }
+}
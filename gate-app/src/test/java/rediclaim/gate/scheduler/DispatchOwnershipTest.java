@@ -0,0 +1,182 @@
+package rediclaim.gate.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.repository.GateOwnershipRedisRepository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * DispatchOwnership 단위 테스트
+ * - GateOwnershipRedisRepository / EventRegistry 를 Mock 으로 처리하여 담당 replica 선택과 로컬 lease 기한만 검증
+ */
+@DisplayName("Dispatch 소유권 단위 테스트")
+class DispatchOwnershipTest {
+
+    private static final Long EVENT_ID = 1001L;
+
+    private final GateOwnershipRedisRepository repository = mock(GateOwnershipRedisRepository.class);
+    private final EventRegistry eventRegistry = mock(EventRegistry.class);
+    private final GateProperties gateProperties = new GateProperties();
+    private DispatchOwnership ownership;
+    private String instanceId;
+
+    @BeforeEach
+    void setUp() {
+        gateProperties.setOwnershipEnabled(true);
+        gateProperties.setOwnershipLeaseMs(5000);
+        when(eventRegistry.eventIds()).thenReturn(List.of(EVENT_ID));
+        ownership = new DispatchOwnership(repository, gateProperties, eventRegistry, new SimpleMeterRegistry());
+        instanceId = (String) ReflectionTestUtils.getField(ownership, "instanceId");
+    }
+
+    @Test
+    @DisplayName("담당 replica 는 member 순서와 무관하게 항상 같다")
+    void testAssigneeIsDeterministic() {
+        // given
+        Set<String> members = Set.of("gate-a", "gate-b", "gate-c");
+
+        // when
+        String assignee = DispatchOwnership.assignee(EVENT_ID, members);
+
+        // then
+        assertThat(assignee).isIn(members);
+        assertThat(DispatchOwnership.assignee(EVENT_ID, new HashSet<>(List.of("gate-c", "gate-b", "gate-a"))))
+                .isEqualTo(assignee);
+        assertThat(DispatchOwnership.assignee(EVENT_ID, Set.of("gate-a"))).isEqualTo("gate-a");
+    }
+
+    @Test
+    @DisplayName("replica 가 추가되면 새 replica 몫의 event 만 이동한다")
+    void testAssigneeMovesOnlyToNewMember() {
+        // given
+        Set<String> before = Set.of("gate-a", "gate-b", "gate-c");
+        Set<String> after = Set.of("gate-a", "gate-b", "gate-c", "gate-d");
+
+        // when & then
+        long moved = LongStream.rangeClosed(1, 1000)
+                .filter(eventId -> {
+                    String previous = DispatchOwnership.assignee(eventId, before);
+                    String current = DispatchOwnership.assignee(eventId, after);
+                    if (!previous.equals(current)) {
+                        assertThat(current).isEqualTo("gate-d");
+                        return true;
+                    }
+                    return false;
+                })
+                .count();
+        assertThat(moved).isBetween(100L, 400L);
+    }
+
+    @Test
+    @DisplayName("소유권 분배가 비활성화되어 있으면 모든 event 를 소유한다")
+    void testOwnsAllWhenDisabled() {
+        // given
+        gateProperties.setOwnershipEnabled(false);
+
+        // when
+        ownership.heartbeat();
+
+        // then
+        assertThat(ownership.owns(EVENT_ID)).isTrue();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("담당 replica 는 heartbeat 에서 lease 를 획득하고, 연장한다")
+    void testAcquireAndRenew() {
+        // given
+        when(repository.heartbeat(eq(instanceId), anyLong(), anyLong())).thenReturn(Set.of(instanceId));
+        when(repository.tryAcquire(EVENT_ID, instanceId, 5000)).thenReturn(true);
+        when(repository.renew(EVENT_ID, instanceId, 5000)).thenReturn(true);
+
+        // when
+        ownership.heartbeat();
+        ownership.heartbeat();
+
+        // then
+        assertThat(ownership.owns(EVENT_ID)).isTrue();
+        verify(repository).tryAcquire(EVENT_ID, instanceId, 5000);
+        verify(repository).renew(EVENT_ID, instanceId, 5000);
+    }
+
+    @Test
+    @DisplayName("담당이 아니면 lease 를 획득하지 않는다")
+    void testNotAssigned() {
+        // given
+        when(repository.heartbeat(eq(instanceId), anyLong(), anyLong())).thenReturn(Set.of("other"));
+
+        // when
+        ownership.heartbeat();
+
+        // then
+        assertThat(ownership.owns(EVENT_ID)).isFalse();
+        verify(repository, never()).tryAcquire(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("lease 연장에 실패하면 즉시 소유권을 내려놓는다")
+    void testRenewFailure() {
+        // given
+        when(repository.heartbeat(eq(instanceId), anyLong(), anyLong())).thenReturn(Set.of(instanceId));
+        when(repository.tryAcquire(EVENT_ID, instanceId, 5000)).thenReturn(true);
+        when(repository.renew(EVENT_ID, instanceId, 5000)).thenReturn(false);
+        ownership.heartbeat();
+
+        // when
+        ownership.heartbeat();
+
+        // then
+        assertThat(ownership.owns(EVENT_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 끊기면 로컬 기한(leaseMs / 2)이 지난 뒤 소유권을 내려놓는다")
+    void testLocalDeadlineExpires() throws InterruptedException {
+        // given
+        gateProperties.setOwnershipLeaseMs(100);
+        when(repository.heartbeat(eq(instanceId), anyLong(), anyLong())).thenReturn(Set.of(instanceId));
+        when(repository.tryAcquire(EVENT_ID, instanceId, 100)).thenReturn(true);
+        ownership.heartbeat();
+        assertThat(ownership.owns(EVENT_ID)).isTrue();
+
+        // when - Redis 장애로 연장이 안 됨
+        when(repository.heartbeat(eq(instanceId), anyLong(), anyLong())).thenThrow(new RuntimeException("redis down"));
+        ownership.heartbeat();
+        Thread.sleep(80);
+
+        // then
+        assertThat(ownership.owns(EVENT_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("담당이 다른 replica 로 바뀌면 lease 를 반납한다")
+    void testReleaseOnReassignment() {
+        // given
+        when(repository.heartbeat(eq(instanceId), anyLong(), anyLong())).thenReturn(Set.of(instanceId));
+        when(repository.tryAcquire(EVENT_ID, instanceId, 5000)).thenReturn(true);
+        ownership.heartbeat();
+
+        // when
+        when(repository.heartbeat(eq(instanceId), anyLong(), anyLong())).thenReturn(Set.of("other"));
+        ownership.heartbeat();
+
+        // then
+        assertThat(ownership.owns(EVENT_ID)).isFalse();
+        verify(repository).release(EVENT_ID, instanceId);
+    }
+}
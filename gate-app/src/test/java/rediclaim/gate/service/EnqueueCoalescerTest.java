@@ -0,0 +1,115 @@
+package rediclaim.gate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.repository.GateEnqueueDto;
+import rediclaim.gate.repository.GateRedisRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * EnqueueCoalescer 단위 테스트
+ * - GateRedisRepository 를 Mock 으로 처리하여 묶음 단위 호출만 검증
+ */
+@DisplayName("Enqueue Coalescer 단위 테스트")
+class EnqueueCoalescerTest {
+
+    private final GateRedisRepository gateRedisRepository = mock(GateRedisRepository.class);
+    private final GateProperties gateProperties = new GateProperties();
+    private EnqueueCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        gateProperties.setEnqueueCoalescingEnabled(true);
+        gateProperties.setEnqueueCoalescingWindowMs(50);
+        gateProperties.setEnqueueCoalescingMaxBatch(5);
+
+        // 묶음 내 순서대로 rank 를 매겨 반환
+        when(gateRedisRepository.enqueueBatchLua(eq(1001L), anyList())).thenAnswer(invocation -> {
+            List<Long> userIds = invocation.getArgument(1);
+            List<GateEnqueueDto> results = new ArrayList<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                results.add(new GateEnqueueDto(true, (long) i));
+            }
+            return results;
+        });
+
+        coalescer = new EnqueueCoalescer(gateRedisRepository, gateProperties,
+                new RedisConcurrencyLimiter(gateProperties, new SimpleMeterRegistry()));
+        coalescer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.stop();
+    }
+
+    @Test
+    @DisplayName("maxBatch 에 도달하면 한 번의 Lua 호출로 모든 요청을 처리한다")
+    void testFlushOnMaxBatch() throws Exception {
+        // given - window 만료 전에 maxBatch 가 먼저 차도록 window 를 넉넉히 설정
+        gateProperties.setEnqueueCoalescingWindowMs(5_000);
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+
+        // when
+        List<CompletableFuture<GateEnqueueDto>> futures = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> coalescer.enqueue(1001L, (long) i), pool))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        verify(gateRedisRepository, times(1)).enqueueBatchLua(eq(1001L), anyList());
+        assertThat(futures).allSatisfy(f -> assertThat(f.join().enqueued()).isTrue());
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("window 가 만료되면 maxBatch 미만이어도 실행되며, 도착 순서대로 순번이 매겨진다")
+    void testFlushOnWindowKeepsArrivalOrder() {
+        // when
+        GateEnqueueDto result = coalescer.enqueue(1001L, 100L);
+
+        // then
+        verify(gateRedisRepository, times(1)).enqueueBatchLua(1001L, List.of(100L));
+        assertThat(result.rank()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Redis 동시 호출 허용은 묶음 Lua 호출에만 사용되어, 허용 1개로도 묶음 전체가 처리된다")
+    void testLimiterPermitPerBatch() {
+        // given - 허용 1개, 대기 없이 실패
+        gateProperties.setEnqueueCoalescingWindowMs(5_000);
+        gateProperties.setRedisMaxConcurrency(1);
+        gateProperties.setRedisAcquireTimeoutMs(0);
+        EnqueueCoalescer limited = new EnqueueCoalescer(gateRedisRepository, gateProperties,
+                new RedisConcurrencyLimiter(gateProperties, new SimpleMeterRegistry()));
+        limited.start();
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+
+        // when
+        List<CompletableFuture<GateEnqueueDto>> futures = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> limited.enqueue(1001L, (long) i), pool))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        verify(gateRedisRepository, times(1)).enqueueBatchLua(eq(1001L), anyList());
+        assertThat(futures).allSatisfy(f -> assertThat(f.join().enqueued()).isTrue());
+        pool.shutdown();
+        limited.stop();
+    }
+}
@@ -0,0 +1,94 @@
+package rediclaim.gate.stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import rediclaim.gate.config.GateProperties;
+import rediclaim.gate.event.EventRegistry;
+import rediclaim.gate.event.SoldOutRegistry;
+import rediclaim.gate.repository.SoldOutRedisRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * SoldOutMessageListener 단위 테스트
+ * - SoldOutRedisRepository / GateStatusStreamService 를 Mock 으로 처리하여 latch 설정 / 해제만 검증
+ */
+@DisplayName("품절 신호 구독 단위 테스트")
+class SoldOutMessageListenerTest {
+
+    private static final Long EVENT_ID = 1001L;
+
+    private final SoldOutRedisRepository soldOutRedisRepository = mock(SoldOutRedisRepository.class);
+    private final EventRegistry eventRegistry = mock(EventRegistry.class);
+    private final GateStatusStreamService gateStatusStreamService = mock(GateStatusStreamService.class);
+    private final GateProperties gateProperties = new GateProperties();
+    private SoldOutRegistry soldOutRegistry;
+    private SoldOutMessageListener listener;
+
+    @BeforeEach
+    void setUp() {
+        gateProperties.setSoldOutEnabled(true);
+        soldOutRegistry = new SoldOutRegistry(gateProperties);
+        listener = new SoldOutMessageListener(
+                soldOutRegistry, soldOutRedisRepository, eventRegistry, gateStatusStreamService);
+    }
+
+    @Test
+    @DisplayName("품절 발행을 받으면 latch 를 걸고 대기 스트림에 한 번만 SOLD_OUT 을 보낸다")
+    void testSoldOut() {
+        // when
+        listener.onMessage(message("1001"), null);
+        listener.onMessage(message("1001"), null);
+
+        // then
+        assertThat(soldOutRegistry.isSoldOut(EVENT_ID)).isTrue();
+        verify(gateStatusStreamService, times(1)).pushSoldOut(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("reset 발행을 받으면 latch 를 해제하고, 이후 품절 발행에서 다시 latch 가 걸린다")
+    void testReset() {
+        // given
+        listener.onMessage(message("1001"), null);
+
+        // when
+        listener.onMessage(message(SoldOutRedisRepository.RESET_PREFIX + EVENT_ID), null);
+
+        // then
+        assertThat(soldOutRegistry.isSoldOut(EVENT_ID)).isFalse();
+
+        // when
+        listener.onMessage(message("1001"), null);
+
+        // then
+        assertThat(soldOutRegistry.isSoldOut(EVENT_ID)).isTrue();
+        verify(gateStatusStreamService, times(2)).pushSoldOut(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("주기 확인 시 플래그가 있는 event 만 latch 를 건다")
+    void testRefresh() {
+        // given
+        when(eventRegistry.eventIds()).thenReturn(List.of(EVENT_ID, 1002L));
+        when(soldOutRedisRepository.soldOutAmong(List.of(EVENT_ID, 1002L))).thenReturn(List.of(EVENT_ID));
+
+        // when
+        listener.refresh();
+
+        // then
+        assertThat(soldOutRegistry.isSoldOut(EVENT_ID)).isTrue();
+        assertThat(soldOutRegistry.isSoldOut(1002L)).isFalse();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                SoldOutRedisRepository.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
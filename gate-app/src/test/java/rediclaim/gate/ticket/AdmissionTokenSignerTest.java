@@ -0,0 +1,68 @@
+package rediclaim.gate.ticket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rediclaim.gate.config.GateProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdmissionTokenSigner 단위 테스트
+ * - 고정 secret / 토큰으로 issuer-api-app 의 AdmissionTokenVerifierTest 와 같은 형식을 검증
+ */
+@DisplayName("발급 허가 토큰 서명 단위 테스트")
+class AdmissionTokenSignerTest {
+
+    /** issuer-api-app AdmissionTokenVerifierTest 와 같은 값 - 한쪽을 바꾸면 다른 쪽도 바꿔야 한다 */
+    private static final String SECRET = "test-admission-secret";
+    private static final String PAYLOAD = "1001.42.4102444800000.1a2b3c4d";
+    private static final String TOKEN = PAYLOAD + ".-9Xf8kwSQXIpNJbjVkTx6yfO3KXb0tqUIiHisJJAYlQ";
+
+    private AdmissionTokenSigner signer;
+
+    @BeforeEach
+    void setUp() {
+        GateProperties gateProperties = new GateProperties();
+        gateProperties.setAdmissionTokenEnabled(true);
+        gateProperties.setAdmissionSecret(SECRET);
+
+        signer = new AdmissionTokenSigner(gateProperties);
+        signer.init();
+    }
+
+    @Test
+    @DisplayName("고정 payload 의 서명은 issuer-api-app 이 검증하는 토큰과 같다")
+    void testFixedToken() {
+        // when
+        String signature = new HmacSha256(SECRET).sign(PAYLOAD);
+
+        // then
+        assertThat(PAYLOAD + "." + signature).isEqualTo(TOKEN);
+    }
+
+    @Test
+    @DisplayName("서명한 토큰은 {eventId}.{userId}.{expiresAtMs}.{nonce}.{signature} 형식이며 같은 secret 으로 검증된다")
+    void testSignFormat() {
+        // when
+        String token = signer.sign(1001L, 42L, 4102444800000L);
+
+        // then
+        String[] parts = token.split("\\.");
+        assertThat(parts).hasSize(5);
+        assertThat(parts[0]).isEqualTo("1001");
+        assertThat(parts[1]).isEqualTo("42");
+        assertThat(parts[2]).isEqualTo("4102444800000");
+        assertThat(parts[3]).matches("[0-9a-f]+");
+        assertThat(new HmacSha256(SECRET).verifiedPayload(token))
+                .isEqualTo(token.substring(0, token.lastIndexOf('.')));
+    }
+
+    @Test
+    @DisplayName("토큰마다 nonce 가 다르다")
+    void testNonceDiffers() {
+        // when & then
+        assertThat(signer.sign(1001L, 42L, 4102444800000L))
+                .isNotEqualTo(signer.sign(1001L, 42L, 4102444800000L));
+    }
+}
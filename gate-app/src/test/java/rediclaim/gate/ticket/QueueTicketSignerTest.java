@@ -0,0 +1,56 @@
+package rediclaim.gate.ticket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rediclaim.gate.config.GateProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("번호표 서명 단위 테스트")
+class QueueTicketSignerTest {
+
+    private QueueTicketSigner signer;
+
+    @BeforeEach
+    void setUp() {
+        GateProperties gateProperties = new GateProperties();
+        gateProperties.setTicketEnabled(true);
+        gateProperties.setTicketSecret("test-secret");
+
+        signer = new QueueTicketSigner(gateProperties);
+        signer.init();
+    }
+
+    @Test
+    @DisplayName("서명한 번호표는 같은 event / user 로 검증된다")
+    void testSignAndVerify() {
+        // given
+        String token = signer.sign(new QueueTicket(1001L, 100L, 42L));
+
+        // when & then
+        assertThat(signer.verify(token, 1001L, 100L))
+                .hasValueSatisfying(ticket -> assertThat(ticket.ticket()).isEqualTo(42L));
+    }
+
+    @Test
+    @DisplayName("ticket 값을 변조하면 검증에 실패한다")
+    void testTamperedTicket() {
+        // given
+        String token = signer.sign(new QueueTicket(1001L, 100L, 42L));
+        String tampered = token.replaceFirst("\\.42\\.", ".1.");
+
+        // when & then
+        assertThat(signer.verify(tampered, 1001L, 100L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 유저의 번호표로는 검증할 수 없다")
+    void testOtherUsersTicket() {
+        // given
+        String token = signer.sign(new QueueTicket(1001L, 100L, 42L));
+
+        // when & then
+        assertThat(signer.verify(token, 1001L, 200L)).isEmpty();
+    }
+}
@@ -1,9 +1,24 @@
 package rediclaim.issuer.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import rediclaim.couponbackend.global.issue.BatchCouponIssuer;
 
 @Configuration
 @EnableJpaAuditing
+@EnableConfigurationProperties(IssuerProperties.class)
+@EnableScheduling
 public class IssuerApiConfig {
+
+    /**
+     * group commit 엔진의 묶음 발급 (issuer-worker-app 과 같은 구현)
+     */
+    @Bean
+    public BatchCouponIssuer batchCouponIssuer(NamedParameterJdbcTemplate jdbcTemplate) {
+        return new BatchCouponIssuer(jdbcTemplate);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package rediclaim.issuer.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "issuer")
+public class IssuerProperties {
+
+    /** 발급 트랜잭션(DB) 동시 실행 상한 - 가상 스레드 모드에서 HikariCP 대기 쏠림 방지용 (0 이면 제한 없음) */
+    private int dbMaxConcurrency = 0;
+
+    /** DB 동시 실행 허용을 기다리는 최대 시간 (ms) - 초과 시 503 */
+    private long dbAcquireTimeoutMs = 1000;
+
+    /** 발급 API p99 / 에러율을 gate-app 의 dispatch 속도 조절용으로 Redis 에 보고할지 여부 (gate.rate-control-enabled=true 일 때 켠다) */
+    private boolean signalReportEnabled = false;
+
+    /** 보고 주기 (ms) */
+    private long signalReportIntervalMs = 1000;
+
+    /** p99 계산 구간 (ms) - 이보다 오래된 요청은 p99 에 반영되지 않음 */
+    private long signalWindowMs = 30_000;
+
+    /**
+     * group commit 발급 엔진 사용 여부 - event 별 queue 에 모은 요청을 writer 하나가 묶어서
+     * 한 트랜잭션(일괄 재고 차감 + multi-row INSERT IGNORE)으로 처리 (coupons row lock 경합 감소)
+     */
+    private boolean issueEngineEnabled = false;
+
+    /** 한 트랜잭션에서 처리하는 최대 요청 수 */
+    private int issueEngineBatchSize = 100;
+
+    /** 첫 요청 도착 후 묶음을 채우기 위해 기다리는 최대 시간 (ms) */
+    private long issueEngineMaxWaitMs = 5;
+
+    /** event 별 대기 요청 상한 - 초과 시 503 */
+    private int issueEngineQueueCapacity = 10_000;
+
+    /** 요청이 결과를 기다리는 최대 시간 (ms) - 초과 시 503 */
+    private long issueEngineTimeoutMs = 3000;
+
+    /** 이 시간(ms) 동안 요청이 없는 event 의 writer 스레드는 종료 */
+    private long issueEngineWriterIdleMs = 60_000;
+
+    /**
+     * 재고 lease 모드 사용 여부 - replica 가 coupons row 에서 재고를 블록 단위로 확보해 메모리에서 나눠 쓰고,
+     * 발급 시에는 user_coupon 만 INSERT (group commit 엔진보다 우선)
+     */
+    private boolean stockLeaseEnabled = false;
+
+    /** lease 블록 최소 / 최대 크기 */
+    private int stockLeaseMinBlock = 10;
+    private int stockLeaseMaxBlock = 1000;
+
+    /** 다음 블록 크기를 관측 발급 속도로 이 시간(ms) 동안 쓸 만큼으로 정한다 */
+    private long stockLeaseTargetMs = 1000;
+
+    /** 이 시간(ms) 동안 쓰이지 않은 lease 는 coupons row 에 반납 */
+    private long stockLeaseIdleMs = 10_000;
+
+    /** lease 만료 시간 (ms) - 소유 replica 가 연장하지 못하면 이후 다른 replica 가 coupons row 에 반납 */
+    private long stockLeaseTtlMs = 30_000;
+
+    /** lease 연장 / 유휴 반납 / 만료 lease 회수 주기 (ms) - stockLeaseTtlMs 보다 충분히 짧아야 함 */
+    private long stockLeaseRenewIntervalMs = 5_000;
+
+    /** coupons 남은 재고를 gate-app 의 재고 기반 dispatch 상한용으로 Redis 에 보고할지 여부 */
+    private boolean stockReportEnabled = false;
+
+    /** 남은 재고 보고 주기 (ms) */
+    private long stockReportIntervalMs = 1000;
+
+    /**
+     * gate-app 의 Active Queue 저장 방식 (keys | index) - gate-app 의 gate.active-store 와 같은 값이어야 함
+     */
+    private String activeStore = "keys";
+
+    /**
+     * keys 모드 Active 조회 결과를 JVM 에 캐시할지 여부 (Redis 6+ CLIENT TRACKING 으로 무효화, standalone 전용)
+     */
+    private boolean activeNearCacheEnabled = false;
+
+    /** near cache 항목 최대 보관 시간 (ms) - invalidate 유실 대비 상한 */
+    private long activeNearCacheMaxAgeMs = 60_000;
+
+    /** near cache 최대 항목 수 - 초과 시 새 결과는 캐시하지 않음 */
+    private int activeNearCacheMaxSize = 200_000;
+
+    /**
+     * 발급 요청 허가 확인 방식 (redis | token)
+     * redis : Active Queue 를 Redis 에서 조회, token : gate-app 이 ACTIVE 응답에 내려준 서명 토큰을 로컬 검증 (네트워크 호출 없음)
+     */
+    private String admissionMode = "redis";
+
+    /** 발급 허가 토큰 HMAC 서명 키 (gate-app 의 gate.admission-secret 과 동일해야 함) */
+    private String admissionSecret;
+
+    /**
+     * redis 모드에서 발급 권한을 한 번만 사용하도록 DB 호출 전 Redis 에서 원자적으로 선점할지 여부.
+     * 재요청 / 더블 클릭은 Redis 에 기록된 결과로 응답하여 DB 트랜잭션을 열지 않는다 (Redis 6.0+ KEEPTTL 필요)
+     */
+    private boolean admissionClaimEnabled = false;
+
+    /**
+     * 선점 후 결과가 기록되지 않은 채 이 시간이 지나면 (발급 중 프로세스 종료 등) 다음 요청이 다시 선점한다 (ms).
+     * 발급 한 건의 최대 소요 시간(DB 허용 대기 + 트랜잭션)보다 길게 설정한다.
+     */
+    private long admissionClaimTimeoutMs = 10_000;
+
+    /**
+     * 품절 신호 사용 여부 - 재고 차감이 0건이면 {@code gate:soldout} 으로 알리고,
+     * 품절된 event 의 요청은 DB 를 거치지 않고 OUT_OF_STOCK 응답 (gate-app 의 gate.sold-out-enabled 와 함께)
+     */
+    private boolean soldOutEnabled = false;
+
+    /** 사용된 토큰의 발급 결과를 기억하는 replay cache 최대 크기 - 초과 시 캐시하지 않고 DB UNIQUE 제약에 맡김 */
+    private int admissionReplayCacheSize = 100_000;
+
+    /** replay cache 에서 만료된 토큰 결과를 정리하는 주기 (ms) */
+    private long admissionReplayEvictIntervalMs = 10_000;
+}
@@ -1,9 +1,14 @@
 package rediclaim.issuer.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import rediclaim.couponbackend.global.soldout.SoldOutLatch;
+import rediclaim.couponbackend.global.soldout.SoldOutRedisRepository;
 
 @Configuration
 public class RedisConfig {
@@ -12,4 +17,32 @@ public class RedisConfig {
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public SoldOutRedisRepository soldOutRedisRepository(StringRedisTemplate stringRedisTemplate) {
+        return new SoldOutRedisRepository(stringRedisTemplate);
+    }
+
+    /**
+     * 품절 로컬 latch ({@code issuer.sold-out-enabled=true} 일 때만 latch 를 건다, issuer-worker-app 과 같은 구현)
+     */
+    @Bean
+    public SoldOutLatch soldOutLatch(SoldOutRedisRepository soldOutRedisRepository, IssuerProperties issuerProperties) {
+        return new SoldOutLatch(soldOutRedisRepository, issuerProperties::isSoldOutEnabled);
+    }
+
+    /**
+     * 품절 신호({@code gate:soldout}) 수신용 컨테이너
+     */
+    @Bean
+    @ConditionalOnProperty(name = "issuer.sold-out-enabled", havingValue = "true")
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SoldOutLatch soldOutLatch
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(soldOutLatch, new ChannelTopic(SoldOutRedisRepository.CHANNEL));
+        return container;
+    }
+}
@@ -2,10 +2,20 @@ package rediclaim.issuer.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import rediclaim.couponbackend.global.soldout.SoldOutLatch;
 import rediclaim.issuer.controller.dto.IssueResponse;
 import rediclaim.issuer.repository.ActiveQueueRedisRepository;
+import rediclaim.issuer.service.AdmissionReplayCache;
+import rediclaim.issuer.service.AdmissionToken;
+import rediclaim.issuer.service.AdmissionTokenVerifier;
 import rediclaim.issuer.service.CouponIssueService;
+import rediclaim.issuer.service.DbConcurrencyLimiter;
+import rediclaim.issuer.service.GroupCommitIssueEngine;
+import rediclaim.issuer.service.IssueSignalReporter;
 import rediclaim.issuer.service.IssueResult;
+import rediclaim.issuer.service.StockLeaseManager;
+
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -13,6 +23,13 @@ public class IssuerController {
 
     private final CouponIssueService couponIssueService;
     private final ActiveQueueRedisRepository activeQueueRedisRepository;
+    private final DbConcurrencyLimiter dbConcurrencyLimiter;
+    private final IssueSignalReporter issueSignalReporter;
+    private final AdmissionTokenVerifier admissionTokenVerifier;
+    private final AdmissionReplayCache admissionReplayCache;
+    private final SoldOutLatch soldOutLatch;
+    private final GroupCommitIssueEngine groupCommitIssueEngine;
+    private final StockLeaseManager stockLeaseManager;
 
     /**
      * 쿠폰 발급 요청
@@ -20,17 +37,92 @@ public class IssuerController {
      * <p>gate-app 의 폴링 결과가 ACTIVE 인 클라이언트만 이 엔드포인트를 호출한다.
      * Active Queue 검증은 DB 트랜잭션 외부에서 수행하여 불필요한 커넥션 점유를 방지한다.</p>
      *
-     * @param eventId  이벤트 ID (couponId 와 1:1 매핑)
-     * @param userId   발급 요청 유저 ID
-     * @return SUCCESS / NOT_IN_ACTIVE_QUEUE / ALREADY_ISSUED / OUT_OF_STOCK
+     * <p>{@code issuer.admission-mode=token} 이면 Redis 대신 gate-app 이 내려준 발급 허가 토큰을 로컬 검증하고,
+     * 이미 사용된 토큰은 replay cache 의 처음 결과를 그대로 반환한다.</p>
+     *
+     * <p>{@code issuer.admission-claim-enabled=true} 이면 Active Queue 확인 대신 권한을 원자적으로 선점하고,
+     * 발급 결과를 Redis 에 기록한다. 재요청은 DB 커넥션 없이 기록된 결과(또는 IN_PROGRESS)로 응답한다.</p>
+     *
+     * @param eventId        이벤트 ID (couponId 와 1:1 매핑)
+     * @param userId         발급 요청 유저 ID
+     * @param admissionToken gate-app 상태 응답의 발급 허가 토큰 (token 모드에서 필수)
+     * @return SUCCESS / NOT_IN_ACTIVE_QUEUE / ALREADY_ISSUED / OUT_OF_STOCK / IN_PROGRESS
      */
     @PostMapping("/issue/events/{eventId}")
-    public IssueResponse issue(@PathVariable Long eventId, @RequestParam Long userId) {
+    public IssueResponse issue(
+            @PathVariable Long eventId,
+            @RequestParam Long userId,
+            @RequestParam(required = false) String admissionToken
+    ) {
+        if (admissionTokenVerifier.enabled()) {
+            return issueWithToken(eventId, userId, admissionToken);
+        }
+        if (activeQueueRedisRepository.claimEnabled()) {
+            return issueWithClaim(eventId, userId);
+        }
+
         // Active Queue 검증 (트랜잭션 외부) — DB 커넥션 획득 전 선제 차단
         if (!activeQueueRedisRepository.isActive(eventId, userId)) {
             return new IssueResponse(IssueResult.NOT_IN_ACTIVE_QUEUE.name());
         }
-        IssueResult result = couponIssueService.issue(eventId, userId);
+        return new IssueResponse(issueCoupon(eventId, userId).name());
+    }
+
+    private IssueResponse issueWithToken(Long eventId, Long userId, String admissionToken) {
+        Optional<AdmissionToken> token = admissionTokenVerifier.verify(admissionToken, eventId, userId);
+        if (token.isEmpty()) {
+            return new IssueResponse(IssueResult.NOT_IN_ACTIVE_QUEUE.name());
+        }
+
+        Optional<IssueResult> replayed = admissionReplayCache.get(token.get());
+        if (replayed.isPresent()) {
+            return new IssueResponse(replayed.get().name());
+        }
+
+        IssueResult result = issueCoupon(eventId, userId);
+        admissionReplayCache.put(token.get(), result);
         return new IssueResponse(result.name());
     }
+
+    private IssueResponse issueWithClaim(Long eventId, Long userId) {
+        Optional<IssueResult> answered = activeQueueRedisRepository.claim(eventId, userId);
+        if (answered.isPresent()) {
+            return new IssueResponse(answered.get().name());
+        }
+
+        IssueResult result;
+        try {
+            result = issueCoupon(eventId, userId);
+        } catch (RuntimeException e) {
+            // 503 (동시 실행 제한) / DB 오류 - 선점을 되돌려 재시도를 허용
+            activeQueueRedisRepository.release(eventId, userId);
+            throw e;
+        }
+        activeQueueRedisRepository.complete(eventId, userId, result);
+        return new IssueResponse(result.name());
+    }
+
+    /**
+     * 품절 latch 가 걸린 event 는 DB 를 거치지 않고 OUT_OF_STOCK 으로 응답한다.
+     * 이미 발급받은 유저의 재요청은 이 앞에서 선점 결과(claim 모드) 또는 replay cache(token 모드)가 ALREADY_ISSUED 로 응답한다.
+     */
+    private IssueResult issueCoupon(Long eventId, Long userId) {
+        if (soldOutLatch.isSoldOut(eventId)) {
+            return IssueResult.OUT_OF_STOCK;
+        }
+        if (stockLeaseManager.enabled()) {
+            // lease 모드의 품절 신호는 StockLeaseManager 가 남은 lease 까지 확인한 뒤 보낸다
+            return issueSignalReporter.record(() ->
+                    dbConcurrencyLimiter.call(() -> stockLeaseManager.issue(eventId, userId)));
+        }
+
+        // group commit 엔진은 event 당 writer 하나가 DB 를 사용하므로 동시 실행 제한을 거치지 않는다
+        IssueResult result = issueSignalReporter.record(() -> groupCommitIssueEngine.enabled()
+                ? groupCommitIssueEngine.issue(eventId, userId)
+                : dbConcurrencyLimiter.call(() -> couponIssueService.issue(eventId, userId)));
+        if (result == IssueResult.OUT_OF_STOCK) {
+            soldOutLatch.markSoldOut(eventId);
+        }
+        return result;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package rediclaim.issuer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * issuer-api-app replica 가 coupons row 에서 확보한 재고 lease.
+ *
+ * <p>units 는 확보한 수이며 발급할 때 바뀌지 않는다 (사용량은 소유 replica 메모리에서 센다).
+ * 반납 시 이 lease 로 발급된 user_coupon 수({@code stock_lease_id})를 빼고 남은 수를 coupons 에 되돌린다.
+ * 소유 replica 가 leasedUntil 을 주기적으로 연장하고, 만료된 lease 는 어느 replica 든 coupons 에 반납한다
+ * (replica 가 비정상 종료해도 재고가 사라지지 않음).</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "coupon_stock_lease",
+        indexes = @Index(name = "idx_stock_lease_coupon", columnList = "coupon_id")
+)
+public class StockLease {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(nullable = false)
+    private String holder;
+
+    @Column(nullable = false)
+    private int units;
+
+    @Column(nullable = false)
+    private LocalDateTime leasedUntil;
+
+    public StockLease(Long couponId, String holder, int units, LocalDateTime leasedUntil) {
+        this.couponId = couponId;
+        this.holder = holder;
+        this.units = units;
+        this.leasedUntil = leasedUntil;
+    }
+}
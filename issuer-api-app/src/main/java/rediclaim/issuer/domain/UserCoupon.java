@@ -15,7 +15,8 @@ import rediclaim.couponbackend.domain.User;
                         name = "uk_user_coupon",
                         columnNames = {"user_id", "coupon_id"}
                 )
-        }
+        },
+        indexes = @Index(name = "idx_user_coupon_stock_lease", columnList = "stock_lease_id")
 )
 public class UserCoupon extends BaseEntity {
 
@@ -30,4 +31,8 @@ public class UserCoupon extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "coupon_id", nullable = false)
     private Coupon coupon;
+
+    /** 재고 lease 로 발급한 경우 그 lease id (issuer.stock-lease-enabled) - lease 반납 시 사용량 계산용 */
+    @Column(name = "stock_lease_id")
+    private Long stockLeaseId;
 }
\ No newline at end of file
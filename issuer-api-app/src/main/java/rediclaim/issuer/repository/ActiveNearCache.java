@@ -0,0 +1,192 @@
+package rediclaim.issuer.repository;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+import rediclaim.issuer.config.IssuerProperties;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Active Key 존재 여부 near cache ({@code issuer.active-near-cache-enabled=true}, keys 모드 전용).
+ *
+ * <p>Redis 6+ client-side caching 을 사용한다. 전용 RESP3 연결에서
+ * Active Key prefix ({@link #TRACKING_PREFIX}) 로 {@code CLIENT TRACKING ON BCAST PREFIX} 를 켜 두면, 이 prefix 의 키가 바뀌거나
+ * 만료될 때마다 Redis 가 invalidate push 를 보낸다. 존재하는(positive) 결과만 JVM 에 저장하고
+ * invalidate 를 받으면 지운다. 같은 유저의 재시도 / 여러 탭 요청은 Redis 를 다시 조회하지 않는다.</p>
+ *
+ * <ul>
+ *   <li>조회 중에 invalidate 가 도착하면 결과를 저장하지 않는다 (조회 전에 자리표시 값을 넣고, 그대로일 때만 교체).</li>
+ *   <li>재연결 시에는 놓친 invalidate 가 있을 수 있으므로 캐시를 비우고 tracking 을 다시 켠다.</li>
+ *   <li>invalidate 유실에 대비해 항목은 {@code issuer.active-near-cache-max-age-ms} 후 만료된다.</li>
+ * </ul>
+ *
+ * <p>메트릭: {@code issuer.active.cache.size}, {@code issuer.active.cache.requests{result=hit|miss}},
+ * {@code issuer.active.cache.hit.ratio}, {@code issuer.active.cache.invalidations}</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveNearCache {
+
+    /** Active Key ({@code gate:active:{eventId}:{userId}}) 만 추적 - index / claim 키는 제외 */
+    private static final String TRACKING_PREFIX = "gate:active:{";
+
+    private final RedisConnectionFactory connectionFactory;
+    private final IssuerProperties issuerProperties;
+    private final MeterRegistry meterRegistry;
+
+    /** key -> 만료 시각(Long) 또는 조회 중 자리표시(Object) */
+    private final Map<String, Object> entries = new ConcurrentHashMap<>();
+
+    private StatefulRedisConnection<String, String> trackingConnection;
+    private Counter hits;
+    private Counter misses;
+    private Counter invalidations;
+
+    @PostConstruct
+    void init() {
+        if (!issuerProperties.isActiveNearCacheEnabled()) {
+            return;
+        }
+        if ("index".equalsIgnoreCase(issuerProperties.getActiveStore())) {
+            log.warn("Active near cache supports issuer.active-store=keys only, disabled");
+            return;
+        }
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuce)
+                || !(lettuce.getRequiredNativeClient() instanceof RedisClient redisClient)) {
+            // cluster 클라이언트는 연결이 노드마다 나뉘어 BCAST tracking 을 한 연결로 받을 수 없다
+            log.warn("Active near cache requires a standalone Lettuce client, disabled");
+            return;
+        }
+
+        redisClient.addListener(new RedisConnectionStateListener() {
+            @Override
+            public void onRedisConnected(RedisChannelHandler<?, ?> connection, SocketAddress socketAddress) {
+                if (trackingConnection != null && connection == trackingConnection) {
+                    // 끊겨 있던 동안의 invalidate 는 받지 못했으므로 비우고, 새 연결에 tracking 을 다시 켠다
+                    entries.clear();
+                    trackingConnection.async().clientTracking(trackingArgs());
+                }
+            }
+        });
+
+        trackingConnection = redisClient.connect(StringCodec.UTF8);
+        trackingConnection.addListener(this::onPush);
+        trackingConnection.sync().clientTracking(trackingArgs());
+
+        hits = requestCounter("hit");
+        misses = requestCounter("miss");
+        invalidations = Counter.builder("issuer.active.cache.invalidations")
+                .description("Redis 로부터 받은 invalidate 키 수")
+                .register(meterRegistry);
+        Gauge.builder("issuer.active.cache.size", entries, Map::size).register(meterRegistry);
+        Gauge.builder("issuer.active.cache.hit.ratio", this, cache -> cache.hitRatio()).register(meterRegistry);
+
+        log.info("Active near cache enabled (CLIENT TRACKING BCAST PREFIX {})", TRACKING_PREFIX);
+    }
+
+    @PreDestroy
+    void close() {
+        if (trackingConnection != null) {
+            trackingConnection.close();
+        }
+    }
+
+    public boolean enabled() {
+        return trackingConnection != null;
+    }
+
+    /**
+     * 캐시에 살아 있는 positive 항목이 있으면 true, 없으면 loader 로 조회한다 (positive 만 캐시).
+     */
+    public boolean exists(String key, BooleanSupplier loader) {
+        Object cached = entries.get(key);
+        if (cached instanceof Long expiresAt && expiresAt > System.currentTimeMillis()) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        if (cached instanceof Long) {
+            entries.remove(key, cached);
+            cached = null;
+        }
+
+        if (entries.size() >= issuerProperties.getActiveNearCacheMaxSize()) {
+            // 상한 초과 시에는 캐시 없이 조회 (만료 항목은 invalidate / 다음 조회 때 정리)
+            entries.remove(key, cached);
+            return loader.getAsBoolean();
+        }
+
+        Object placeholder = new Object();
+        entries.put(key, placeholder);
+        boolean exists;
+        try {
+            exists = loader.getAsBoolean();
+        } catch (RuntimeException e) {
+            entries.remove(key, placeholder);
+            throw e;
+        }
+
+        if (exists) {
+            // 조회 중 invalidate 로 자리표시가 지워졌다면 저장하지 않는다
+            entries.replace(key, placeholder, System.currentTimeMillis() + issuerProperties.getActiveNearCacheMaxAgeMs());
+        } else {
+            entries.remove(key, placeholder);
+        }
+        return exists;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof List<?> list) {
+            for (Object key : (List<Object>) list) {
+                entries.remove(String.valueOf(key));
+            }
+            invalidations.increment(list.size());
+        } else {
+            // null : FLUSHALL 등 전체 무효화
+            entries.clear();
+            invalidations.increment();
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private Counter requestCounter(String result) {
+        return Counter.builder("issuer.active.cache.requests")
+                .description("Active near cache 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static TrackingArgs trackingArgs() {
+        return TrackingArgs.Builder.enabled().bcast().prefixes(TRACKING_PREFIX);
+    }
+}
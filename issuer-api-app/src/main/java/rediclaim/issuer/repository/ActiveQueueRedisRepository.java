@@ -1,28 +1,139 @@
 package rediclaim.issuer.repository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
+import rediclaim.issuer.config.IssuerProperties;
+import rediclaim.issuer.service.IssueResult;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
- * gate-app 이 관리하는 Active Queue 를 읽기 전용으로 조회한다.
+ * gate-app 이 관리하는 Active Queue 를 조회한다.
  *
- * <p>Active Queue 키 형식: {@code gate:active:{eventId}:{userId}}
- * gate-app 이 SET EX 로 생성하며, TTL 만료 시 Redis 가 자동 제거한다.
- * issuer-api-app 은 이 키의 존재 여부만 확인하고 절대 write 하지 않는다.</p>
+ * <p>Active Queue 형식 ({@code issuer.active-store})</p>
+ * <ul>
+ *   <li>keys (기본) : {@code gate:active:{eventId}:{userId}} - gate-app 이 SET EX 로 생성하며, TTL 만료 시 Redis 가 자동 제거한다.</li>
+ *   <li>index : {@code gate:active:index:{eventId}} ZSet - member = userId, score = 만료 시각(ms).
+ *       만료된 항목은 gate-app 이 주기적으로 정리하므로 score 로 만료 여부를 직접 판단한다.</li>
+ * </ul>
+ * <p>issuer-api-app 은 존재 여부만 확인하고 Active Queue 자체(키 생성 / TTL / index member)는 바꾸지 않는다.
+ * 단, {@code issuer.admission-claim-enabled=true} 이면 권한을 한 번만 쓰도록 선점 상태와 발급 결과를 기록한다.</p>
+ * <ul>
+ *   <li>keys : Active Key 의 값을 {@code "1" → "CLAIMED:{선점 시각}" → 결과} 로 바꾼다 (TTL 유지).</li>
+ *   <li>index : {@code gate:active:claim:{eventId}} Hash 에 userId 별로 기록한다.</li>
+ *   <li>선점 후 {@code issuer.admission-claim-timeout-ms} 가 지나도록 결과가 없으면 (발급 중 프로세스 종료 등)
+ *       다음 요청이 다시 선점한다. 그 전까지는 IN_PROGRESS 로 응답한다.</li>
+ * </ul>
+ * <p>keys 모드에서 {@code issuer.active-near-cache-enabled=true} 이면 {@link ActiveNearCache} 를 거쳐 조회한다.</p>
  */
 @Repository
 @RequiredArgsConstructor
 public class ActiveQueueRedisRepository {
 
     private final StringRedisTemplate redisTemplate;
+    private final IssuerProperties issuerProperties;
+    private final ActiveNearCache activeNearCache;
 
     private static final String ACTIVE_KEY_PREFIX = "gate:active:";
+    private static final String ACTIVE_INDEX_KEY_PREFIX = "gate:active:index:";
+    private static final String ACTIVE_CLAIM_KEY_PREFIX = "gate:active:claim:";
+
+    /** 선점 스크립트 반환값 - 이번 요청이 권한을 선점함 */
+    private static final String ACQUIRED = "ACQUIRED";
+
+    /** keys 모드에서 선점 전 Active Key 값 (gate-app 이 기록하는 값) */
+    private static final String UNCLAIMED = "1";
+
+    private static final RedisScript<String> CLAIM_ACTIVE = script("claim-active.lua", String.class);
+    private static final RedisScript<String> CLAIM_ACTIVE_INDEX = script("claim-active-index.lua", String.class);
+    private static final RedisScript<Long> RESOLVE_ACTIVE = script("resolve-active.lua", Long.class);
+    private static final RedisScript<Long> RESOLVE_ACTIVE_INDEX = script("resolve-active-index.lua", Long.class);
 
     /**
      * 해당 유저가 Active Queue 에 있는지 확인 (read-only)
      */
     public boolean isActive(Long eventId, Long userId) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(ACTIVE_KEY_PREFIX + eventId + ":" + userId));
+        if (indexed()) {
+            Double expireAt = redisTemplate.opsForZSet().score(indexKey(eventId), userId.toString());
+            return expireAt != null && expireAt > System.currentTimeMillis();
+        }
+        String key = activeKey(eventId, userId);
+        if (activeNearCache.enabled()) {
+            return activeNearCache.exists(key, () -> Boolean.TRUE.equals(redisTemplate.hasKey(key)));
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    public boolean claimEnabled() {
+        return issuerProperties.isAdmissionClaimEnabled();
+    }
+
+    /**
+     * 발급 권한을 원자적으로 선점한다.
+     *
+     * @return 비어 있으면 이번 요청이 선점함 (DB 발급 진행).
+     *         값이 있으면 DB 를 거치지 않고 바로 응답할 결과 (NOT_IN_ACTIVE_QUEUE / IN_PROGRESS / 이전 발급 결과)
+     */
+    public Optional<IssueResult> claim(Long eventId, Long userId) {
+        String now = String.valueOf(System.currentTimeMillis());
+        String timeout = String.valueOf(issuerProperties.getAdmissionClaimTimeoutMs());
+        String result = indexed()
+                ? redisTemplate.execute(CLAIM_ACTIVE_INDEX,
+                        List.of(indexKey(eventId), claimKey(eventId)),
+                        userId.toString(), now, timeout)
+                : redisTemplate.execute(CLAIM_ACTIVE, List.of(activeKey(eventId, userId)), now, timeout);
+
+        if (ACQUIRED.equals(result)) {
+            return Optional.empty();
+        }
+        return Optional.of(result == null ? IssueResult.NOT_IN_ACTIVE_QUEUE : IssueResult.valueOf(result));
+    }
+
+    /**
+     * 선점한 권한에 발급 결과를 기록한다. 이후 같은 유저의 요청은 이 결과로 바로 응답한다.
+     */
+    public void complete(Long eventId, Long userId, IssueResult result) {
+        // 발급 성공 이후의 재요청은 ALREADY_ISSUED 로 응답
+        IssueResult stored = result == IssueResult.SUCCESS ? IssueResult.ALREADY_ISSUED : result;
+        resolve(eventId, userId, stored.name());
+    }
+
+    /**
+     * 발급이 예외로 끝난 경우 선점을 되돌려 같은 유저가 다시 시도할 수 있게 한다.
+     */
+    public void release(Long eventId, Long userId) {
+        resolve(eventId, userId, indexed() ? "" : UNCLAIMED);
+    }
+
+    private void resolve(Long eventId, Long userId, String value) {
+        if (indexed()) {
+            redisTemplate.execute(RESOLVE_ACTIVE_INDEX, List.of(claimKey(eventId)), userId.toString(), value);
+        } else {
+            redisTemplate.execute(RESOLVE_ACTIVE, List.of(activeKey(eventId, userId)), value);
+        }
+    }
+
+    private boolean indexed() {
+        return "index".equalsIgnoreCase(issuerProperties.getActiveStore());
+    }
+
+    private static String activeKey(Long eventId, Long userId) {
+        return ACTIVE_KEY_PREFIX + "{" + eventId + "}:" + userId;
+    }
+
+    private static String indexKey(Long eventId) {
+        return ACTIVE_INDEX_KEY_PREFIX + "{" + eventId + "}";
+    }
+
+    private static String claimKey(Long eventId) {
+        return ACTIVE_CLAIM_KEY_PREFIX + "{" + eventId + "}";
+    }
+
+    private static <T> RedisScript<T> script(String name, Class<T> resultType) {
+        return RedisScript.of(new ClassPathResource("lua/" + name), resultType);
     }
-}
\ No newline at end of file
+}
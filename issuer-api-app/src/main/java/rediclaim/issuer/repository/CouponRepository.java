@@ -1,12 +1,16 @@
 package rediclaim.issuer.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rediclaim.issuer.domain.Coupon;
 
+import java.util.Optional;
+
 @Repository
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
@@ -17,4 +21,25 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     @Modifying
     @Query("UPDATE Coupon c SET c.remainingCount = c.remainingCount - 1 WHERE c.id = :id AND c.remainingCount > 0")
     int decrementIfInStock(@Param("id") Long id);
-}
\ No newline at end of file
+
+    /**
+     * 남은 재고 조회 + row 잠금 (재고 lease 용, SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c.remainingCount FROM Coupon c WHERE c.id = :id")
+    Optional<Integer> findRemainingCountForUpdate(@Param("id") Long id);
+
+    /**
+     * 재고 일괄 차감 (lease) - 남은 재고를 넘지 않도록 잘라서 차감
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.remainingCount = c.remainingCount - LEAST(c.remainingCount, :count) WHERE c.id = :id")
+    int decrementBy(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * 사용하지 않은 lease 재고 반납
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.remainingCount = c.remainingCount + :count WHERE c.id = :id")
+    int incrementBy(@Param("id") Long id, @Param("count") int count);
+}
@@ -0,0 +1,30 @@
+package rediclaim.issuer.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * gate-app 의 dispatch 속도 조절에 사용되는 issuer-api-app 신호를 Redis 에 기록한다.
+ *
+ * <p>키 형식: {@code gate:signals:issuer-api} (Hash, field = instanceId, value = {@code p99Ms:errorRate:reportedAt})
+ * gate-app 이 fresh 한 인스턴스 값 중 최대값을 사용한다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class IssuerSignalRedisRepository {
+
+    private static final String SIGNALS_KEY = "gate:signals:issuer-api";
+
+    /** 모든 인스턴스가 보고를 멈추면 키 자체가 사라지도록 하는 TTL */
+    private static final Duration SIGNALS_TTL = Duration.ofMinutes(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void report(String instanceId, double p99Ms, double errorRate, long reportedAt) {
+        redisTemplate.opsForHash().put(SIGNALS_KEY, instanceId, p99Ms + ":" + errorRate + ":" + reportedAt);
+        redisTemplate.expire(SIGNALS_KEY, SIGNALS_TTL);
+    }
+}
@@ -0,0 +1,55 @@
+package rediclaim.issuer.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import rediclaim.issuer.domain.StockLease;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StockLeaseRepository extends JpaRepository<StockLease, Long> {
+
+    /**
+     * 소유 replica 의 lease 만료 시각 연장
+     */
+    @Modifying
+    @Query("UPDATE StockLease l SET l.leasedUntil = :leasedUntil WHERE l.id IN :ids")
+    int renew(@Param("ids") Collection<Long> ids, @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM StockLease l WHERE l.id = :id")
+    Optional<StockLease> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 발급 트랜잭션에서 lease 가 아직 반납되지 않았는지 확인 (공유 잠금 - 발급끼리는 서로 기다리지 않고,
+     * 반납의 배타 잠금만 진행 중인 발급이 끝날 때까지 기다린다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT l.id FROM StockLease l WHERE l.id = :id")
+    Optional<Long> findIdForShare(@Param("id") Long id);
+
+    @Query("SELECT l.id FROM StockLease l WHERE l.leasedUntil < :now")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now);
+
+    /**
+     * 아직 반납되지 않은 lease 의 남은 재고 합 (확보한 수 - 해당 lease 로 발급된 user_coupon 수)
+     */
+    @Query("SELECT COALESCE(SUM(l.units - (SELECT COUNT(uc) FROM UserCoupon uc WHERE uc.stockLeaseId = l.id)), 0) "
+            + "FROM StockLease l WHERE l.couponId = :couponId")
+    long sumRemainingUnits(@Param("couponId") Long couponId);
+
+    /**
+     * coupon 별 lease 의 남은 재고 합 - [couponId, sum]
+     */
+    @Query("SELECT l.couponId, SUM(l.units - (SELECT COUNT(uc) FROM UserCoupon uc WHERE uc.stockLeaseId = l.id)) "
+            + "FROM StockLease l WHERE l.couponId IN :couponIds GROUP BY l.couponId")
+    List<Object[]> sumRemainingUnitsByCoupon(@Param("couponIds") Collection<Long> couponIds);
+}
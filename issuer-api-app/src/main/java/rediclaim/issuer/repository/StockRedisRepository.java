@@ -0,0 +1,39 @@
+package rediclaim.issuer.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * gate-app 의 재고 기반 dispatch 상한에 사용되는 남은 재고를 Redis 에 기록한다.
+ *
+ * <ul>
+ *   <li>{@code gate:events} (Set) : gate-app 의 dispatch 대상 event 목록 (읽기 전용)</li>
+ *   <li>{@code gate:stock:{eventId}} (String) : coupons.remaining_count</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockRedisRepository {
+
+    private static final String EVENTS_KEY = "gate:events";
+    private static final String STOCK_KEY_PREFIX = "gate:stock:";
+
+    /** 보고가 멈추면 값이 사라져 gate-app 이 상한 없이 동작하도록 하는 TTL */
+    private static final Duration STOCK_TTL = Duration.ofSeconds(30);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Set<String> eventIds() {
+        return redisTemplate.opsForSet().members(EVENTS_KEY);
+    }
+
+    public void report(Map<Long, Integer> remainingByEvent) {
+        remainingByEvent.forEach((eventId, remaining) -> redisTemplate.opsForValue()
+                .set(STOCK_KEY_PREFIX + "{" + eventId + "}", String.valueOf(remaining), STOCK_TTL));
+    }
+}
@@ -26,4 +26,20 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
             nativeQuery = true
     )
     void insertUserCoupon(@Param("userId") Long userId, @Param("couponId") Long couponId);
+
+    /**
+     * 재고 lease 로 발급한 이력 INSERT - lease 반납 시 {@link #countByStockLeaseId} 로 사용량을 계산한다
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "INSERT INTO user_coupon (user_id, coupon_id, stock_lease_id, created_date_time, modified_date_time) VALUES (:userId, :couponId, :stockLeaseId, NOW(), NOW())",
+            nativeQuery = true
+    )
+    void insertLeasedUserCoupon(@Param("userId") Long userId, @Param("couponId") Long couponId, @Param("stockLeaseId") Long stockLeaseId);
+
+    /**
+     * lease 하나로 발급된 이력 수
+     */
+    long countByStockLeaseId(Long stockLeaseId);
 }
\ No newline at end of file
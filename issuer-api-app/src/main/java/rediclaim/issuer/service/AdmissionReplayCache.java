@@ -0,0 +1,49 @@
+package rediclaim.issuer.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rediclaim.issuer.config.IssuerProperties;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용된 발급 허가 토큰의 결과를 토큰 만료 시각까지 기억한다 (nonce 기준, 인스턴스 로컬).
+ *
+ * <p>같은 토큰으로 다시 요청하면 DB 를 거치지 않고 처음 결과를 그대로 돌려준다.
+ * 동시에 들어온 중복 요청이나 다른 인스턴스로 간 요청은 DB UNIQUE(user_id, coupon_id) 가 막는다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionReplayCache {
+
+    private final IssuerProperties issuerProperties;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(IssueResult result, long expiresAtMs) {
+    }
+
+    public Optional<IssueResult> get(AdmissionToken token) {
+        Entry entry = entries.get(token.nonce());
+        if (entry == null || entry.expiresAtMs() <= System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.result());
+    }
+
+    public void put(AdmissionToken token, IssueResult result) {
+        if (entries.size() >= issuerProperties.getAdmissionReplayCacheSize()) {
+            return;
+        }
+        entries.putIfAbsent(token.nonce(), new Entry(result, token.expiresAtMs()));
+    }
+
+    @Scheduled(fixedDelayString = "${issuer.admission-replay-evict-interval-ms:10000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMs() <= now);
+    }
+}
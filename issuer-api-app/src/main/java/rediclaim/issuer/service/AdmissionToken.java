@@ -0,0 +1,12 @@
+package rediclaim.issuer.service;
+
+/**
+ * gate-app 이 발급한 발급 허가 토큰 (검증 완료된 값)
+ */
+public record AdmissionToken(
+        Long eventId,
+        Long userId,
+        long expiresAtMs,
+        String nonce
+) {
+}
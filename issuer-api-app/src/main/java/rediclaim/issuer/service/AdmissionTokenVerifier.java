@@ -0,0 +1,109 @@
+package rediclaim.issuer.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import rediclaim.issuer.config.IssuerProperties;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * gate-app 발급 허가 토큰 로컬 검증 ({@code issuer.admission-mode=token}).
+ *
+ * <p>형식: {@code {eventId}.{userId}.{expiresAtMs}.{nonce}.{base64url(HMAC-SHA256)}}
+ * (gate-app 의 AdmissionTokenSigner 와 동일)</p>
+ *
+ * <p>서명, 요청 eventId / userId 일치, 만료 시각만 확인하며 Redis 를 조회하지 않는다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionTokenVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final IssuerProperties issuerProperties;
+
+    /** 초기화된 Mac 원본. Mac 은 thread-safe 하지 않으므로 호출마다 복제해서 사용한다. */
+    private Mac prototype;
+
+    @PostConstruct
+    void init() {
+        if (!enabled()) {
+            return;
+        }
+        if (!StringUtils.hasText(issuerProperties.getAdmissionSecret())) {
+            throw new IllegalStateException("issuer.admission-secret must be set when issuer.admission-mode=token");
+        }
+        prototype = newMac();
+    }
+
+    public boolean enabled() {
+        return "token".equalsIgnoreCase(issuerProperties.getAdmissionMode());
+    }
+
+    /**
+     * 서명이 유효하고, 요청과 같은 event / user 이며, 만료되지 않은 경우에만 토큰을 반환한다.
+     */
+    public Optional<AdmissionToken> verify(String token, Long eventId, Long userId) {
+        if (prototype == null || !StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        int sigIndex = token.lastIndexOf('.');
+        if (sigIndex < 0) {
+            return Optional.empty();
+        }
+        String payload = token.substring(0, sigIndex);
+        byte[] expected = signature(payload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(sigIndex + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return Optional.empty();
+        }
+
+        String[] parts = payload.split("\\.");
+        if (parts.length != 4) {
+            return Optional.empty();
+        }
+        try {
+            AdmissionToken admission = new AdmissionToken(
+                    Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]), parts[3]);
+            if (!admission.eventId().equals(eventId) || !admission.userId().equals(userId)
+                    || admission.expiresAtMs() <= System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            return Optional.of(admission);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private String signature(String payload) {
+        byte[] raw = mac().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return newMac();
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(issuerProperties.getAdmissionSecret().getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+        }
+    }
+}
@@ -48,4 +48,4 @@ public class CouponIssueService {
 
         return IssueResult.SUCCESS;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package rediclaim.issuer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import rediclaim.issuer.config.IssuerProperties;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 발급 트랜잭션 동시 실행 수 제한 ({@code issuer.db-max-concurrency}, 0 이면 제한 없음)
+ *
+ * <p>가상 스레드 모드에서는 Tomcat 스레드 수가 동시 요청 수의 상한이 되지 않으므로,
+ * 트랜잭션 시작(커넥션 획득) 전에 여기서 먼저 제한한다. HikariCP 풀 크기와 비슷하게 두면
+ * 초과 요청이 커넥션 대기(connection-timeout)까지 쌓이지 않고 빠르게 503 으로 실패한다.</p>
+ */
+@Component
+public class DbConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Counter rejected;
+
+    public DbConcurrencyLimiter(IssuerProperties issuerProperties, MeterRegistry meterRegistry) {
+        int maxConcurrency = issuerProperties.getDbMaxConcurrency();
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        this.acquireTimeoutMs = issuerProperties.getDbAcquireTimeoutMs();
+        this.rejected = Counter.builder("issuer.db.limiter.rejected").register(meterRegistry);
+
+        if (permits != null) {
+            Gauge.builder("issuer.db.limiter.in.use", permits, p -> maxConcurrency - p.availablePermits())
+                    .register(meterRegistry);
+        }
+    }
+
+    public <T> T call(Supplier<T> action) {
+        if (permits == null) {
+            return action.get();
+        }
+
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new ConcurrencyLimitExceededException("DB concurrency limit exceeded");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for DB permit", e);
+        }
+
+        try {
+            return action.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
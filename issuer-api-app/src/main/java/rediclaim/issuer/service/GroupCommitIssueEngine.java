@@ -0,0 +1,230 @@
+package rediclaim.issuer.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import rediclaim.couponbackend.global.issue.BatchCouponIssuer;
+import rediclaim.couponbackend.global.issue.BatchIssueStatus;
+import rediclaim.issuer.config.IssuerProperties;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * group commit 발급 엔진 ({@code issuer.issue-engine-enabled=true}).
+ *
+ * <p>{@link CouponIssueService} 는 요청마다 트랜잭션을 열어 같은 coupons row 의 lock 을 한 명씩 넘겨받는다.
+ * 이 엔진은 event 별 bounded queue 에 요청을 모으고, event 당 writer 스레드 하나가 최대
+ * {@code issueEngineBatchSize} 건을 한 트랜잭션으로 처리한다.
+ * 묶음 처리 (coupons row 잠금 → 중복 IN 쿼리 → multi-row INSERT → 한 번의 차감) 는 {@link BatchCouponIssuer} 가 담당한다.
+ * coupons row 잠금이 replica 간 writer 를 직렬화한다.</p>
+ *
+ * <p>INSERT 되지 않은 유저는 SUCCESS 가 아니다. 다른 경로가 먼저 발급한 유저는 ALREADY_ISSUED,
+ * 그 외 제약 위반(존재하지 않는 유저 등)은 해당 요청만 예외로 끝난다.</p>
+ *
+ * <p>writer 는 첫 요청이 도착한 뒤 최대 {@code issueEngineMaxWaitMs} 만 더 모으므로 요청 지연은 이 값으로 제한된다.
+ * queue 가 가득 차면 503 으로 거절한다. 같은 묶음의 같은 유저(더블 클릭)는 첫 요청만 발급하고 나머지는 ALREADY_ISSUED.</p>
+ */
+@Slf4j
+@Component
+public class GroupCommitIssueEngine {
+
+    private final BatchCouponIssuer batchCouponIssuer;
+    private final TransactionTemplate transactionTemplate;
+    private final IssuerProperties issuerProperties;
+    private final DistributionSummary batchSize;
+
+    private final Map<Long, Writer> writers = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    public GroupCommitIssueEngine(
+            BatchCouponIssuer batchCouponIssuer,
+            TransactionTemplate transactionTemplate,
+            IssuerProperties issuerProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.batchCouponIssuer = batchCouponIssuer;
+        this.transactionTemplate = transactionTemplate;
+        this.issuerProperties = issuerProperties;
+        this.batchSize = DistributionSummary.builder("issuer.issue.engine.batch.size")
+                .description("group commit 한 번에 처리한 요청 수")
+                .register(meterRegistry);
+    }
+
+    public boolean enabled() {
+        return issuerProperties.isIssueEngineEnabled();
+    }
+
+    /**
+     * 요청을 event queue 에 넣고 결과를 기다린다.
+     *
+     * @throws ConcurrencyLimitExceededException queue 가 가득 찼거나 {@code issueEngineTimeoutMs} 안에 결과가 없는 경우
+     */
+    public IssueResult issue(Long eventId, Long userId) {
+        Request request = new Request(userId, new CompletableFuture<>());
+        enqueue(eventId, request);
+
+        try {
+            return request.result().get(issuerProperties.getIssueEngineTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 이미 처리되었을 수 있음 - 재요청 시 ALREADY_ISSUED
+            throw new ConcurrencyLimitExceededException("Issue engine timed out");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for issue result", e);
+        }
+    }
+
+    private void enqueue(Long eventId, Request request) {
+        while (true) {
+            if (!running) {
+                throw new ConcurrencyLimitExceededException("Issue engine is shutting down");
+            }
+            Writer writer = writers.computeIfAbsent(eventId, Writer::new);
+            if (!writer.queue.offer(request)) {
+                throw new ConcurrencyLimitExceededException("Issue engine queue is full");
+            }
+            // 그 사이 writer 가 종료했으면 요청을 회수해 새 writer 에 넣는다 (회수하지 못했으면 종료 전에 writer 가 처리)
+            if (!writer.retired || !writer.queue.remove(request)) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        writers.values().forEach(writer -> writer.thread.interrupt());
+    }
+
+    /**
+     * 한 묶음을 한 트랜잭션으로 발급한다.
+     *
+     * @return userId -> 결과 (묶음 안의 중복 유저는 한 번만 포함)
+     */
+    Map<Long, BatchIssueStatus> issueBatch(Long couponId, List<Long> userIds) {
+        return transactionTemplate.execute(status -> batchCouponIssuer.issue(couponId, userIds));
+    }
+
+    private record Request(Long userId, CompletableFuture<IssueResult> result) {
+    }
+
+    /**
+     * event 하나의 queue 와 writer 스레드.
+     * {@code issueEngineWriterIdleMs} 동안 요청이 없으면 writers 에서 빠지고 종료한다 (다음 요청이 새 writer 를 만든다).
+     */
+    private final class Writer implements Runnable {
+
+        private final Long eventId;
+        private final BlockingQueue<Request> queue;
+        private final Thread thread;
+        private volatile boolean retired;
+
+        private Writer(Long eventId) {
+            this.eventId = eventId;
+            this.queue = new ArrayBlockingQueue<>(issuerProperties.getIssueEngineQueueCapacity());
+            this.thread = Thread.ofPlatform().name("issue-engine-" + eventId).daemon(true).start(this);
+        }
+
+        @Override
+        public void run() {
+            int maxBatch = issuerProperties.getIssueEngineBatchSize();
+            long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(issuerProperties.getIssueEngineMaxWaitMs());
+            long idleNanos = TimeUnit.MILLISECONDS.toNanos(issuerProperties.getIssueEngineWriterIdleMs());
+            List<Request> batch = new ArrayList<>(maxBatch);
+
+            while (running) {
+                try {
+                    Request first = queue.poll(idleNanos, TimeUnit.NANOSECONDS);
+                    if (first == null) {
+                        break;
+                    }
+                    batch.add(first);
+                    long deadline = System.nanoTime() + maxWaitNanos;
+                    while (batch.size() < maxBatch) {
+                        if (queue.drainTo(batch, maxBatch - batch.size()) > 0) continue;
+                        Request next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                        if (next == null) break;
+                        batch.add(next);
+                    }
+                } catch (InterruptedException e) {
+                    break;
+                }
+
+                commit(batch);
+                batch.clear();
+            }
+
+            // writers 에서 먼저 빼야 retired 를 본 요청이 새 writer 를 만든다
+            writers.remove(eventId, this);
+            retired = true;
+            queue.drainTo(batch);
+
+            if (running) {
+                // 유휴 종료 직전에 들어온 요청은 마저 처리
+                for (int from = 0; from < batch.size(); from += maxBatch) {
+                    commit(batch.subList(from, Math.min(batch.size(), from + maxBatch)));
+                }
+                return;
+            }
+            // 종료 - 처리하지 못한 요청은 503 으로 끝낸다
+            batch.forEach(request -> request.result().completeExceptionally(
+                    new ConcurrencyLimitExceededException("Issue engine is shutting down")));
+        }
+
+        private void commit(List<Request> batch) {
+            batchSize.record(batch.size());
+            try {
+                List<Long> userIds = batch.stream().map(Request::userId).distinct().toList();
+                Map<Long, BatchIssueStatus> results = issueBatch(eventId, userIds);
+
+                Set<Long> answered = new HashSet<>();
+                for (Request request : batch) {
+                    BatchIssueStatus status = results.get(request.userId());
+                    if (status == BatchIssueStatus.FAILED) {
+                        request.result().completeExceptionally(new DataIntegrityViolationException(
+                                "Failed to issue coupon. eventId=" + eventId + " userId=" + request.userId()));
+                        continue;
+                    }
+                    IssueResult result = toIssueResult(status);
+                    // 같은 묶음의 중복 요청 - 첫 요청이 발급받았으면 ALREADY_ISSUED
+                    if (!answered.add(request.userId()) && result == IssueResult.SUCCESS) {
+                        result = IssueResult.ALREADY_ISSUED;
+                    }
+                    request.result().complete(result);
+                }
+            } catch (RuntimeException e) {
+                log.error("Group commit failed. eventId={} size={}", eventId, batch.size(), e);
+                batch.forEach(request -> request.result().completeExceptionally(e));
+            }
+        }
+    }
+
+    private static IssueResult toIssueResult(BatchIssueStatus status) {
+        return switch (status) {
+            case ISSUED -> IssueResult.SUCCESS;
+            case ALREADY_ISSUED -> IssueResult.ALREADY_ISSUED;
+            case OUT_OF_STOCK -> IssueResult.OUT_OF_STOCK;
+            case FAILED -> throw new IllegalArgumentException("FAILED has no issue result");
+        };
+    }
+}
@@ -4,5 +4,7 @@ public enum IssueResult {
     SUCCESS,
     NOT_IN_ACTIVE_QUEUE,
     ALREADY_ISSUED,
-    OUT_OF_STOCK
+    OUT_OF_STOCK,
+    /** 같은 유저의 다른 요청이 발급 처리 중 (admission claim 모드) - 잠시 후 재시도 */
+    IN_PROGRESS
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package rediclaim.issuer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rediclaim.issuer.config.IssuerProperties;
+import rediclaim.issuer.repository.IssuerSignalRedisRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 발급 API 응답 시간 / 에러율 측정 및 보고.
+ *
+ * <p>gate-app 의 {@code DispatchRateController} 가 이 값으로 dispatch 수량을 조절한다.
+ * p99 는 {@code issuer.signal-window-ms} 구간의 Micrometer 분포 통계, 에러율은 직전 보고 이후의
+ * (예외 수 / 요청 수) 이다. 재고 소진 / 중복 발급 같은 업무 결과는 에러가 아니다.</p>
+ */
+@Slf4j
+@Component
+public class IssueSignalReporter {
+
+    private final IssuerSignalRedisRepository issuerSignalRedisRepository;
+    private final IssuerProperties issuerProperties;
+    private final Timer latency;
+    private final Counter requests;
+    private final Counter errors;
+    private final String instanceId;
+
+    private double lastRequests;
+    private double lastErrors;
+
+    public IssueSignalReporter(
+            IssuerSignalRedisRepository issuerSignalRedisRepository,
+            IssuerProperties issuerProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.issuerSignalRedisRepository = issuerSignalRedisRepository;
+        this.issuerProperties = issuerProperties;
+        this.latency = Timer.builder("issuer.issue.latency")
+                .publishPercentiles(0.99)
+                .distributionStatisticExpiry(Duration.ofMillis(issuerProperties.getSignalWindowMs()))
+                .register(meterRegistry);
+        this.requests = Counter.builder("issuer.issue.requests").register(meterRegistry);
+        this.errors = Counter.builder("issuer.issue.errors").register(meterRegistry);
+        this.instanceId = Optional.ofNullable(System.getenv("HOSTNAME")).orElseGet(() -> UUID.randomUUID().toString());
+    }
+
+    /**
+     * 발급 요청 하나를 측정한다. 예외는 에러로 집계한 뒤 그대로 전파한다.
+     */
+    public <T> T record(Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            errors.increment();
+            throw e;
+        } finally {
+            requests.increment();
+            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${issuer.signal-report-interval-ms:1000}")
+    public void report() {
+        if (!issuerProperties.isSignalReportEnabled()) {
+            return;
+        }
+
+        double totalRequests = requests.count();
+        double totalErrors = errors.count();
+        double deltaRequests = totalRequests - lastRequests;
+        double errorRate = deltaRequests > 0 ? (totalErrors - lastErrors) / deltaRequests : 0;
+        lastRequests = totalRequests;
+        lastErrors = totalErrors;
+
+        try {
+            issuerSignalRedisRepository.report(instanceId, p99Ms(), errorRate, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("Failed to report issuer signals : {}", e.getMessage());
+        }
+    }
+
+    private double p99Ms() {
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.99) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,11 @@
+package rediclaim.issuer.service;
+
+/**
+ * 발급에 사용하려던 lease 가 이미 만료되어 반납된 경우 - 새 lease 로 다시 시도한다.
+ */
+public class StockLeaseExpiredException extends RuntimeException {
+
+    public StockLeaseExpiredException(Long leaseId) {
+        super("Stock lease " + leaseId + " is no longer held");
+    }
+}
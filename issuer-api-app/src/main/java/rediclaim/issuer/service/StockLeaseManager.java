@@ -0,0 +1,326 @@
+package rediclaim.issuer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rediclaim.couponbackend.global.soldout.SoldOutLatch;
+import rediclaim.issuer.config.IssuerProperties;
+import rediclaim.issuer.domain.StockLease;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 재고 lease 발급 ({@code issuer.stock-lease-enabled=true}).
+ *
+ * <p>replica 를 늘려도 모두 같은 coupons row 를 차감하면 처리량이 늘지 않는다. 이 모드에서는 replica 가
+ * coupons row 에서 재고를 블록 단위로 한 번에 확보(lease)해 {@code coupon_stock_lease} row 로 기록하고,
+ * 발급 트랜잭션은 lease id 를 기록한 user_coupon 만 INSERT 하고, 사용량은 메모리({@link Grant})에서 센다.
+ * coupons row 경합은 쿠폰당 한 번에서 블록당 한 번으로 줄고, 발급마다 갱신되는 공유 row 는 없다.</p>
+ *
+ * <ul>
+ *   <li>블록 크기 : 직전 lease 이후 관측한 발급 속도로 {@code issuer.stock-lease-target-ms} 동안 쓸 만큼
+ *       ({@code stockLeaseMinBlock} ~ {@code stockLeaseMaxBlock})</li>
+ *   <li>만료 : lease 는 {@code leased_until} 까지 유효하며 소유 replica 가 주기적으로 연장한다.
+ *       replica 가 비정상 종료하면 만료된 lease 를 다른 replica 가 coupons row 에 반납한다.</li>
+ *   <li>반납 : 새 블록을 받을 때 이전 lease, {@code issuer.stock-lease-idle-ms} 동안 쓰이지 않은 lease,
+ *       종료 시 남은 lease 는 coupons row 에 되돌린다.</li>
+ *   <li>ALREADY_ISSUED / 발급 실패로 쓰지 않은 재고는 로컬 lease 에 되돌린다 (user_coupon 은 트랜잭션 롤백으로 남지 않음).</li>
+ *   <li>정산 : 반납 / 회수 시 lease 로 발급된 user_coupon 수를 세어 남은 수만 coupons row 에 되돌린다.
+ *       비정상 종료로 메모리의 사용량을 잃어도 DB 기준으로 정산된다.</li>
+ * </ul>
+ *
+ * <p>반납 / 회수된 lease 로 발급하려 하면 {@link StockLeaseExpiredException} 이 발생하고 새 lease 로 다시 시도한다.</p>
+ *
+ * <p>새 블록을 받지 못했고 어떤 replica 에도 lease 가 남아 있지 않을 때만 품절 신호를 보낸다.</p>
+ */
+@Slf4j
+@Component
+public class StockLeaseManager {
+
+    private final StockLeaseService stockLeaseService;
+    private final SoldOutLatch soldOutLatch;
+    private final IssuerProperties issuerProperties;
+    private final String holder;
+    private final Counter leases;
+    private final Counter returned;
+    private final Counter reclaimed;
+
+    private final Map<Long, Lease> leasesByEvent = new ConcurrentHashMap<>();
+
+    public StockLeaseManager(
+            StockLeaseService stockLeaseService,
+            SoldOutLatch soldOutLatch,
+            IssuerProperties issuerProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.stockLeaseService = stockLeaseService;
+        this.soldOutLatch = soldOutLatch;
+        this.issuerProperties = issuerProperties;
+        this.holder = Optional.ofNullable(System.getenv("HOSTNAME")).orElse("issuer")
+                + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.leases = Counter.builder("issuer.stock.lease")
+                .description("coupons row 에서 재고를 확보한 횟수")
+                .register(meterRegistry);
+        this.returned = Counter.builder("issuer.stock.lease.returned")
+                .description("coupons row 에 반납한 재고 수")
+                .register(meterRegistry);
+        this.reclaimed = Counter.builder("issuer.stock.lease.reclaimed")
+                .description("만료된 lease 에서 회수한 재고 수")
+                .register(meterRegistry);
+    }
+
+    public boolean enabled() {
+        return issuerProperties.isStockLeaseEnabled();
+    }
+
+    /**
+     * lease 재고 한 개를 사용해 발급한다. 재고를 확보하지 못하면 OUT_OF_STOCK.
+     */
+    public IssueResult issue(Long eventId, Long userId) {
+        Lease lease = leasesByEvent.computeIfAbsent(eventId, id -> new Lease());
+        while (true) {
+            Grant grant = acquire(eventId, lease);
+            if (grant == null) {
+                return IssueResult.OUT_OF_STOCK;
+            }
+
+            IssueResult result;
+            try {
+                result = stockLeaseService.issue(grant.leaseId, eventId, userId);
+            } catch (StockLeaseExpiredException e) {
+                // 만료 회수 / 반납된 lease - 새 lease 로 다시 시도
+                lease.drop(grant);
+                continue;
+            } catch (RuntimeException e) {
+                grant.refund();
+                throw e;
+            }
+            if (result != IssueResult.SUCCESS) {
+                grant.refund();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * lease 연장 / 유휴 lease 반납 / 다른 replica 의 만료 lease 회수
+     */
+    @Scheduled(fixedDelayString = "${issuer.stock-lease-renew-interval-ms:5000}")
+    public void maintain() {
+        if (!enabled()) {
+            return;
+        }
+        long idleBefore = System.currentTimeMillis() - issuerProperties.getStockLeaseIdleMs();
+        leasesByEvent.forEach((eventId, lease) -> {
+            if (lease.lastUsedAt < idleBefore) {
+                giveBack(eventId, lease);
+            }
+        });
+        renew();
+        reclaimExpired();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        leasesByEvent.forEach(this::giveBack);
+    }
+
+    private Grant acquire(Long eventId, Lease lease) {
+        while (true) {
+            Grant taken = lease.tryTake(System.currentTimeMillis());
+            if (taken != null) {
+                return taken;
+            }
+
+            lease.refillLock.lock();
+            try {
+                // 다른 스레드가 먼저 채웠으면 다시 시도
+                Grant current = lease.current;
+                if (current != null && current.available.get() > 0) {
+                    continue;
+                }
+                // 다 쓴 lease 는 먼저 정리 (refund 로 남은 재고가 있으면 coupons row 로 돌아감)
+                if (current != null) {
+                    returnLease(eventId, current);
+                    lease.current = null;
+                }
+
+                long now = System.currentTimeMillis();
+                Optional<StockLease> leased = stockLeaseService.lease(
+                        eventId, holder, lease.nextBlockSize(issuerProperties, now), leasedUntil());
+                if (leased.isEmpty()) {
+                    if (stockLeaseService.outstanding(eventId) == 0) {
+                        soldOutLatch.markSoldOut(eventId);
+                    }
+                    return null;
+                }
+                leases.increment();
+                lease.current = new Grant(leased.get().getId(), leased.get().getUnits());
+            } finally {
+                lease.refillLock.unlock();
+            }
+        }
+    }
+
+    private void giveBack(Long eventId, Lease lease) {
+        lease.refillLock.lock();
+        try {
+            Grant current = lease.current;
+            if (current == null) {
+                return;
+            }
+            try {
+                returnLease(eventId, current);
+                lease.current = null;
+            } catch (RuntimeException e) {
+                // 반납 실패 시 다음 주기에 재시도 (그 사이 만료되면 다른 replica 가 회수)
+                log.warn("Failed to return stock lease. eventId={} leaseId={} : {}", eventId, current.leaseId, e.getMessage());
+            }
+        } finally {
+            lease.refillLock.unlock();
+        }
+    }
+
+    private void returnLease(Long eventId, Grant grant) {
+        grant.available.set(0);
+        int units = stockLeaseService.returnLease(grant.leaseId, null);
+        if (units > 0) {
+            returned.increment(units);
+            log.info("Returned {} leased units. eventId={} leaseId={}", units, eventId, grant.leaseId);
+        }
+    }
+
+    private void renew() {
+        List<Long> leaseIds = new ArrayList<>();
+        leasesByEvent.values().forEach(lease -> {
+            Grant current = lease.current;
+            if (current != null) {
+                leaseIds.add(current.leaseId);
+            }
+        });
+        try {
+            stockLeaseService.renew(leaseIds, leasedUntil());
+        } catch (Exception e) {
+            log.warn("Failed to renew stock leases {} : {}", leaseIds, e.getMessage());
+        }
+    }
+
+    private void reclaimExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (Long leaseId : stockLeaseService.expiredLeaseIds(now)) {
+                int units = stockLeaseService.returnLease(leaseId, now);
+                if (units > 0) {
+                    reclaimed.increment(units);
+                    log.info("Reclaimed {} units from expired stock lease {}", units, leaseId);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to reclaim expired stock leases : {}", e.getMessage());
+        }
+    }
+
+    private LocalDateTime leasedUntil() {
+        return LocalDateTime.now().plus(Duration.ofMillis(issuerProperties.getStockLeaseTtlMs()));
+    }
+
+    /**
+     * event 하나의 lease 상태
+     */
+    static final class Lease {
+
+        final ReentrantLock refillLock = new ReentrantLock();
+        private final AtomicInteger usedSinceLease = new AtomicInteger();
+        volatile Grant current;
+        volatile long lastUsedAt = System.currentTimeMillis();
+        private long leasedAt;
+
+        /**
+         * 현재 lease 에서 한 개를 꺼낸다.
+         *
+         * @return 꺼낸 lease (남은 재고가 없으면 null)
+         */
+        Grant tryTake(long now) {
+            Grant grant = current;
+            if (grant == null || !grant.tryTake()) {
+                return null;
+            }
+            usedSinceLease.incrementAndGet();
+            lastUsedAt = now;
+            return grant;
+        }
+
+        /**
+         * 더 이상 유효하지 않은 lease 를 버린다 (다른 스레드가 이미 교체했으면 무시)
+         */
+        void drop(Grant grant) {
+            refillLock.lock();
+            try {
+                grant.available.set(0);
+                if (current == grant) {
+                    current = null;
+                }
+            } finally {
+                refillLock.unlock();
+            }
+        }
+
+        /**
+         * 직전 lease 이후 발급 속도 기준으로 다음 블록 크기 결정 (refillLock 보유 상태에서 호출)
+         */
+        int nextBlockSize(IssuerProperties properties, long now) {
+            int min = properties.getStockLeaseMinBlock();
+            int max = properties.getStockLeaseMaxBlock();
+
+            int block = min;
+            if (leasedAt > 0) {
+                double perMs = usedSinceLease.get() / (double) Math.max(1, now - leasedAt);
+                block = (int) Math.round(perMs * properties.getStockLeaseTargetMs());
+            }
+            leasedAt = now;
+            usedSinceLease.set(0);
+            return Math.max(min, Math.min(max, block));
+        }
+    }
+
+    /**
+     * lease row 하나의 로컬 남은 수
+     */
+    static final class Grant {
+
+        final Long leaseId;
+        final AtomicInteger available;
+
+        Grant(Long leaseId, int units) {
+            this.leaseId = leaseId;
+            this.available = new AtomicInteger(units);
+        }
+
+        boolean tryTake() {
+            int current;
+            do {
+                current = available.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!available.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        void refund() {
+            available.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package rediclaim.issuer.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rediclaim.issuer.domain.StockLease;
+import rediclaim.issuer.repository.CouponRepository;
+import rediclaim.issuer.repository.StockLeaseRepository;
+import rediclaim.issuer.repository.UserCouponRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 재고 lease 의 DB 작업 ({@link StockLeaseManager} 가 호출).
+ *
+ * <p>lock 순서는 항상 lease row → coupons row 이거나 coupons row 단독이다 (새 lease 는 INSERT 이므로 기존 lease 를 잠그지 않음).</p>
+ *
+ * <p>발급은 lease row 를 수정하지 않는다. 사용량은 {@link StockLeaseManager} 메모리에서 세고,
+ * 반납 시 lease id 가 기록된 user_coupon 수로 정산한다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class StockLeaseService {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final StockLeaseRepository stockLeaseRepository;
+
+    /**
+     * coupons row 에서 재고를 최대 blockSize 만큼 확보하고 lease 로 기록한다.
+     *
+     * @return 확보한 lease (재고가 없으면 empty)
+     */
+    @Transactional
+    public Optional<StockLease> lease(Long couponId, String holder, int blockSize, LocalDateTime leasedUntil) {
+        int remaining = couponRepository.findRemainingCountForUpdate(couponId).orElse(0);
+        int granted = Math.min(remaining, blockSize);
+        if (granted <= 0) {
+            return Optional.empty();
+        }
+        couponRepository.decrementBy(couponId, granted);
+        return Optional.of(stockLeaseRepository.save(new StockLease(couponId, holder, granted, leasedUntil)));
+    }
+
+    /**
+     * lease 재고 한 개로 발급한다. coupons row 와 lease row 를 수정하지 않고 user_coupon 만 INSERT 한다.
+     *
+     * <p>lease row 는 공유 잠금으로 존재만 확인한다. 발급끼리는 서로 기다리지 않고,
+     * 반납({@link #returnLease})은 진행 중인 발급이 끝난 뒤 사용량을 센다.</p>
+     *
+     * @throws StockLeaseExpiredException lease 가 만료되어 반납된 경우
+     */
+    @Transactional
+    public IssueResult issue(Long leaseId, Long couponId, Long userId) {
+        if (userCouponRepository.existsByUser_IdAndCoupon_Id(userId, couponId)) {
+            return IssueResult.ALREADY_ISSUED;
+        }
+        if (stockLeaseRepository.findIdForShare(leaseId).isEmpty()) {
+            throw new StockLeaseExpiredException(leaseId);
+        }
+        userCouponRepository.insertLeasedUserCoupon(userId, couponId, leaseId);
+        return IssueResult.SUCCESS;
+    }
+
+    /**
+     * lease 의 남은 재고(확보한 수 - 이 lease 로 발급된 user_coupon 수)를 coupons row 에 돌려주고 lease 를 삭제한다.
+     *
+     * @param expiredBefore null 이 아니면 이 시각 이전에 만료된 lease 만 반납 (다른 replica 의 lease 회수용)
+     * @return 반납한 재고 수
+     */
+    @Transactional
+    public int returnLease(Long leaseId, LocalDateTime expiredBefore) {
+        Optional<StockLease> lease = stockLeaseRepository.findByIdForUpdate(leaseId);
+        if (lease.isEmpty()) {
+            return 0;
+        }
+        if (expiredBefore != null && !lease.get().getLeasedUntil().isBefore(expiredBefore)) {
+            return 0;
+        }
+        int units = lease.get().getUnits() - (int) userCouponRepository.countByStockLeaseId(leaseId);
+        if (units > 0) {
+            couponRepository.incrementBy(lease.get().getCouponId(), units);
+        }
+        stockLeaseRepository.delete(lease.get());
+        return units;
+    }
+
+    @Transactional
+    public void renew(Collection<Long> leaseIds, LocalDateTime leasedUntil) {
+        if (!leaseIds.isEmpty()) {
+            stockLeaseRepository.renew(leaseIds, leasedUntil);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> expiredLeaseIds(LocalDateTime now) {
+        return stockLeaseRepository.findExpiredIds(now);
+    }
+
+    /**
+     * 모든 replica 가 아직 보유 중인 lease 재고 합
+     */
+    @Transactional(readOnly = true)
+    public long outstanding(Long couponId) {
+        return stockLeaseRepository.sumRemainingUnits(couponId);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Long> outstandingByCoupon(Collection<Long> couponIds) {
+        Map<Long, Long> outstanding = new HashMap<>();
+        if (couponIds.isEmpty()) {
+            return outstanding;
+        }
+        for (Object[] row : stockLeaseRepository.sumRemainingUnitsByCoupon(couponIds)) {
+            outstanding.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return outstanding;
+    }
+}
@@ -0,0 +1,61 @@
+package rediclaim.issuer.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rediclaim.issuer.config.IssuerProperties;
+import rediclaim.issuer.domain.Coupon;
+import rediclaim.issuer.repository.CouponRepository;
+import rediclaim.issuer.repository.StockRedisRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * gate-app dispatch 대상 event 의 남은 재고를 coupons 테이블에서 읽어 주기적으로 보고한다
+ * ({@code issuer.stock-report-enabled=true}).
+ *
+ * <p>gate-app 의 {@code StockBudget} 이 이 값으로 입장 인원 상한을 정한다. 모든 replica 가 보고해도
+ * 같은 DB 값을 쓰므로 문제없다. eventId = couponId (1:1 매핑 정책).</p>
+ *
+ * <p>재고 lease 모드에서는 replica 들이 lease 로 확보해 두고 아직 쓰지 않은 재고도 남은 재고에 포함한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReporter {
+
+    private final StockRedisRepository stockRedisRepository;
+    private final CouponRepository couponRepository;
+    private final StockLeaseService stockLeaseService;
+    private final IssuerProperties issuerProperties;
+
+    @Scheduled(fixedDelayString = "${issuer.stock-report-interval-ms:1000}")
+    public void report() {
+        if (!issuerProperties.isStockReportEnabled()) {
+            return;
+        }
+
+        try {
+            Set<String> eventIds = stockRedisRepository.eventIds();
+            if (eventIds == null || eventIds.isEmpty()) {
+                return;
+            }
+
+            List<Coupon> coupons = couponRepository.findAllById(eventIds.stream().map(Long::valueOf).toList());
+            Map<Long, Long> leased = issuerProperties.isStockLeaseEnabled()
+                    ? stockLeaseService.outstandingByCoupon(coupons.stream().map(Coupon::getId).toList())
+                    : Map.of();
+            Map<Long, Integer> remaining = new LinkedHashMap<>(coupons.size());
+            coupons.forEach(coupon -> remaining.put(coupon.getId(),
+                    coupon.getRemainingCount() + leased.getOrDefault(coupon.getId(), 0L).intValue()));
+
+            stockRedisRepository.report(remaining);
+        } catch (Exception e) {
+            log.warn("Failed to report remaining stock : {}", e.getMessage());
+        }
+    }
+}
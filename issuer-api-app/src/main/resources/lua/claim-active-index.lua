@@ -0,0 +1,42 @@
+--[[
+  Active Index 발급 권한 선점 (index 모드)
+
+  KEYS[1] : gate:active:index:{eventId}  — Active Index ZSet (score = 만료 시각 ms)
+  KEYS[2] : gate:active:claim:{eventId}  — 선점 상태 Hash (field = userId)
+  ARGV[1] : userId
+  ARGV[2] : 현재 시각 (ms)
+  ARGV[3] : 선점 만료 시간 (ms) — 이보다 오래된 선점은 비정상 종료로 보고 다시 선점한다
+
+  선점 상태 값은 "CLAIMED:{선점 시각}" 또는 발급 결과이며,
+  Hash 는 가장 늦게 만료되는 권한의 만료 시각까지 유지된다.
+
+  반환값: ACQUIRED / NOT_IN_ACTIVE_QUEUE / IN_PROGRESS / 저장된 결과
+--]]
+
+local expireAt = redis.call('ZSCORE', KEYS[1], ARGV[1])
+local now = tonumber(ARGV[2])
+
+if not expireAt or tonumber(expireAt) <= now then
+    return 'NOT_IN_ACTIVE_QUEUE'
+end
+
+local value = redis.call('HGET', KEYS[2], ARGV[1])
+
+if value and string.sub(value, 1, 7) == 'CLAIMED' then
+    -- 선점 시각이 없는 "CLAIMED" 는 이전 버전의 선점 (만료까지 발급 중)
+    local claimedAt = tonumber(string.match(value, '^CLAIMED:(%d+)$'))
+    if not claimedAt or now - claimedAt < tonumber(ARGV[3]) then
+        return 'IN_PROGRESS'
+    end
+elseif value then
+    return value
+end
+
+redis.call('HSET', KEYS[2], ARGV[1], 'CLAIMED:' .. ARGV[2])
+
+local remaining = math.ceil(tonumber(expireAt) - now)
+if redis.call('PTTL', KEYS[2]) < remaining then
+    redis.call('PEXPIRE', KEYS[2], remaining)
+end
+
+return 'ACQUIRED'
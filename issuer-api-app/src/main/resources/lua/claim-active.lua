@@ -0,0 +1,35 @@
+--[[
+  Active Key 발급 권한 선점 (keys 모드)
+
+  KEYS[1] : gate:active:{eventId}:{userId}  — gate-app 이 SET EX 로 생성 (값 "1")
+  ARGV[1] : 현재 시각 (ms)
+  ARGV[2] : 선점 만료 시간 (ms) — 이보다 오래된 선점은 비정상 종료로 보고 다시 선점한다
+
+  값 전이 (TTL 은 유지)
+    "1"                → "CLAIMED:{선점 시각}" : 이번 요청이 권한을 선점, DB 발급 진행
+    "CLAIMED:{선점 시각}"                      : 다른 요청이 발급 중 (만료되었으면 다시 선점)
+    "CLAIMED"                                  : 선점 시각을 기록하지 않던 이전 버전의 선점 (TTL 까지 발급 중)
+    그 외                                      : 이미 끝난 발급의 결과 (IssueResult 이름)
+
+  반환값: ACQUIRED / NOT_IN_ACTIVE_QUEUE / IN_PROGRESS / 저장된 결과
+--]]
+
+local value = redis.call('GET', KEYS[1])
+
+if not value then
+    return 'NOT_IN_ACTIVE_QUEUE'
+end
+
+local now = tonumber(ARGV[1])
+
+if value ~= '1' and string.sub(value, 1, 7) == 'CLAIMED' then
+    local claimedAt = tonumber(string.match(value, '^CLAIMED:(%d+)$'))
+    if not claimedAt or now - claimedAt < tonumber(ARGV[2]) then
+        return 'IN_PROGRESS'
+    end
+elseif value ~= '1' then
+    return value
+end
+
+redis.call('SET', KEYS[1], 'CLAIMED:' .. ARGV[1], 'KEEPTTL')
+return 'ACQUIRED'
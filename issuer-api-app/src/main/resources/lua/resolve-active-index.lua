@@ -0,0 +1,21 @@
+--[[
+  선점한 발급 권한의 결과 기록 / 반납 (index 모드)
+
+  KEYS[1] : gate:active:claim:{eventId}  — 선점 상태 Hash
+  ARGV[1] : userId
+  ARGV[2] : 기록할 발급 결과 (IssueResult 이름), 빈 문자열이면 반납 (field 삭제)
+
+  반환값: 1 (변경) / 0 (변경 없음)
+--]]
+
+local value = redis.call('HGET', KEYS[1], ARGV[1])
+if not value or string.sub(value, 1, 7) ~= 'CLAIMED' then
+    return 0
+end
+
+if ARGV[2] == '' then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+else
+    redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+end
+return 1
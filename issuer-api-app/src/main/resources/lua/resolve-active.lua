@@ -0,0 +1,21 @@
+--[[
+  선점한 발급 권한의 결과 기록 / 반납 (keys 모드)
+
+  KEYS[1] : gate:active:{eventId}:{userId}
+  ARGV[1] : 기록할 값 — 발급 결과 (IssueResult 이름) 또는 반납 시 "1"
+
+  선점 상태("CLAIMED:{선점 시각}")일 때만 TTL 을 유지한 채 값을 바꾼다.
+  그 사이 만료되었거나 gate-app 이 다시 발급한 키는 건드리지 않는다.
+  선점 만료 후 다른 요청이 다시 선점했다면 그 선점에 먼저 끝난 쪽의 결과가 기록된다
+  (중복 발급은 DB UNIQUE 가 막으므로 늦게 끝난 쪽은 ALREADY_ISSUED).
+
+  반환값: 1 (변경) / 0 (변경 없음)
+--]]
+
+local value = redis.call('GET', KEYS[1])
+if not value or string.sub(value, 1, 7) ~= 'CLAIMED' then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[1], 'KEEPTTL')
+return 1
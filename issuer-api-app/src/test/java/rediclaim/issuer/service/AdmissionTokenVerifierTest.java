@@ -0,0 +1,72 @@
+package rediclaim.issuer.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rediclaim.issuer.config.IssuerProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdmissionTokenVerifier 단위 테스트
+ * - gate-app AdmissionTokenSignerTest 의 고정 secret / 토큰으로 두 모듈의 형식 호환을 검증
+ */
+@DisplayName("발급 허가 토큰 검증 단위 테스트")
+class AdmissionTokenVerifierTest {
+
+    /** gate-app AdmissionTokenSignerTest 와 같은 값 - 한쪽을 바꾸면 다른 쪽도 바꿔야 한다 */
+    private static final String SECRET = "test-admission-secret";
+    private static final String TOKEN = "1001.42.4102444800000.1a2b3c4d.-9Xf8kwSQXIpNJbjVkTx6yfO3KXb0tqUIiHisJJAYlQ";
+
+    private AdmissionTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        IssuerProperties issuerProperties = new IssuerProperties();
+        issuerProperties.setAdmissionMode("token");
+        issuerProperties.setAdmissionSecret(SECRET);
+
+        verifier = new AdmissionTokenVerifier(issuerProperties);
+        verifier.init();
+    }
+
+    @Test
+    @DisplayName("gate-app 이 서명한 토큰을 검증한다")
+    void testVerifyGateToken() {
+        // when & then
+        assertThat(verifier.verify(TOKEN, 1001L, 42L))
+                .contains(new AdmissionToken(1001L, 42L, 4102444800000L, "1a2b3c4d"));
+    }
+
+    @Test
+    @DisplayName("다른 event / user 의 요청에는 쓸 수 없다")
+    void testOtherEventOrUser() {
+        // when & then
+        assertThat(verifier.verify(TOKEN, 1002L, 42L)).isEmpty();
+        assertThat(verifier.verify(TOKEN, 1001L, 43L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("payload 를 변조하면 검증에 실패한다")
+    void testTamperedToken() {
+        // given
+        String tampered = TOKEN.replaceFirst("^1001\\.42\\.", "1001.43.");
+
+        // when & then
+        assertThat(verifier.verify(tampered, 1001L, 43L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("secret 이 다르면 검증에 실패한다")
+    void testWrongSecret() {
+        // given
+        IssuerProperties other = new IssuerProperties();
+        other.setAdmissionMode("token");
+        other.setAdmissionSecret("other-secret");
+        AdmissionTokenVerifier otherVerifier = new AdmissionTokenVerifier(other);
+        otherVerifier.init();
+
+        // when & then
+        assertThat(otherVerifier.verify(TOKEN, 1001L, 42L)).isEmpty();
+    }
+}
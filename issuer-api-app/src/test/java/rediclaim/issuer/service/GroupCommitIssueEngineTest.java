@@ -0,0 +1,224 @@
+package rediclaim.issuer.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import rediclaim.couponbackend.global.issue.BatchCouponIssuer;
+import rediclaim.couponbackend.global.issue.BatchIssueStatus;
+import rediclaim.issuer.config.IssuerProperties;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * GroupCommitIssueEngine 단위 테스트
+ * - BatchCouponIssuer 를 Mock 으로 처리하여 묶음 구성 / 결과 전달 / writer 수명만 검증
+ */
+@DisplayName("Group Commit 발급 엔진 단위 테스트")
+class GroupCommitIssueEngineTest {
+
+    private static final Long EVENT_ID = 1001L;
+
+    private final BatchCouponIssuer batchCouponIssuer = mock(BatchCouponIssuer.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final IssuerProperties issuerProperties = new IssuerProperties();
+    private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+    private final ExecutorService pool = Executors.newFixedThreadPool(10);
+    private GroupCommitIssueEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        issuerProperties.setIssueEngineEnabled(true);
+        issuerProperties.setIssueEngineBatchSize(100);
+        issuerProperties.setIssueEngineMaxWaitMs(200);
+        issuerProperties.setIssueEngineTimeoutMs(3000);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        // 기본 - 모두 발급
+        when(batchCouponIssuer.issue(eq(EVENT_ID), anyList())).thenAnswer(invocation -> {
+            List<Long> userIds = invocation.getArgument(1);
+            batches.add(userIds);
+            return userIds.stream().collect(Collectors.toMap(id -> id, id -> BatchIssueStatus.ISSUED));
+        });
+
+        engine = new GroupCommitIssueEngine(batchCouponIssuer, transactionTemplate, issuerProperties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("maxWait 안에 도착한 요청은 한 트랜잭션으로 묶인다")
+    void testBatching() {
+        // when
+        List<CompletableFuture<IssueResult>> futures = issueConcurrently(1L, 2L, 3L, 4L, 5L);
+
+        // then
+        assertThat(futures).allSatisfy(f -> assertThat(f.join()).isEqualTo(IssueResult.SUCCESS));
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("묶음 크기는 issueEngineBatchSize 를 넘지 않는다")
+    void testBatchSizeClamp() {
+        // given
+        issuerProperties.setIssueEngineBatchSize(3);
+
+        // when
+        List<CompletableFuture<IssueResult>> futures = issueConcurrently(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+
+        // then
+        assertThat(futures).allSatisfy(f -> assertThat(f.join()).isEqualTo(IssueResult.SUCCESS));
+        assertThat(batches).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(3));
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 묶음의 같은 유저는 한 번만 발급하고 나머지 요청은 ALREADY_ISSUED")
+    void testSameUserDedupe() {
+        // when
+        List<CompletableFuture<IssueResult>> futures = issueConcurrently(1L, 1L, 1L);
+
+        // then
+        List<IssueResult> results = futures.stream().map(CompletableFuture::join).toList();
+        assertThat(results).containsExactlyInAnyOrder(
+                IssueResult.SUCCESS, IssueResult.ALREADY_ISSUED, IssueResult.ALREADY_ISSUED);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("INSERT 되지 않은 유저는 SUCCESS 를 받지 않는다")
+    void testNonInsertedUsers() {
+        // given
+        when(batchCouponIssuer.issue(eq(EVENT_ID), anyList())).thenReturn(Map.of(
+                1L, BatchIssueStatus.ISSUED,
+                2L, BatchIssueStatus.ALREADY_ISSUED,
+                3L, BatchIssueStatus.OUT_OF_STOCK,
+                4L, BatchIssueStatus.FAILED));
+
+        // when
+        List<CompletableFuture<IssueResult>> futures = issueConcurrently(1L, 2L, 3L, 4L);
+
+        // then
+        assertThat(futures.get(0).join()).isEqualTo(IssueResult.SUCCESS);
+        assertThat(futures.get(1).join()).isEqualTo(IssueResult.ALREADY_ISSUED);
+        assertThat(futures.get(2).join()).isEqualTo(IssueResult.OUT_OF_STOCK);
+        assertThatThrownBy(futures.get(3)::join).hasCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("issueEngineTimeoutMs 안에 결과가 없으면 503 예외")
+    void testTimeout() {
+        // given
+        issuerProperties.setIssueEngineTimeoutMs(100);
+        issuerProperties.setIssueEngineMaxWaitMs(0);
+        CountDownLatch release = blockBatches();
+
+        // when & then
+        assertThatThrownBy(() -> engine.issue(EVENT_ID, 1L)).isInstanceOf(ConcurrencyLimitExceededException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 요청은 503 으로 끝나고, 이후 요청은 writer 를 만들지 않는다")
+    void testShutdown() throws Exception {
+        // given - 첫 묶음이 처리 중인 동안 두 번째 요청이 queue 에서 대기
+        issuerProperties.setIssueEngineMaxWaitMs(0);
+        blockBatches();
+        CompletableFuture<IssueResult> first = CompletableFuture.supplyAsync(() -> engine.issue(EVENT_ID, 1L), pool);
+        waitUntil(() -> !batches.isEmpty());
+        CompletableFuture<IssueResult> second = CompletableFuture.supplyAsync(() -> engine.issue(EVENT_ID, 2L), pool);
+        Thread.sleep(100);
+
+        // when
+        engine.shutdown();
+
+        // then
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(IssueResult.SUCCESS);
+        assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThatThrownBy(() -> engine.issue(2002L, 1L)).isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(writers()).doesNotContainKey(2002L);
+    }
+
+    @Test
+    @DisplayName("유휴 writer 는 종료되어 writers 에서 빠지고, 다음 요청은 새 writer 가 처리한다")
+    void testIdleWriterReaped() throws Exception {
+        // given
+        issuerProperties.setIssueEngineMaxWaitMs(0);
+        issuerProperties.setIssueEngineWriterIdleMs(50);
+        assertThat(engine.issue(EVENT_ID, 1L)).isEqualTo(IssueResult.SUCCESS);
+
+        // when
+        waitUntil(() -> writers().isEmpty());
+
+        // then
+        assertThat(engine.issue(EVENT_ID, 2L)).isEqualTo(IssueResult.SUCCESS);
+        assertThat(batches).hasSize(2);
+    }
+
+    private List<CompletableFuture<IssueResult>> issueConcurrently(Long... userIds) {
+        return IntStream.range(0, userIds.length)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> engine.issue(EVENT_ID, userIds[i]), pool))
+                .toList();
+    }
+
+    /**
+     * 반환된 latch 가 풀릴 때까지 (또는 writer 가 interrupt 될 때까지) 묶음 처리를 멈춘다
+     */
+    private CountDownLatch blockBatches() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(batchCouponIssuer.issue(eq(EVENT_ID), anyList())).thenAnswer(invocation -> {
+            List<Long> userIds = invocation.getArgument(1);
+            batches.add(userIds);
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return userIds.stream().collect(Collectors.toMap(id -> id, id -> BatchIssueStatus.ISSUED));
+        });
+        return release;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ?> writers() {
+        return (Map<Long, ?>) ReflectionTestUtils.getField(engine, "writers");
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
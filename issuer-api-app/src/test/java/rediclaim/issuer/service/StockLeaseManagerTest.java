@@ -0,0 +1,205 @@
+package rediclaim.issuer.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import rediclaim.couponbackend.global.soldout.SoldOutLatch;
+import rediclaim.issuer.config.IssuerProperties;
+import rediclaim.issuer.domain.StockLease;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * StockLeaseManager 단위 테스트
+ * - StockLeaseService 를 Mock 으로 처리하여 lease 확보 / 반환 흐름만 검증
+ */
+@DisplayName("재고 lease 단위 테스트")
+class StockLeaseManagerTest {
+
+    private static final Long EVENT_ID = 1001L;
+
+    private final StockLeaseService stockLeaseService = mock(StockLeaseService.class);
+    private final SoldOutLatch soldOutLatch = mock(SoldOutLatch.class);
+    private final IssuerProperties issuerProperties = new IssuerProperties();
+    private StockLeaseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        issuerProperties.setStockLeaseEnabled(true);
+        issuerProperties.setStockLeaseMinBlock(10);
+        issuerProperties.setStockLeaseMaxBlock(1000);
+        issuerProperties.setStockLeaseTargetMs(1000);
+        manager = new StockLeaseManager(stockLeaseService, soldOutLatch, issuerProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Grant.tryTake 는 남은 수만큼만 성공한다")
+    void testGrantTryTake() {
+        StockLeaseManager.Grant grant = new StockLeaseManager.Grant(1L, 2);
+
+        assertThat(grant.tryTake()).isTrue();
+        assertThat(grant.tryTake()).isTrue();
+        assertThat(grant.tryTake()).isFalse();
+        assertThat(grant.available.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Lease.tryTake 는 현재 lease 가 없거나 비었으면 null 을 반환한다")
+    void testLeaseTryTake() {
+        StockLeaseManager.Lease lease = new StockLeaseManager.Lease();
+        assertThat(lease.tryTake(0)).isNull();
+
+        StockLeaseManager.Grant grant = new StockLeaseManager.Grant(1L, 1);
+        lease.current = grant;
+
+        assertThat(lease.tryTake(100)).isSameAs(grant);
+        assertThat(lease.lastUsedAt).isEqualTo(100);
+        assertThat(lease.tryTake(200)).isNull();
+    }
+
+    @Test
+    @DisplayName("첫 블록은 최소 크기, 이후는 관측 발급 속도 × target 을 min/max 로 제한한다")
+    void testNextBlockSize() {
+        StockLeaseManager.Lease lease = new StockLeaseManager.Lease();
+        lease.current = new StockLeaseManager.Grant(1L, 10_000);
+
+        // 첫 lease
+        assertThat(lease.nextBlockSize(issuerProperties, 1_000)).isEqualTo(10);
+
+        // 500ms 동안 100개 사용 → 1초 동안 200개
+        for (int i = 0; i < 100; i++) {
+            lease.tryTake(1_500);
+        }
+        assertThat(lease.nextBlockSize(issuerProperties, 1_500)).isEqualTo(200);
+
+        // 1ms 동안 5000개 사용 → max 로 제한
+        for (int i = 0; i < 5_000; i++) {
+            lease.tryTake(1_501);
+        }
+        assertThat(lease.nextBlockSize(issuerProperties, 1_501)).isEqualTo(1000);
+
+        // 사용 없음 → min 으로 제한
+        assertThat(lease.nextBlockSize(issuerProperties, 5_000)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("ALREADY_ISSUED 로 쓰지 않은 재고는 lease 에 되돌려 다음 발급에 쓴다")
+    void testRefundOnAlreadyIssued() {
+        // given - 1개짜리 lease
+        givenLease(1L, 1);
+        when(stockLeaseService.issue(1L, EVENT_ID, 1L)).thenReturn(IssueResult.ALREADY_ISSUED);
+        when(stockLeaseService.issue(1L, EVENT_ID, 2L)).thenReturn(IssueResult.SUCCESS);
+
+        // when
+        IssueResult first = manager.issue(EVENT_ID, 1L);
+        IssueResult second = manager.issue(EVENT_ID, 2L);
+
+        // then - 새 lease 없이 같은 lease 로 발급
+        assertThat(first).isEqualTo(IssueResult.ALREADY_ISSUED);
+        assertThat(second).isEqualTo(IssueResult.SUCCESS);
+        verify(stockLeaseService, times(1)).lease(eq(EVENT_ID), anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("발급 중 예외가 나면 재고를 lease 에 되돌리고 예외를 전파한다")
+    void testRefundOnException() {
+        // given
+        givenLease(1L, 1);
+        when(stockLeaseService.issue(1L, EVENT_ID, 1L)).thenThrow(new IllegalStateException("db down"));
+        when(stockLeaseService.issue(1L, EVENT_ID, 2L)).thenReturn(IssueResult.SUCCESS);
+
+        // when & then
+        assertThatThrownBy(() -> manager.issue(EVENT_ID, 1L)).isInstanceOf(IllegalStateException.class);
+        assertThat(manager.issue(EVENT_ID, 2L)).isEqualTo(IssueResult.SUCCESS);
+        verify(stockLeaseService, times(1)).lease(eq(EVENT_ID), anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("회수된 lease 로 발급하려 하면 새 lease 를 받아 다시 시도한다")
+    void testRetryOnExpiredLease() {
+        // given
+        when(stockLeaseService.lease(eq(EVENT_ID), anyString(), anyInt(), any()))
+                .thenReturn(Optional.of(lease(1L, 5)))
+                .thenReturn(Optional.of(lease(2L, 5)));
+        when(stockLeaseService.issue(1L, EVENT_ID, 1L)).thenThrow(new StockLeaseExpiredException(1L));
+        when(stockLeaseService.issue(2L, EVENT_ID, 1L)).thenReturn(IssueResult.SUCCESS);
+
+        // when
+        IssueResult result = manager.issue(EVENT_ID, 1L);
+
+        // then
+        assertThat(result).isEqualTo(IssueResult.SUCCESS);
+        verify(stockLeaseService, times(2)).lease(eq(EVENT_ID), anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("다 쓴 lease 는 새 블록을 받기 전에 반납한다")
+    void testReturnDrainedLeaseBeforeRefill() {
+        // given
+        when(stockLeaseService.lease(eq(EVENT_ID), anyString(), anyInt(), any()))
+                .thenReturn(Optional.of(lease(1L, 1)))
+                .thenReturn(Optional.of(lease(2L, 1)));
+        when(stockLeaseService.issue(any(), eq(EVENT_ID), any())).thenReturn(IssueResult.SUCCESS);
+
+        // when
+        manager.issue(EVENT_ID, 1L);
+        manager.issue(EVENT_ID, 2L);
+
+        // then
+        verify(stockLeaseService).returnLease(eq(1L), isNull());
+        verify(stockLeaseService).issue(2L, EVENT_ID, 2L);
+    }
+
+    @Test
+    @DisplayName("새 블록이 없고 남은 lease 도 없으면 품절 신호를 보낸다")
+    void testSoldOutWhenNoLeaseOutstanding() {
+        // given
+        when(stockLeaseService.lease(eq(EVENT_ID), anyString(), anyInt(), any())).thenReturn(Optional.empty());
+        when(stockLeaseService.outstanding(EVENT_ID)).thenReturn(0L);
+
+        // when
+        IssueResult result = manager.issue(EVENT_ID, 1L);
+
+        // then
+        assertThat(result).isEqualTo(IssueResult.OUT_OF_STOCK);
+        verify(soldOutLatch).markSoldOut(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("다른 replica 에 lease 가 남아 있으면 품절 신호를 보내지 않는다")
+    void testNoSoldOutWhileLeaseOutstanding() {
+        // given
+        when(stockLeaseService.lease(eq(EVENT_ID), anyString(), anyInt(), any())).thenReturn(Optional.empty());
+        when(stockLeaseService.outstanding(EVENT_ID)).thenReturn(30L);
+
+        // when
+        IssueResult result = manager.issue(EVENT_ID, 1L);
+
+        // then
+        assertThat(result).isEqualTo(IssueResult.OUT_OF_STOCK);
+        verify(soldOutLatch, never()).markSoldOut(any());
+    }
+
+    private void givenLease(Long leaseId, int units) {
+        when(stockLeaseService.lease(eq(EVENT_ID), anyString(), anyInt(), any()))
+                .thenReturn(Optional.of(lease(leaseId, units)));
+    }
+
+    private StockLease lease(Long leaseId, int units) {
+        StockLease lease = new StockLease(EVENT_ID, "test", units, LocalDateTime.now().plusSeconds(30));
+        ReflectionTestUtils.setField(lease, "id", leaseId);
+        return lease;
+    }
+}
@@ -9,8 +9,8 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import rediclaim.worker.consumer.IssueRequestMessage;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import rediclaim.worker.consumer.IssueMessageDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,21 +25,23 @@ public class KafkaConsumerConfig {
     }
 
     @Bean
-    public ConsumerFactory<String, IssueRequestMessage> consumerFactory() {
+    public ConsumerFactory<String, Object> consumerFactory() {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, IssueRequestMessage.class.getName());
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        // binary / JSON 을 모두 읽는다 (gate-app 의 gate.kafka-message-format 전환 중에도 소비 가능)
+        // 값 타입은 IssueRequestMessage 또는 IssueBatchMessage (IssueRequestConsumer 가 타입별로 처리)
+        // 읽을 수 없는 레코드는 ErrorHandlingDeserializer 가 잡아 건너뛴다 (poison pill 로 파티션이 멈추지 않도록)
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, IssueMessageDeserializer.class);
 
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, IssueRequestMessage> kafkaListenerContainerFactory(
-            ConsumerFactory<String, IssueRequestMessage> consumerFactory
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            ConsumerFactory<String, Object> consumerFactory
     ) {
-        ConcurrentKafkaListenerContainerFactory<String, IssueRequestMessage> factory =
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory);
         factory.setConcurrency(3);
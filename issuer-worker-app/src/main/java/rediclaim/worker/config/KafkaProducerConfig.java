@@ -0,0 +1,50 @@
+package rediclaim.worker.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import rediclaim.worker.consumer.IssueCompletionMessage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * completion topic 발행 설정 ({@code worker.completion-mode=kafka})
+ */
+@Configuration
+@ConditionalOnProperty(name = "worker.completion-mode", havingValue = "kafka")
+public class KafkaProducerConfig {
+
+    private final KafkaProperties kafkaProperties;
+
+    public KafkaProducerConfig(KafkaProperties kafkaProperties) {
+        this.kafkaProperties = kafkaProperties;
+    }
+
+    @Bean
+    public ProducerFactory<String, IssueCompletionMessage> completionProducerFactory() {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties(null));
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // gate-app 은 자신의 레코드 타입으로 읽으므로 타입 헤더는 보내지 않는다
+        props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        // 완료 결과는 consume 속도로 쏟아지므로 묶어서 보낸다
+        props.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, 5);
+
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    @Bean
+    public KafkaTemplate<String, IssueCompletionMessage> completionKafkaTemplate(
+            ProducerFactory<String, IssueCompletionMessage> completionProducerFactory
+    ) {
+        return new KafkaTemplate<>(completionProducerFactory);
+    }
+}
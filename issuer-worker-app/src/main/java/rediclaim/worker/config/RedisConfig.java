@@ -0,0 +1,29 @@
+package rediclaim.worker.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import rediclaim.couponbackend.global.soldout.SoldOutLatch;
+import rediclaim.couponbackend.global.soldout.SoldOutRedisRepository;
+
+/**
+ * 품절 신호({@code gate:soldout}) 수신 설정 ({@code worker.sold-out-enabled=true})
+ */
+@Configuration
+@ConditionalOnProperty(name = "worker.sold-out-enabled", havingValue = "true")
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SoldOutLatch soldOutLatch
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(soldOutLatch, new ChannelTopic(SoldOutRedisRepository.CHANNEL));
+        return container;
+    }
+}
@@ -4,15 +4,56 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.web.client.RestClient;
+import rediclaim.couponbackend.global.issue.BatchCouponIssuer;
+import rediclaim.couponbackend.global.soldout.SoldOutLatch;
+import rediclaim.couponbackend.global.soldout.SoldOutRedisRepository;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 @Configuration
 @EnableConfigurationProperties(WorkerProperties.class)
 @EnableJpaAuditing
 public class WorkerAppConfig {
 
+    /**
+     * batch 레코드 발급 (issuer-api-app group commit 엔진과 같은 구현)
+     */
+    @Bean
+    public BatchCouponIssuer batchCouponIssuer(NamedParameterJdbcTemplate jdbcTemplate) {
+        return new BatchCouponIssuer(jdbcTemplate);
+    }
+
     @Bean
-    public RestClient restClient() {
-        return RestClient.create();
+    public SoldOutRedisRepository soldOutRedisRepository(StringRedisTemplate stringRedisTemplate) {
+        return new SoldOutRedisRepository(stringRedisTemplate);
+    }
+
+    /**
+     * 품절 로컬 latch ({@code worker.sold-out-enabled=true} 일 때만 latch 를 건다, issuer-api-app 과 같은 구현)
+     */
+    @Bean
+    public SoldOutLatch soldOutLatch(SoldOutRedisRepository soldOutRedisRepository, WorkerProperties workerProperties) {
+        return new SoldOutLatch(soldOutRedisRepository, workerProperties::isSoldOutEnabled);
+    }
+
+    /**
+     * gate-app 콜백용 클라이언트 - keep-alive 연결을 재사용하는 JDK HttpClient, 짧은 timeout
+     */
+    @Bean
+    public RestClient restClient(WorkerProperties workerProperties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(workerProperties.getCallbackConnectTimeoutMs()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(workerProperties.getCallbackReadTimeoutMs()));
+
+        return RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
     }
 }
@@ -12,4 +12,34 @@ public class WorkerProperties {
     private String kafkaTopic;
     private String consumerGroup;
     private String gateBaseUrl;
+
+    /**
+     * gate-app 에 발급 완료를 알리는 방식 (http | kafka)
+     * http : complete-batch 콜백, kafka : completion topic 발행 (gate-app 의 gate.completion-mode=kafka 와 함께)
+     */
+    private String completionMode = "http";
+
+    /** 발급 완료 topic ({@code completion-mode=kafka}) */
+    private String completionTopic;
+
+    /**
+     * 품절 신호 사용 여부 - 재고 차감이 0건이면 {@code gate:soldout} 으로 알리고,
+     * 품절된 event 의 메시지는 MySQL 을 거치지 않고 OUT_OF_STOCK 으로 처리 (spring.data.redis.* 설정 필요)
+     */
+    private boolean soldOutEnabled = false;
+
+    /** gate 완료 콜백 묶음 크기 - 이만큼 쌓이면 바로 전송 */
+    private int callbackBatchSize = 200;
+
+    /** gate 완료 콜백 최대 대기 시간 (ms) - 묶음이 덜 찼어도 이 주기로 전송 */
+    private long callbackFlushIntervalMs = 50;
+
+    /** 전송 대기 중인 완료 콜백 상한 - 초과분은 버리고 gate 의 stale 재큐에 맡긴다 */
+    private int callbackMaxPending = 100_000;
+
+    /** gate 콜백 connect timeout (ms) */
+    private long callbackConnectTimeoutMs = 500;
+
+    /** gate 콜백 응답 timeout (ms) */
+    private long callbackReadTimeoutMs = 2000;
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package rediclaim.worker.consumer;
+
+import java.util.List;
+
+/**
+ * gate-app 의 IssueBatchMessage 와 동일한 구조 (gate 의 {@code gate.kafka-record-mode=batch}).
+ * dispatch 한 번에 꺼낸 유저 묶음이며, 묶음 단위로 처리하고 한 번에 ack 한다.
+ */
+public record IssueBatchMessage(
+        Long eventId,
+        List<Entry> entries
+) {
+
+    public record Entry(
+            long userId,
+            long rank
+    ) {
+    }
+}
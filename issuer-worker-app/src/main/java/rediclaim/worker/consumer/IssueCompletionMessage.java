@@ -0,0 +1,12 @@
+package rediclaim.worker.consumer;
+
+/**
+ * completion topic 에 발행하는 발급 결과 (gate-app 의 IssueCompletionMessage 와 동일한 구조).
+ * result : IssueResult 이름
+ */
+public record IssueCompletionMessage(
+        Long eventId,
+        Long userId,
+        String result
+) {
+}
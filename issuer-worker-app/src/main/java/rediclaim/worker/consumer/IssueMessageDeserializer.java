@@ -0,0 +1,93 @@
+package rediclaim.worker.consumer;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * gate-app 발급 요청 역직렬화 - JSON / binary version 1 은 {@link IssueRequestMessage},
+ * binary version 2 는 {@link IssueBatchMessage} 로 읽는다.
+ *
+ * <p>첫 바이트로 형식을 구분한다. {@code '{'} 이면 JSON, 그 외에는 binary version 으로 본다.
+ * binary 레이아웃은 gate-app 의 {@code IssueRequestMessageSerializer} / {@code IssueBatchMessageSerializer} 와 동일하다 (big-endian).</p>
+ * <pre>
+ *   v1 : [0] version | [1] null 여부 flag | [2..9] eventId | [10..17] userId | [18..25] rank
+ *   v2 : [0] version | [1..8] eventId | [9..12] entry 수 | [13..] entry 마다 userId, rank
+ * </pre>
+ */
+public class IssueMessageDeserializer implements Deserializer<Object> {
+
+    private static final byte JSON_START = '{';
+    private static final byte VERSION_1 = 1;
+    private static final byte VERSION_2 = 2;
+    private static final int V1_SIZE = 2 + Long.BYTES * 3;
+    private static final int V2_HEADER_SIZE = 1 + Long.BYTES + Integer.BYTES;
+    private static final int V2_ENTRY_SIZE = Long.BYTES * 2;
+
+    private static final int EVENT_ID = 1;
+    private static final int USER_ID = 1 << 1;
+    private static final int RANK = 1 << 2;
+
+    private final JsonDeserializer<IssueRequestMessage> jsonDeserializer =
+            new JsonDeserializer<>(IssueRequestMessage.class, false);
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null || data.length == 0) return null;
+
+        if (data[0] == JSON_START) {
+            return jsonDeserializer.deserialize(topic, headers, data);
+        }
+        if (data[0] == VERSION_1 && data.length == V1_SIZE) {
+            return readV1(data);
+        }
+        if (data[0] == VERSION_2 && data.length >= V2_HEADER_SIZE) {
+            return readV2(data);
+        }
+        throw new SerializationException(
+                "Unsupported issue request format (first byte " + data[0] + ", length " + data.length + ")");
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+
+    private IssueRequestMessage readV1(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data, 1, V1_SIZE - 1);
+        int flags = buffer.get();
+        long eventId = buffer.getLong();
+        long userId = buffer.getLong();
+        long rank = buffer.getLong();
+        return new IssueRequestMessage(
+                (flags & EVENT_ID) != 0 ? eventId : null,
+                (flags & USER_ID) != 0 ? userId : null,
+                (flags & RANK) != 0 ? rank : null
+        );
+    }
+
+    private IssueBatchMessage readV2(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+        long eventId = buffer.getLong();
+        int size = buffer.getInt();
+        if (size < 0 || data.length != V2_HEADER_SIZE + (long) V2_ENTRY_SIZE * size) {
+            throw new SerializationException("Malformed IssueBatchMessage (entries " + size + ", length " + data.length + ")");
+        }
+
+        List<IssueBatchMessage.Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new IssueBatchMessage.Entry(buffer.getLong(), buffer.getLong()));
+        }
+        return new IssueBatchMessage(eventId, entries);
+    }
+}
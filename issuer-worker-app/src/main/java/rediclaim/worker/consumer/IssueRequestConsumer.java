@@ -2,46 +2,107 @@ package rediclaim.worker.consumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
+import rediclaim.couponbackend.global.soldout.SoldOutLatch;
 import rediclaim.worker.service.CouponIssueWorkerService;
-import rediclaim.worker.service.GateCallbackService;
+import rediclaim.worker.service.IssueCompletionNotifier;
 import rediclaim.worker.service.IssueResult;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * gate-app 이 Kafka 에 발행한 쿠폰 발급 요청을 consume 한다.
+ *
+ * <p>레코드 값 타입에 따라 처리한다.</p>
+ * <ul>
+ *   <li>{@link IssueRequestMessage} : 유저 1명 (gate 의 {@code gate.kafka-record-mode=per-user})</li>
+ *   <li>{@link IssueBatchMessage} : dispatch 한 묶음 (gate 의 {@code gate.kafka-record-mode=batch})</li>
+ * </ul>
+ *
+ * <p>품절 latch({@link SoldOutLatch})가 걸린 event 의 메시지는 DB 를 거치지 않고 OUT_OF_STOCK 으로 완료 처리한다.</p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@KafkaListener(
+        topics = "${worker.kafka-topic}",
+        groupId = "${worker.consumer-group}",
+        containerFactory = "kafkaListenerContainerFactory"
+)
 public class IssueRequestConsumer {
 
     private final CouponIssueWorkerService couponIssueWorkerService;
-    private final GateCallbackService gateCallbackService;
+    private final IssueCompletionNotifier issueCompletionNotifier;
+    private final SoldOutLatch soldOutLatch;
 
     /**
-     * gate-app 이 Kafka 에 발행한 쿠폰 발급 요청을 consume 한다.
-     *
      * <p>처리 결과(SUCCESS / ALREADY_ISSUED / OUT_OF_STOCK) 와 무관하게
-     * gate-app 에 콜백을 보내 processing 상태에서 해당 유저를 제거한다.
+     * gate-app 에 완료를 알려 processing 상태에서 해당 유저를 제거한다.
      * 예외 발생 시에는 ack 를 보내지 않아 Kafka 가 재처리한다.</p>
      */
-    @KafkaListener(
-            topics = "${worker.kafka-topic}",
-            groupId = "${worker.consumer-group}",
-            containerFactory = "kafkaListenerContainerFactory"
-    )
+    @KafkaHandler
     public void consume(IssueRequestMessage message, Acknowledgment ack) {
         Long eventId = message.eventId();   // eventId = couponId (1:1 매핑 정책)
         Long userId  = message.userId();
 
         try {
-            IssueResult result = couponIssueWorkerService.issueCoupon(userId, eventId);
+            IssueResult result = soldOutLatch.isSoldOut(eventId)
+                    ? IssueResult.OUT_OF_STOCK
+                    : couponIssueWorkerService.issueCoupon(userId, eventId);
+            if (result == IssueResult.OUT_OF_STOCK) {
+                soldOutLatch.markSoldOut(eventId);
+            }
             log.info("Coupon issue result={} userId={} couponId={}", result, userId, eventId);
 
-            gateCallbackService.notifyCompleted(eventId, userId);
+            issueCompletionNotifier.notifyCompleted(eventId, userId, result);
             ack.acknowledge();
         } catch (Exception e) {
             log.error("Coupon issue failed. userId={} couponId={}", userId, eventId, e);
             // ack 하지 않음 → Kafka 재시도 (at-least-once 보장)
         }
     }
+
+    /**
+     * <p>묶음 전체를 한 트랜잭션으로 발급하고 한 번에 ack 한다. FAILED 유저도 다른 결과와 같이 완료를 알린다.
+     * 예외 발생 시 묶음 전체가 롤백되고 ack 하지 않으므로 묶음 단위로 재처리된다
+     * (이미 발급된 유저는 재처리 시 ALREADY_ISSUED).</p>
+     */
+    @KafkaHandler
+    public void consumeBatch(IssueBatchMessage message, Acknowledgment ack) {
+        Long eventId = message.eventId();
+        List<Long> userIds = message.entries().stream()
+                .map(IssueBatchMessage.Entry::userId)
+                .toList();
+        if (userIds.isEmpty()) {
+            ack.acknowledge();
+            return;
+        }
+
+        try {
+            Map<Long, IssueResult> results = soldOutLatch.isSoldOut(eventId)
+                    ? outOfStock(userIds)
+                    : couponIssueWorkerService.issueCoupons(userIds, eventId);
+            if (results.containsValue(IssueResult.OUT_OF_STOCK)) {
+                soldOutLatch.markSoldOut(eventId);
+            }
+            log.info("Coupon batch issue couponId={} size={}", eventId, results.size());
+
+            results.forEach((userId, result) -> issueCompletionNotifier.notifyCompleted(eventId, userId, result));
+            ack.acknowledge();
+        } catch (Exception e) {
+            log.error("Coupon batch issue failed. couponId={} size={}", eventId, userIds.size(), e);
+            // ack 하지 않음 → Kafka 재시도 (at-least-once 보장)
+        }
+    }
+
+    private static Map<Long, IssueResult> outOfStock(List<Long> userIds) {
+        Map<Long, IssueResult> results = new LinkedHashMap<>(userIds.size());
+        userIds.forEach(userId -> results.put(userId, IssueResult.OUT_OF_STOCK));
+        return results;
+    }
 }
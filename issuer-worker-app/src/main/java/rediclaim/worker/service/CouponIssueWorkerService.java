@@ -4,9 +4,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import rediclaim.couponbackend.global.issue.BatchCouponIssuer;
 import rediclaim.worker.repository.CouponRepository;
 import rediclaim.worker.repository.UserCouponRepository;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * [TASK 3] DB를 SSOT로 하는 쿠폰 발급 서비스
  *
@@ -28,6 +33,7 @@ public class CouponIssueWorkerService {
 
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
+    private final BatchCouponIssuer batchCouponIssuer;
 
     @Transactional
     public IssueResult issueCoupon(Long userId, Long couponId) {
@@ -52,4 +58,35 @@ public class CouponIssueWorkerService {
 
         return IssueResult.SUCCESS;
     }
-}
\ No newline at end of file
+
+    /**
+     * batch 레코드 처리 - 묶음 전체를 한 트랜잭션으로 발급한다.
+     *
+     * <p>issuer-api-app group commit 엔진과 같은 {@link BatchCouponIssuer} 를 사용한다
+     * (coupons row 잠금 → 중복 IN 쿼리 → multi-row INSERT → 한 번의 차감).
+     * 도중에 예외가 나면 묶음 전체가 롤백되고 (ack 하지 않으므로) 묶음 단위로 재처리된다.</p>
+     *
+     * <p>UNIQUE 외의 제약 위반(존재하지 않는 유저 등)으로 발급하지 못한 유저는 재처리해도 같은 결과이므로
+     * FAILED 로 완료 처리한다 (gate 가 processing 에서 제거하므로 stale 재큐 → 재발행이 반복되지 않는다).</p>
+     *
+     * @return userId -> 발급 결과 (입력 순서 유지)
+     */
+    @Transactional
+    public Map<Long, IssueResult> issueCoupons(List<Long> userIds, Long couponId) {
+        Map<Long, IssueResult> results = new LinkedHashMap<>(userIds.size());
+        batchCouponIssuer.issue(couponId, userIds).forEach((userId, status) -> {
+            switch (status) {
+                case ISSUED -> results.put(userId, IssueResult.SUCCESS);
+                case ALREADY_ISSUED -> results.put(userId, IssueResult.ALREADY_ISSUED);
+                case OUT_OF_STOCK -> results.put(userId, IssueResult.OUT_OF_STOCK);
+                case FAILED -> {
+                    log.error("Failed to issue coupon (constraint violation). userId={}, couponId={}", userId, couponId);
+                    results.put(userId, IssueResult.FAILED);
+                }
+            }
+        });
+
+        log.debug("Batch issued. couponId={}, size={}, results={}", couponId, userIds.size(), results.values());
+        return results;
+    }
+}
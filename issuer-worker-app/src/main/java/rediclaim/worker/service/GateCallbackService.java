@@ -1,35 +1,149 @@
 package rediclaim.worker.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import rediclaim.worker.config.WorkerProperties;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * 쿠폰 발급 처리 완료 후 gate-app 에 콜백을 보내
- * processing 상태에서 해당 유저를 제거하도록 요청한다.
+ * processing 상태에서 해당 유저를 제거하도록 요청한다 ({@code worker.completion-mode=http}, 기본).
+ *
+ * <p>콜백은 Kafka listener 스레드에서 보내지 않는다. 완료 유저를 메모리에 모아 두고
+ * 전송 스레드 하나({@code gate-callback})가 {@code worker.callback-batch-size} 만큼 쌓이거나
+ * {@code worker.callback-flush-interval-ms} 가 지나면 event 별로 묶어
+ * {@code /gate/events/{eventId}/processing/complete-batch} 로 한 번에 보낸다.
+ * 모든 event 의 전송이 이 스레드에서 차례로 실행되므로, 한 event 의 전송이 느리면 (최대 read timeout)
+ * 다른 event 의 콜백도 그만큼 늦어진다.</p>
+ *
+ * <p>gate 가 느리거나 죽어 있어도 consume 은 멈추지 않는다. 전송 실패분이나
+ * {@code worker.callback-max-pending} 을 넘은 콜백은 버린다. 해당 유저는 gate 의
+ * requeueStaleProcessing 이 타임아웃 후 처리하며, 재처리 시 ALREADY_ISSUED 로 끝난다.</p>
  */
 @Slf4j
 @Service
+@ConditionalOnProperty(name = "worker.completion-mode", havingValue = "http", matchIfMissing = true)
 @RequiredArgsConstructor
-public class GateCallbackService {
+public class GateCallbackService implements IssueCompletionNotifier {
 
     private final RestClient restClient;
     private final WorkerProperties workerProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private BlockingQueue<Completion> pending;
+    private ScheduledExecutorService flusher;
+    private Counter sent;
+    private Counter failed;
+    private Counter dropped;
+
+    private record Completion(Long eventId, Long userId) {
+    }
+
+    @PostConstruct
+    void init() {
+        pending = new LinkedBlockingQueue<>(workerProperties.getCallbackMaxPending());
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "gate-callback");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush,
+                workerProperties.getCallbackFlushIntervalMs(),
+                workerProperties.getCallbackFlushIntervalMs(),
+                TimeUnit.MILLISECONDS);
+
+        Gauge.builder("worker.gate.callback.pending", pending, BlockingQueue::size).register(meterRegistry);
+        sent = callbackCounter("sent");
+        failed = callbackCounter("failed");
+        dropped = callbackCounter("dropped");
+    }
+
+    /**
+     * 완료 유저를 전송 대기열에 넣는다 (blocking 없음)
+     */
+    @Override
+    public void notifyCompleted(Long eventId, Long userId, IssueResult result) {
+        if (!pending.offer(new Completion(eventId, userId))) {
+            dropped.increment();
+            log.warn("Gate callback dropped (pending full). eventId={}, userId={}", eventId, userId);
+            return;
+        }
+        if (pending.size() >= workerProperties.getCallbackBatchSize() && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
 
-    public void notifyCompleted(Long eventId, Long userId) {
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
         try {
-            restClient.post()
-                    .uri(workerProperties.getGateBaseUrl()
-                            + "/gate/events/" + eventId + "/processing/complete"
-                            + "?userId=" + userId)
-                    .retrieve()
-                    .toBodilessEntity();
-        } catch (Exception e) {
-            // 콜백 실패는 치명적이지 않음.
-            // gate-app 의 requeueStaleProcessing 스케줄러가 타임아웃 후 처리.
-            log.warn("Gate callback failed. eventId={}, userId={} : {}", eventId, userId, e.getMessage());
+            flusher.awaitTermination(workerProperties.getCallbackReadTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전에 남은 콜백을 한 번 더 보낸다
+        flush();
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+        int batchSize = workerProperties.getCallbackBatchSize();
+        List<Completion> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            send(batch);
+            batch.clear();
+        }
+    }
+
+    private void send(List<Completion> batch) {
+        Map<Long, List<Long>> usersByEvent = new LinkedHashMap<>();
+        for (Completion completion : batch) {
+            usersByEvent.computeIfAbsent(completion.eventId(), e -> new ArrayList<>()).add(completion.userId());
         }
+
+        usersByEvent.forEach((eventId, userIds) -> {
+            try {
+                restClient.post()
+                        .uri(workerProperties.getGateBaseUrl()
+                                + "/gate/events/" + eventId + "/processing/complete-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(Map.of("userIds", userIds))
+                        .retrieve()
+                        .toBodilessEntity();
+                sent.increment(userIds.size());
+            } catch (Exception e) {
+                // 콜백 실패는 치명적이지 않음.
+                // gate-app 의 requeueStaleProcessing 스케줄러가 타임아웃 후 처리.
+                failed.increment(userIds.size());
+                log.warn("Gate callback failed. eventId={}, users={} : {}", eventId, userIds.size(), e.getMessage());
+            }
+        });
+    }
+
+    private Counter callbackCounter(String outcome) {
+        return Counter.builder("worker.gate.callback")
+                .description("gate-app 완료 콜백 유저 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package rediclaim.worker.service;
+
+/**
+ * 발급 처리 완료를 gate-app 에 알린다 ({@code worker.completion-mode} 로 구현 선택).
+ * 구현체는 Kafka listener 스레드를 막지 않아야 한다.
+ */
+public interface IssueCompletionNotifier {
+
+    void notifyCompleted(Long eventId, Long userId, IssueResult result);
+}
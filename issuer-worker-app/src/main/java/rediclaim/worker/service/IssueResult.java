@@ -3,5 +3,7 @@ package rediclaim.worker.service;
 public enum IssueResult {
     SUCCESS,
     ALREADY_ISSUED,
-    OUT_OF_STOCK
+    OUT_OF_STOCK,
+    /** UNIQUE 외의 제약 위반(존재하지 않는 유저 등) - 재처리해도 같은 결과이므로 종료 상태로 완료 처리한다 */
+    FAILED
 }
\ No newline at end of file
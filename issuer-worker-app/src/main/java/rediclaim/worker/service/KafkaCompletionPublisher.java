@@ -0,0 +1,41 @@
+package rediclaim.worker.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import rediclaim.worker.config.WorkerProperties;
+import rediclaim.worker.consumer.IssueCompletionMessage;
+
+/**
+ * {@code worker.completion-mode=kafka} - 발급 결과를 completion topic 에 발행한다.
+ *
+ * <p>gate-app 을 직접 호출하지 않으므로 gate 가 내려가 있어도 worker 처리량에 영향이 없다.
+ * 발행은 비동기이며 (producer 가 linger 로 묶어 전송), 실패 시 gate 의 stale 재큐가 회수한다.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "worker.completion-mode", havingValue = "kafka")
+@RequiredArgsConstructor
+public class KafkaCompletionPublisher implements IssueCompletionNotifier {
+
+    private final KafkaTemplate<String, IssueCompletionMessage> completionKafkaTemplate;
+    private final WorkerProperties workerProperties;
+
+    @Override
+    public void notifyCompleted(Long eventId, Long userId, IssueResult result) {
+        try {
+            completionKafkaTemplate.send(workerProperties.getCompletionTopic(), eventId.toString(),
+                            new IssueCompletionMessage(eventId, userId, result.name()))
+                    .whenComplete((sendResult, ex) -> {
+                        if (ex != null) {
+                            log.warn("Completion publish failed. eventId={}, userId={} : {}",
+                                    eventId, userId, ex.getMessage());
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("Completion publish failed. eventId={}, userId={} : {}", eventId, userId, e.getMessage());
+        }
+    }
+}
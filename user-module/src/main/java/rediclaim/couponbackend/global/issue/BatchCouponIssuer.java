@@ -0,0 +1,125 @@
+package rediclaim.couponbackend.global.issue;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 유저의 쿠폰 발급을 한 번에 처리한다 (issuer-api-app group commit 엔진 / issuer-worker-app batch 소비 공용).
+ *
+ * <ol>
+ *   <li>{@code SELECT remaining_count ... FOR UPDATE} 로 coupons row 잠금</li>
+ *   <li>이미 발급된 유저를 IN 쿼리 한 번으로 확인</li>
+ *   <li>남은 재고만큼의 유저를 multi-row INSERT 한 번으로 기록</li>
+ *   <li>실제 INSERT 된 수만큼 한 번에 차감 ({@code remaining_count - LEAST(remaining_count, k)})</li>
+ * </ol>
+ *
+ * <p>INSERT 는 IGNORE 없이 실행한다. multi-row INSERT 가 제약 조건에 걸리면 (다른 경로가 그 사이 같은 유저를 INSERT /
+ * 존재하지 않는 유저) 유저별 INSERT 로 다시 시도해 UNIQUE 충돌은 ALREADY_ISSUED, 그 외 제약 위반은 FAILED 로 구분한다.
+ * MySQL 은 실패한 문장만 롤백하므로 트랜잭션은 그대로 이어진다.</p>
+ *
+ * <p>호출자의 트랜잭션 안에서 호출해야 한다. Spring bean 이 아니므로 각 모듈이 직접 생성한다.</p>
+ */
+public class BatchCouponIssuer {
+
+    private static final String LOCK_STOCK_SQL =
+            "SELECT remaining_count FROM coupons WHERE id = :couponId FOR UPDATE";
+    private static final String ISSUED_USERS_SQL =
+            "SELECT user_id FROM user_coupon WHERE coupon_id = :couponId AND user_id IN (:userIds)";
+    private static final String DECREMENT_SQL =
+            "UPDATE coupons SET remaining_count = remaining_count - LEAST(remaining_count, :count) WHERE id = :couponId";
+    private static final String INSERT_PREFIX =
+            "INSERT INTO user_coupon (user_id, coupon_id, created_date_time, modified_date_time) VALUES ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BatchCouponIssuer(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param userIds 발급 요청 유저 (중복은 한 번만 처리)
+     * @return userId -> 결과 (입력 순서 유지)
+     */
+    public Map<Long, BatchIssueStatus> issue(Long couponId, List<Long> userIds) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Map<Long, BatchIssueStatus> results = new LinkedHashMap<>(distinct.size());
+        if (distinct.isEmpty()) {
+            return results;
+        }
+
+        List<Integer> stock = jdbcTemplate.queryForList(LOCK_STOCK_SQL, params(couponId), Integer.class);
+        int remaining = stock.isEmpty() ? 0 : stock.get(0);
+
+        Set<Long> issued = new HashSet<>(jdbcTemplate.queryForList(
+                ISSUED_USERS_SQL, params(couponId).addValue("userIds", distinct), Long.class));
+
+        List<Long> candidates = new ArrayList<>();
+        for (Long userId : distinct) {
+            if (issued.contains(userId)) {
+                results.put(userId, BatchIssueStatus.ALREADY_ISSUED);
+            } else if (candidates.size() < remaining) {
+                candidates.add(userId);
+                results.put(userId, BatchIssueStatus.ISSUED);
+            } else {
+                results.put(userId, BatchIssueStatus.OUT_OF_STOCK);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return results;
+        }
+
+        int inserted = insert(couponId, candidates, results);
+        if (inserted > 0) {
+            jdbcTemplate.update(DECREMENT_SQL, params(couponId).addValue("count", inserted));
+        }
+        return results;
+    }
+
+    /**
+     * @return 실제 INSERT 된 수 (INSERT 되지 않은 유저는 results 를 ALREADY_ISSUED / FAILED 로 바꾼다)
+     */
+    private int insert(Long couponId, List<Long> userIds, Map<Long, BatchIssueStatus> results) {
+        try {
+            return insertRows(couponId, userIds);
+        } catch (DataIntegrityViolationException e) {
+            // 어떤 row 가 걸렸는지 알 수 없으므로 유저별로 다시 INSERT
+        }
+
+        int inserted = 0;
+        for (Long userId : userIds) {
+            try {
+                inserted += insertRows(couponId, List.of(userId));
+            } catch (DuplicateKeyException e) {
+                results.put(userId, BatchIssueStatus.ALREADY_ISSUED);
+            } catch (DataIntegrityViolationException e) {
+                results.put(userId, BatchIssueStatus.FAILED);
+            }
+        }
+        return inserted;
+    }
+
+    private int insertRows(Long couponId, List<Long> userIds) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        MapSqlParameterSource params = params(couponId);
+        for (int i = 0; i < userIds.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(:u").append(i).append(", :couponId, NOW(), NOW())");
+            params.addValue("u" + i, userIds.get(i));
+        }
+        return jdbcTemplate.update(sql.toString(), params);
+    }
+
+    private static MapSqlParameterSource params(Long couponId) {
+        return new MapSqlParameterSource("couponId", couponId);
+    }
+}
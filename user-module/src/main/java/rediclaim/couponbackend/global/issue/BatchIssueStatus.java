@@ -0,0 +1,12 @@
+package rediclaim.couponbackend.global.issue;
+
+/**
+ * {@link BatchCouponIssuer} 의 유저별 처리 결과
+ */
+public enum BatchIssueStatus {
+    ISSUED,
+    ALREADY_ISSUED,
+    OUT_OF_STOCK,
+    /** UNIQUE 외의 제약 위반 (존재하지 않는 유저 등) - 발급되지 않음 */
+    FAILED
+}
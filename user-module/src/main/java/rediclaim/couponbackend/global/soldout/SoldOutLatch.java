@@ -0,0 +1,91 @@
+package rediclaim.couponbackend.global.soldout;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * event 품절 로컬 latch (issuer-api-app / issuer-worker-app 공용).
+ *
+ * <p>품절된 event 의 요청은 재고 차감 없이 처리한다.</p>
+ * <ul>
+ *   <li>재고 차감이 0건이면 latch 를 걸고 플래그 기록 + {@code gate:soldout} 발행 (gate-app / 다른 replica 전파)</li>
+ *   <li>다른 replica / 다른 모듈의 품절은 pub/sub 으로 수신한다.</li>
+ *   <li>event 를 처음 조회할 때 한 번 플래그를 읽어 기동 전에 품절된 event 도 반영한다.
+ *       그 이후 pub/sub 을 놓치더라도 DB 에서 OUT_OF_STOCK 을 받는 즉시 latch 가 걸린다.</li>
+ *   <li>운영자가 event 를 다시 등록하면 gate-app 이 {@code reset:{eventId}} 를 발행하고, latch 를 풀어
+ *       다음 요청부터 DB 재고를 다시 확인한다.</li>
+ * </ul>
+ *
+ * <p>Spring bean 이 아니므로 각 모듈이 사용 여부 설정과 함께 직접 생성한다.</p>
+ */
+@Slf4j
+public class SoldOutLatch implements MessageListener {
+
+    private final SoldOutRedisRepository soldOutRedisRepository;
+    private final BooleanSupplier enabled;
+
+    /** eventId -> 품절 여부 */
+    private final Map<Long, Boolean> soldOut = new ConcurrentHashMap<>();
+
+    public SoldOutLatch(SoldOutRedisRepository soldOutRedisRepository, BooleanSupplier enabled) {
+        this.soldOutRedisRepository = soldOutRedisRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isSoldOut(Long eventId) {
+        if (!enabled.getAsBoolean()) {
+            return false;
+        }
+        return soldOut.computeIfAbsent(eventId, this::readFlag);
+    }
+
+    /**
+     * 재고 차감 결과가 0건일 때 호출 - 처음 latch 를 건 경우에만 Redis 에 기록 / 발행한다.
+     */
+    public void markSoldOut(Long eventId) {
+        if (!enabled.getAsBoolean()) {
+            return;
+        }
+        if (Boolean.TRUE.equals(soldOut.put(eventId, true))) {
+            return;
+        }
+        try {
+            soldOutRedisRepository.markSoldOut(eventId);
+            log.info("Event {} sold out, broadcast", eventId);
+        } catch (Exception e) {
+            // 다른 replica 는 각자 DB 결과로 latch 를 건다
+            log.warn("Failed to broadcast sold-out for event {} : {}", eventId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        try {
+            if (body.startsWith(SoldOutRedisRepository.RESET_PREFIX)) {
+                Long eventId = Long.parseLong(body.substring(SoldOutRedisRepository.RESET_PREFIX.length()));
+                if (soldOut.remove(eventId) != null) {
+                    log.info("Event {} sold-out latch reset", eventId);
+                }
+            } else {
+                soldOut.put(Long.parseLong(body), true);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed sold-out message. body={}", body);
+        }
+    }
+
+    private boolean readFlag(Long eventId) {
+        try {
+            return soldOutRedisRepository.isSoldOut(eventId);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package rediclaim.couponbackend.global.soldout;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * event 품절 신호를 Redis 에 기록 / 조회한다 (gate-app 과 공유하는 형식).
+ *
+ * <ul>
+ *   <li>{@code gate:soldout:{eventId}} (String) : 품절 플래그 (재시작 / pub/sub 유실 대비).
+ *       운영자가 admin API 로 event 를 다시 등록하면 gate-app 이 지운다.</li>
+ *   <li>{@code gate:soldout} (pub/sub) : 품절된 eventId, 또는 품절 해제 {@code reset:{eventId}} 전파</li>
+ * </ul>
+ *
+ * <p>Spring bean 이 아니므로 issuer-api-app / issuer-worker-app 이 직접 생성한다.</p>
+ */
+public class SoldOutRedisRepository {
+
+    public static final String CHANNEL = "gate:soldout";
+    public static final String RESET_PREFIX = "reset:";
+
+    private static final String SOLD_OUT_KEY_PREFIX = "gate:soldout:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public SoldOutRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public boolean isSoldOut(Long eventId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(soldOutKey(eventId)));
+    }
+
+    public void markSoldOut(Long eventId) {
+        redisTemplate.opsForValue().set(soldOutKey(eventId), "1");
+        redisTemplate.convertAndSend(CHANNEL, eventId.toString());
+    }
+
+    private static String soldOutKey(Long eventId) {
+        return SOLD_OUT_KEY_PREFIX + "{" + eventId + "}";
+    }
+}
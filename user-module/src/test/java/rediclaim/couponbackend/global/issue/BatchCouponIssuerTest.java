@@ -0,0 +1,134 @@
+package rediclaim.couponbackend.global.issue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * BatchCouponIssuer 단위 테스트
+ * - NamedParameterJdbcTemplate 을 Mock 으로 처리하여 실행되는 쿼리와 유저별 결과만 검증
+ */
+@DisplayName("묶음 발급 단위 테스트")
+class BatchCouponIssuerTest {
+
+    private static final Long COUPON_ID = 1001L;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final BatchCouponIssuer issuer = new BatchCouponIssuer(jdbcTemplate);
+
+    @BeforeEach
+    void setUp() {
+        givenIssuedUsers();
+    }
+
+    @Test
+    @DisplayName("남은 재고만큼만 발급하고 나머지는 OUT_OF_STOCK, 이미 발급된 유저는 ALREADY_ISSUED")
+    void testClampToRemaining() {
+        // given
+        givenRemaining(2);
+        givenIssuedUsers(2L);
+        when(jdbcTemplate.update(startsWith("INSERT INTO user_coupon"), any(SqlParameterSource.class))).thenReturn(2);
+
+        // when
+        Map<Long, BatchIssueStatus> results = issuer.issue(COUPON_ID, List.of(1L, 2L, 3L, 4L));
+
+        // then
+        assertThat(results).containsExactly(
+                Map.entry(1L, BatchIssueStatus.ISSUED),
+                Map.entry(2L, BatchIssueStatus.ALREADY_ISSUED),
+                Map.entry(3L, BatchIssueStatus.ISSUED),
+                Map.entry(4L, BatchIssueStatus.OUT_OF_STOCK));
+        verifyDecrementedBy(2);
+    }
+
+    @Test
+    @DisplayName("같은 유저가 여러 번 들어오면 한 번만 처리한다")
+    void testDistinctUsers() {
+        // given
+        givenRemaining(10);
+        when(jdbcTemplate.update(startsWith("INSERT INTO user_coupon"), any(SqlParameterSource.class))).thenReturn(1);
+
+        // when
+        Map<Long, BatchIssueStatus> results = issuer.issue(COUPON_ID, List.of(1L, 1L));
+
+        // then
+        assertThat(results).containsExactly(Map.entry(1L, BatchIssueStatus.ISSUED));
+        verifyDecrementedBy(1);
+    }
+
+    @Test
+    @DisplayName("재고가 없으면 INSERT / 차감 없이 모두 OUT_OF_STOCK")
+    void testNoStock() {
+        // given
+        givenRemaining(0);
+
+        // when
+        Map<Long, BatchIssueStatus> results = issuer.issue(COUPON_ID, List.of(1L, 2L));
+
+        // then
+        assertThat(results.values()).containsOnly(BatchIssueStatus.OUT_OF_STOCK);
+        verify(jdbcTemplate, never()).update(any(String.class), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("multi-row INSERT 가 제약에 걸리면 유저별 INSERT 로 중복은 ALREADY_ISSUED, 그 외 위반은 FAILED")
+    void testRowByRowFallback() {
+        // given
+        givenRemaining(10);
+        when(jdbcTemplate.update(startsWith("INSERT INTO user_coupon"), any(SqlParameterSource.class)))
+                .thenAnswer(invocation -> {
+                    MapSqlParameterSource params = invocation.getArgument(1);
+                    if (params.hasValue("u1")) {
+                        throw new DataIntegrityViolationException("batch");
+                    }
+                    Object userId = params.getValue("u0");
+                    if (Long.valueOf(2L).equals(userId)) {
+                        throw new DuplicateKeyException("duplicate");
+                    }
+                    if (Long.valueOf(3L).equals(userId)) {
+                        throw new DataIntegrityViolationException("fk");
+                    }
+                    return 1;
+                });
+
+        // when
+        Map<Long, BatchIssueStatus> results = issuer.issue(COUPON_ID, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(results).containsExactly(
+                Map.entry(1L, BatchIssueStatus.ISSUED),
+                Map.entry(2L, BatchIssueStatus.ALREADY_ISSUED),
+                Map.entry(3L, BatchIssueStatus.FAILED));
+        verifyDecrementedBy(1);
+    }
+
+    private void givenRemaining(int remaining) {
+        when(jdbcTemplate.queryForList(startsWith("SELECT remaining_count"), any(SqlParameterSource.class), eq(Integer.class)))
+                .thenReturn(List.of(remaining));
+    }
+
+    private void givenIssuedUsers(Long... userIds) {
+        when(jdbcTemplate.queryForList(startsWith("SELECT user_id"), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(userIds));
+    }
+
+    private void verifyDecrementedBy(int count) {
+        verify(jdbcTemplate).update(startsWith("UPDATE coupons"),
+                argThat((SqlParameterSource params) -> Integer.valueOf(count).equals(params.getValue("count"))));
+    }
+}
@@ -0,0 +1,111 @@
+package rediclaim.couponbackend.global.soldout;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SoldOutLatch 단위 테스트
+ * - SoldOutRedisRepository 를 Mock 으로 처리하여 latch 설정 / 전파 / 해제 규칙만 검증
+ */
+@DisplayName("품절 latch 단위 테스트")
+class SoldOutLatchTest {
+
+    private static final Long EVENT_ID = 1001L;
+
+    private final SoldOutRedisRepository repository = mock(SoldOutRedisRepository.class);
+    private final AtomicBoolean enabled = new AtomicBoolean(true);
+    private final SoldOutLatch latch = new SoldOutLatch(repository, enabled::get);
+
+    @Test
+    @DisplayName("처음 품절을 표시할 때만 플래그를 기록하고 발행한다")
+    void testMarkSoldOutBroadcastsOnce() {
+        // when
+        latch.markSoldOut(EVENT_ID);
+        latch.markSoldOut(EVENT_ID);
+
+        // then
+        assertThat(latch.isSoldOut(EVENT_ID)).isTrue();
+        verify(repository, times(1)).markSoldOut(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("event 를 처음 조회할 때 한 번만 플래그를 읽는다")
+    void testReadsFlagOnce() {
+        // given
+        when(repository.isSoldOut(EVENT_ID)).thenReturn(true);
+
+        // when
+        boolean first = latch.isSoldOut(EVENT_ID);
+        boolean second = latch.isSoldOut(EVENT_ID);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(repository, times(1)).isSoldOut(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("다른 replica 의 품절 발행을 받으면 latch 가 걸린다")
+    void testSoldOutMessage() {
+        // when
+        latch.onMessage(message("1001"), null);
+
+        // then
+        assertThat(latch.isSoldOut(EVENT_ID)).isTrue();
+        verify(repository, never()).isSoldOut(any());
+    }
+
+    @Test
+    @DisplayName("reset 발행을 받으면 latch 를 풀고 다음 조회에서 플래그를 다시 읽는다")
+    void testResetMessage() {
+        // given
+        latch.markSoldOut(EVENT_ID);
+        when(repository.isSoldOut(EVENT_ID)).thenReturn(false);
+
+        // when
+        latch.onMessage(message(SoldOutRedisRepository.RESET_PREFIX + EVENT_ID), null);
+
+        // then
+        assertThat(latch.isSoldOut(EVENT_ID)).isFalse();
+        verify(repository).isSoldOut(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("잘못된 메시지는 무시한다")
+    void testMalformedMessage() {
+        // when
+        latch.onMessage(message("not-a-number"), null);
+        latch.onMessage(message(SoldOutRedisRepository.RESET_PREFIX), null);
+
+        // then
+        assertThat(latch.isSoldOut(EVENT_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 latch 를 걸지 않는다")
+    void testDisabled() {
+        // given
+        enabled.set(false);
+
+        // when
+        latch.markSoldOut(EVENT_ID);
+
+        // then
+        assertThat(latch.isSoldOut(EVENT_ID)).isFalse();
+        verifyNoInteractions(repository);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                SoldOutRedisRepository.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}